@@ -6,15 +6,12 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.stream.annotation.EnableBinding;
-import org.springframework.context.ApplicationContext;
 
 @SpringBootApplication
 @EnableBinding(KafkaProcessor.class)
 @EnableFeignClients
 public class AiSystemManagementApplication {
 
-    public static ApplicationContext applicationContext;
-
     public static void main(String[] args) {
         // Load .env file from parent directory
         try {
@@ -37,7 +34,6 @@ public class AiSystemManagementApplication {
             System.out.println("Could not load .env file: " + e.getMessage());
         }
         
-        applicationContext =
-            SpringApplication.run(AiSystemManagementApplication.class, args);
+        SpringApplication.run(AiSystemManagementApplication.class, args);
     }
 }
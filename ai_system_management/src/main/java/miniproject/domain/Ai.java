@@ -1,5 +1,6 @@
 package miniproject.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
 import java.util.Collections;
@@ -8,10 +9,10 @@ import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.AiSystemManagementApplication;
 import miniproject.domain.AiCoverImageGenerated;
 import miniproject.domain.AiProcessingStarted;
 import miniproject.domain.AiSummaryGenerated;
+import miniproject.domain.service.AiProcessingPipeline;
 
 @Entity
 @Table(name = "Ai_table")
@@ -20,58 +21,114 @@ import miniproject.domain.AiSummaryGenerated;
 public class Ai {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_seq")
+    @SequenceGenerator(name = "ai_seq", sequenceName = "ai_seq", allocationSize = 50)
     private Long processId;
 
-    @PostPersist
-    public void onPostPersist() {
-        AiCoverImageGenerated aiCoverImageGenerated = new AiCoverImageGenerated(
-            this
-        );
-        aiCoverImageGenerated.publishAfterCommit();
+    @Column(unique = true)
+    private Long manuscriptId; // 원고당 한 번만 처리 (idempotency key)
 
-        AiSummaryGenerated aiSummaryGenerated = new AiSummaryGenerated(this);
-        aiSummaryGenerated.publishAfterCommit();
+    private Long publicationRequestId;
 
-        AiProcessingStarted aiProcessingStarted = new AiProcessingStarted(this);
-        aiProcessingStarted.publishAfterCommit();
+    private Long authorId;
+
+    private String title;
+
+    @Lob
+    private String summary;
+
+    @Lob
+    private String coverImageUrl;
+
+    private String status; // PROCESSING, COMPLETED, FAILED
+
+    // OpenAI 표지 생성이 재시도 끝에 실패해 로컬 렌더링 표지로 대신한 경우 true
+    private Boolean coverFallback;
+
+    // 원고 앞부분 (요약에 보내는 만큼). 재기동 뒤 멈춘 PROCESSING 건을 이어서 처리할 때 쓴다
+    @Lob
+    @JsonIgnore
+    private String sourceExcerpt;
+
+    private Date createdAt;
+
+    private Date completedAt;
+
+    @PrePersist
+    public void prePersist() {
+        if (this.createdAt == null) {
+            this.createdAt = new Date();
+        }
+        if (this.status == null) {
+            this.status = "PROCESSING";
+        }
     }
 
-    public static AiRepository repository() {
-        AiRepository aiRepository = AiSystemManagementApplication.applicationContext.getBean(
-            AiRepository.class
-        );
-        return aiRepository;
+    // 요약/표지 결과 반영. 이미 완료된 건이면 false (완료 이벤트 중복 발행 방지)
+    public boolean complete(String summary, String coverImageUrl, boolean coverFallback) {
+        if ("COMPLETED".equals(this.status)) {
+            return false;
+        }
+        this.summary = summary;
+        this.coverImageUrl = coverImageUrl;
+        this.coverFallback = coverFallback;
+        this.status = "COMPLETED";
+        this.completedAt = new Date();
+        return true;
+    }
+
+    public static final int EXCERPT_LENGTH = 6000;
+
+    // FAILED 이거나 처리 도중 멈춘 건을 다시 처리 대상으로 돌린다
+    public void restart() {
+        this.status = "PROCESSING";
+        this.completedAt = null;
+    }
+
+    public void fail() {
+        if (!"COMPLETED".equals(this.status)) {
+            this.status = "FAILED";
+            this.completedAt = new Date();
+        }
     }
 
     //<<< Clean Arch / Port Method
     public static void publicationProcessingPolicy(
-        PublicationRequested publicationRequested
+        PublicationRequested publicationRequested,
+        AiRepository aiRepository,
+        AiProcessingPipeline pipeline
     ) {
-        //implement business logic here:
-
-        /** Example 1:  new item 
-        Ai ai = new Ai();
-        repository().save(ai);
+        Long manuscriptId = publicationRequested.getManuscriptId();
+        if (manuscriptId == null) {
+            return;
+        }
+        Ai ai = aiRepository.findByManuscriptId(manuscriptId).orElse(null);
+        if (ai == null) {
+            ai = new Ai();
+            ai.setManuscriptId(manuscriptId);
+        } else if ("COMPLETED".equals(ai.getStatus()) || pipeline.isRunning(ai.getProcessId())) {
+            // 이미 끝났거나 지금 처리 중인 원고의 중복 PublicationRequested 는 무시한다
+            return;
+        } else {
+            // FAILED 이거나 재기동 등으로 멈춘 PROCESSING 건은 다시 처리한다
+            ai.restart();
+        }
+        String content = publicationRequested.getContent();
+        ai.setPublicationRequestId(publicationRequested.getPublicationRequestId());
+        ai.setAuthorId(publicationRequested.getAuthorId());
+        ai.setTitle(publicationRequested.getTitle());
+        ai.setSourceExcerpt(content == null ? null : content.substring(0, Math.min(content.length(), EXCERPT_LENGTH)));
+        aiRepository.save(ai);
 
         AiProcessingStarted aiProcessingStarted = new AiProcessingStarted(ai);
         aiProcessingStarted.publishAfterCommit();
-        */
-
-        /** Example 2:  finding and process
-        
-
-        repository().findById(publicationRequested.get???()).ifPresent(ai->{
-            
-            ai // do something
-            repository().save(ai);
-
-            AiProcessingStarted aiProcessingStarted = new AiProcessingStarted(ai);
-            aiProcessingStarted.publishAfterCommit();
-
-         });
-        */
 
+        // 요약/표지 생성은 커밋 이후 파이프라인에서 비동기로 진행
+        pipeline.submitAfterCommit(
+            ai.getProcessId(),
+            ai.getTitle(),
+            ai.getSourceExcerpt()
+        );
     }
     //>>> Clean Arch / Port Method
 
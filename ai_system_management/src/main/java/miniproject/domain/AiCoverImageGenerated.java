@@ -12,6 +12,7 @@ import miniproject.infra.AbstractEvent;
 public class AiCoverImageGenerated extends AbstractEvent {
 
     private Long publicationRequestId;
+    private Long manuscriptId;
     private String coverImageUrl;
 
     public AiCoverImageGenerated(Ai aggregate) {
@@ -12,6 +12,7 @@ import miniproject.infra.AbstractEvent;
 public class AiProcessingStarted extends AbstractEvent {
 
     private Long publicationRequestId;
+    private Long manuscriptId;
 
     public AiProcessingStarted(Ai aggregate) {
         super(aggregate);
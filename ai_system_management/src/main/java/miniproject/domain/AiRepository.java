@@ -1,9 +1,18 @@
 package miniproject.domain;
 
+import java.util.List;
+import java.util.Optional;
 import miniproject.domain.*;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
 //<<< PoEAA / Repository
 @RepositoryRestResource(collectionResourceRel = "ais", path = "ais")
-public interface AiRepository extends PagingAndSortingRepository<Ai, Long> {}
+public interface AiRepository extends PagingAndSortingRepository<Ai, Long> {
+    
+    // 원고별 처리 내역 조회 (중복 처리 방지)
+    Optional<Ai> findByManuscriptId(Long manuscriptId);
+
+    // 기동 시 멈춘 PROCESSING 건 재개
+    List<Ai> findByStatus(String status);
+}
@@ -12,6 +12,7 @@ import miniproject.infra.AbstractEvent;
 public class AiSummaryGenerated extends AbstractEvent {
 
     private Long publicationRequestId;
+    private Long manuscriptId;
     private String summary;
 
     public AiSummaryGenerated(Ai aggregate) {
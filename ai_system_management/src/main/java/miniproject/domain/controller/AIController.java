@@ -1,6 +1,8 @@
 package miniproject.domain.controller;
 
 import miniproject.domain.dto.*;
+import miniproject.domain.service.AiCapacityExceededException;
+import miniproject.domain.service.AiUpstreamException;
 import miniproject.domain.service.OpenAIService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,10 @@ public class AIController {
             
             String polishedContent = openAIService.polishText(request.getContent(), request.getStyle());
             return ResponseEntity.ok(AIResponse.success(polishedContent));
+        } catch (AiCapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(AIResponse.error(e.getMessage()));
+        } catch (AiUpstreamException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(AIResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(AIResponse.error("Error polishing text: " + e.getMessage()));
         }
@@ -38,6 +44,10 @@ public class AIController {
             
             String coverUrl = openAIService.generateCoverImage(request.getTitle(), request.getGenre(), request.getDescription());
             return ResponseEntity.ok(AIResponse.success(coverUrl));
+        } catch (AiCapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(AIResponse.error(e.getMessage()));
+        } catch (AiUpstreamException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(AIResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(AIResponse.error("Error generating cover: " + e.getMessage()));
         }
@@ -52,6 +62,10 @@ public class AIController {
             
             String plotSuggestion = openAIService.suggestPlot(genre, keywords);
             return ResponseEntity.ok(AIResponse.success(plotSuggestion));
+        } catch (AiCapacityExceededException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(AIResponse.error(e.getMessage()));
+        } catch (AiUpstreamException e) {
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(AIResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(AIResponse.error("Error suggesting plot: " + e.getMessage()));
         }
@@ -0,0 +1,59 @@
+package miniproject.domain.controller;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.service.CoverImageStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+@RestController
+@RequestMapping("/ai/covers")
+@CrossOrigin(origins = "*")
+public class CoverImageController {
+
+    @Autowired
+    private CoverImageStore coverImageStore;
+
+    // 내용 해시가 곧 주소이므로 한 번 받은 이미지는 바뀌지 않는다 -> 1년 캐시
+    @GetMapping("/{hash}")
+    public ResponseEntity<Resource> getCover(
+        @PathVariable String hash,
+        @RequestParam(name = "w", required = false) Integer width,
+        WebRequest request
+    ) {
+        if (!CoverImageStore.isValidHash(hash)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 없는 해시에 If-None-Match 가 붙어 와도 304 가 아니라 404 를 돌려준다
+        if (!coverImageStore.original(hash).isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        int snapped = width == null ? 0 : coverImageStore.snapWidth(width);
+        String etag = "\"" + hash + (snapped > 0 ? "-" + snapped : "") + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        Optional<Path> image = snapped > 0
+            ? coverImageStore.thumbnail(hash, snapped)
+            : coverImageStore.original(hash);
+        if (!image.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.IMAGE_PNG)
+            .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+            .eTag(etag)
+            .body(new FileSystemResource(image.get()));
+    }
+}
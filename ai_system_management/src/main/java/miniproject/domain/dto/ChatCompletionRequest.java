@@ -0,0 +1,33 @@
+package miniproject.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+
+/**
+ * chat/completions 요청 본문. 모델/토큰 수는 작업별 템플릿으로 고정해 두고 프롬프트만 바꿔 쓴다.
+ */
+@Getter
+public class ChatCompletionRequest {
+    private final String model;
+    
+    @JsonProperty("max_tokens")
+    private final int maxTokens;
+    
+    private final List<ChatMessage> messages;
+    
+    private ChatCompletionRequest(String model, int maxTokens, List<ChatMessage> messages) {
+        this.model = model;
+        this.maxTokens = maxTokens;
+        this.messages = messages;
+    }
+    
+    public static ChatCompletionRequest template(String model, int maxTokens) {
+        return new ChatCompletionRequest(model, maxTokens, Collections.emptyList());
+    }
+    
+    public ChatCompletionRequest withPrompt(String prompt) {
+        return new ChatCompletionRequest(model, maxTokens, Collections.singletonList(ChatMessage.user(prompt)));
+    }
+}
@@ -0,0 +1,18 @@
+package miniproject.domain.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ChatMessage {
+    private final String role;
+    private final String content;
+    
+    public ChatMessage(String role, String content) {
+        this.role = role;
+        this.content = content;
+    }
+    
+    public static ChatMessage user(String content) {
+        return new ChatMessage("user", content);
+    }
+}
@@ -0,0 +1,27 @@
+package miniproject.domain.dto;
+
+import lombok.Getter;
+
+/**
+ * images/generations 요청 본문.
+ */
+@Getter
+public class ImageGenerationRequest {
+    private final String prompt;
+    private final int n;
+    private final String size;
+    
+    private ImageGenerationRequest(String prompt, int n, String size) {
+        this.prompt = prompt;
+        this.n = n;
+        this.size = size;
+    }
+    
+    public static ImageGenerationRequest template(int n, String size) {
+        return new ImageGenerationRequest(null, n, size);
+    }
+    
+    public ImageGenerationRequest withPrompt(String prompt) {
+        return new ImageGenerationRequest(prompt, n, size);
+    }
+}
@@ -0,0 +1,161 @@
+package miniproject.domain.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * AI 작업 하나에 대한 bulkhead.
+ * 동시 실행 수는 AIMD 방식으로 조정된다: upstream 응답이 목표 지연시간 안에 오면 한도를 조금씩 늘리고,
+ * 느리거나 실패하면 한도를 비율로 줄인다. 한도를 넘는 요청은 제한된 대기열에서 잠시 기다리고,
+ * 대기열도 가득 차면 곧바로 {@link AiCapacityExceededException} 으로 실패한다.
+ */
+public class AdaptiveBulkhead {
+
+    private final String operation;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitMillis;
+    private final long targetLatencyMillis;
+    private final double backoffRatio;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+    private long rejected;
+
+    public AdaptiveBulkhead(
+        String operation,
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        int maxQueue,
+        long maxWaitMillis,
+        long targetLatencyMillis,
+        double backoffRatio
+    ) {
+        this.operation = operation;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitMillis = maxWaitMillis;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = call.get();
+            failed = false;
+            return result;
+        } finally {
+            release(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed);
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            if (inFlight < (int) limit) {
+                inFlight++;
+                return;
+            }
+            if (waiting >= maxQueue) {
+                rejected++;
+                throw new AiCapacityExceededException(
+                    operation,
+                    operation + " 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."
+                );
+            }
+
+            waiting++;
+            try {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+                while (inFlight >= (int) limit) {
+                    if (remaining <= 0L) {
+                        rejected++;
+                        throw new AiCapacityExceededException(
+                            operation,
+                            operation + " 처리 대기 시간이 초과되었습니다."
+                        );
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AiCapacityExceededException(operation, operation + " 요청이 중단되었습니다.");
+            } finally {
+                waiting--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long latencyMillis, boolean failed) {
+        lock.lock();
+        try {
+            inFlight--;
+            if (failed || latencyMillis > targetLatencyMillis) {
+                // multiplicative decrease
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (inFlight + 1 >= (int) limit) {
+                // 한도까지 사용 중일 때만 additive increase (약 한 번의 왕복마다 +1)
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            permitReleased.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package miniproject.domain.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업(polish, cover, plot)별 bulkhead 를 보관한다.
+ * 설정은 ai.bulkhead.&lt;operation&gt;.* 로 작업마다 따로 줄 수 있다.
+ */
+@Component
+public class AiBulkheads {
+
+    private final ConcurrentHashMap<String, AdaptiveBulkhead> bulkheads = new ConcurrentHashMap<>();
+    private final Environment env;
+    private final MeterRegistry meterRegistry;
+
+    public AiBulkheads(Environment env, MeterRegistry meterRegistry) {
+        this.env = env;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public AdaptiveBulkhead forOperation(String operation) {
+        return bulkheads.computeIfAbsent(operation, this::create);
+    }
+
+    private AdaptiveBulkhead create(String operation) {
+        String prefix = "ai.bulkhead." + operation + ".";
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead(
+            operation,
+            env.getProperty(prefix + "initial-limit", Integer.class, 4),
+            env.getProperty(prefix + "min-limit", Integer.class, 1),
+            env.getProperty(prefix + "max-limit", Integer.class, 20),
+            env.getProperty(prefix + "max-queue", Integer.class, 10),
+            env.getProperty(prefix + "max-wait-ms", Long.class, 2000L),
+            env.getProperty(prefix + "target-latency-ms", Long.class, 10000L),
+            env.getProperty(prefix + "backoff-ratio", Double.class, 0.9)
+        );
+
+        Gauge.builder("ai.bulkhead.limit", bulkhead, AdaptiveBulkhead::getLimit)
+            .tag("operation", operation)
+            .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.inflight", bulkhead, AdaptiveBulkhead::getInFlight)
+            .tag("operation", operation)
+            .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.waiting", bulkhead, AdaptiveBulkhead::getWaiting)
+            .tag("operation", operation)
+            .register(meterRegistry);
+        FunctionCounter.builder("ai.bulkhead.rejected", bulkhead, AdaptiveBulkhead::getRejected)
+            .tag("operation", operation)
+            .register(meterRegistry);
+        return bulkhead;
+    }
+}
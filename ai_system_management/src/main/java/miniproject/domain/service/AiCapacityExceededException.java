@@ -0,0 +1,18 @@
+package miniproject.domain.service;
+
+/**
+ * AI 작업별 bulkhead 의 허용량과 대기열이 모두 찬 경우 즉시 실패시키기 위한 예외.
+ */
+public class AiCapacityExceededException extends RuntimeException {
+
+    private final String operation;
+
+    public AiCapacityExceededException(String operation, String message) {
+        super(message);
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
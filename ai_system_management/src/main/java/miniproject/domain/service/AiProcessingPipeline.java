@@ -0,0 +1,284 @@
+package miniproject.domain.service;
+
+import brave.Tracing;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import javax.annotation.PreDestroy;
+import miniproject.domain.Ai;
+import miniproject.domain.AiCoverImageGenerated;
+import miniproject.domain.AiRepository;
+import miniproject.domain.AiSummaryGenerated;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * PublicationRequested 이후의 AI 처리 파이프라인.
+ * 요약 생성과 표지 생성을 동시에 수행하고, 둘 다 끝나면 결과를 Ai 에 저장한 뒤 완료 이벤트를 한 번만 발행한다.
+ *
+ * 동시에 처리 중인 원고 수는 ai.pipeline.max-in-flight 로 제한되며, 가득 차면 submit 이 admit-timeout-ms 까지
+ * 기다려 Kafka 소비 속도를 늦추고(backpressure), 그래도 자리가 없으면 예외로 메시지를 재전달시킨다.
+ * 각 단계는 독립적으로 재시도된다. 기동 때는 이전 프로세스에서 멈춘 PROCESSING 건을 다시 넣는다.
+ * 재시도를 다 써도 요약이 안 되면 FAILED 로 남기고, 표지만 안 되면 로컬 렌더링 표지로 대신한 뒤
+ * Ai.coverFallback 과 ai.pipeline.fallbacks 메트릭에 남긴다.
+ */
+@Service
+public class AiProcessingPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiProcessingPipeline.class);
+
+    @Autowired
+    private OpenAIService openAIService;
+
+    @Autowired
+    private AiRepository aiRepository;
+
+    private final Semaphore capacity;
+    // 이 인스턴스에서 처리 중인 processId (중복 PublicationRequested 판별용)
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService stageExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long retryBackoffMs;
+    private final long admitTimeoutMs;
+    private volatile boolean stopping;
+
+    public AiProcessingPipeline(
+        PlatformTransactionManager transactionManager,
+        Tracing tracing,
+        MeterRegistry meterRegistry,
+        @Value("${ai.pipeline.max-in-flight:16}") int maxInFlight,
+        @Value("${ai.pipeline.workers:8}") int workers,
+        @Value("${ai.pipeline.max-attempts:3}") int maxAttempts,
+        @Value("${ai.pipeline.retry-backoff-ms:500}") long retryBackoffMs,
+        @Value("${ai.pipeline.admit-timeout-ms:5000}") long admitTimeoutMs
+    ) {
+        this.capacity = new Semaphore(maxInFlight);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMs = retryBackoffMs;
+        this.admitTimeoutMs = admitTimeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // 단계 작업에 제출 시점의 trace 를 넘겨 PublicationRequested 소비부터 완료 이벤트 발행까지 한 trace 로 잇는다
+        this.stageExecutor = tracing.currentTraceContext().executorService(new ThreadPoolExecutor(
+            workers,
+            workers,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+                Thread t = new Thread(r, "ai-pipeline-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        ));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 처리를 시작한다 (Ai 행이 보이는 시점 보장).
+     */
+    public void submitAfterCommit(Long processId, String title, String content) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(processId, title, content);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    submit(processId, title, content);
+                }
+            }
+        );
+    }
+
+    public boolean isRunning(Long processId) {
+        return running.contains(processId);
+    }
+
+    /**
+     * 처리를 시작한다. 자리가 admit-timeout-ms 안에 나지 않으면 {@link AiCapacityExceededException}.
+     * 이때 Ai 는 PROCESSING 으로 남으므로 재전달된 PublicationRequested 나 다음 기동 때 다시 처리된다.
+     */
+    public void submit(Long processId, String title, String content) {
+        if (!running.add(processId)) {
+            return;
+        }
+        boolean admitted = false;
+        try {
+            admitted = capacity.tryAcquire(admitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!admitted) {
+            running.remove(processId);
+            throw new AiCapacityExceededException(
+                "pipeline",
+                "AI 처리 대기 시간이 초과되었습니다 (processId=" + processId + ")"
+            );
+        }
+
+        String description = content == null
+            ? ""
+            : content.substring(0, Math.min(content.length(), 200));
+
+        CompletableFuture<String> summary = CompletableFuture.supplyAsync(
+            () -> withRetry("summary", processId, () -> openAIService.summarize(title, content)),
+            stageExecutor
+        );
+        CompletableFuture<Cover> cover = CompletableFuture.supplyAsync(
+            () -> generateCover(processId, title, description),
+            stageExecutor
+        );
+
+        summary
+            .thenCombine(cover, (summaryText, coverResult) -> {
+                withRetry("persist", processId, () -> persist(processId, summaryText, coverResult));
+                return null;
+            })
+            .whenComplete((ignored, error) -> {
+                try {
+                    if (error != null) {
+                        logger.error("AI 처리 실패 (processId={})", processId, error);
+                        markFailed(processId);
+                    }
+                } finally {
+                    running.remove(processId);
+                    capacity.release();
+                }
+            });
+    }
+
+    // 재시도를 다 써도 OpenAI 가 실패하면 로컬 표지로 대신하고 대체했다고 기록한다
+    private Cover generateCover(Long processId, String title, String description) {
+        try {
+            return new Cover(withRetry("cover", processId, () -> openAIService.generateCoverImage(title, "", description)), false);
+        } catch (AiUpstreamException e) {
+            logger.warn("표지 생성 재시도 소진, 로컬 표지로 대신합니다 (processId={}): {}", processId, e.getMessage());
+            meterRegistry.counter("ai.pipeline.fallbacks", "stage", "cover").increment();
+            return new Cover(openAIService.renderFallbackCover(title, ""), true);
+        }
+    }
+
+    private Boolean persist(Long processId, String summaryText, Cover cover) {
+        return transactionTemplate.execute(status -> {
+            Ai ai = aiRepository.findById(processId).orElse(null);
+            if (ai == null || !ai.complete(summaryText, cover.url, cover.fallback)) {
+                return false;
+            }
+            aiRepository.save(ai);
+
+            AiSummaryGenerated aiSummaryGenerated = new AiSummaryGenerated(ai);
+            aiSummaryGenerated.publishAfterCommit();
+
+            AiCoverImageGenerated aiCoverImageGenerated = new AiCoverImageGenerated(ai);
+            aiCoverImageGenerated.publishAfterCommit();
+            return true;
+        });
+    }
+
+    private void markFailed(Long processId) {
+        try {
+            transactionTemplate.execute(status -> {
+                aiRepository.findById(processId).ifPresent(ai -> {
+                    ai.fail();
+                    aiRepository.save(ai);
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            logger.error("AI 처리 상태 저장 실패 (processId={})", processId, e);
+        }
+    }
+
+    private <T> T withRetry(String stage, Long processId, Supplier<T> step) {
+        RuntimeException last = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return step.get();
+            } catch (RuntimeException e) {
+                last = e;
+                logger.warn("AI {} 단계 실패 (processId={}, attempt={}/{}): {}", stage, processId, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts) {
+                    sleep(retryBackoffMs * attempt);
+                }
+            }
+        }
+        throw last;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Cover {
+
+        final String url;
+        final boolean fallback;
+
+        Cover(String url, boolean fallback) {
+            this.url = url;
+            this.fallback = fallback;
+        }
+    }
+
+    /**
+     * 이전 프로세스가 처리하다 멈춘 PROCESSING 건을 다시 넣는다. 자리가 날 때까지 기다려야 하므로
+     * 기동 스레드가 아닌 별도 스레드에서 돈다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeStale() {
+        Thread recovery = new Thread(this::resumeStaleRows, "ai-pipeline-recovery");
+        recovery.setDaemon(true);
+        recovery.start();
+    }
+
+    private void resumeStaleRows() {
+        List<Ai> stale = transactionTemplate.execute(status -> aiRepository.findByStatus("PROCESSING"));
+        if (stale == null || stale.isEmpty()) {
+            return;
+        }
+        logger.info("멈춘 AI 처리 {}건을 다시 시작합니다", stale.size());
+        for (Ai ai : stale) {
+            while (!stopping) {
+                try {
+                    submit(ai.getProcessId(), ai.getTitle(), ai.getSourceExcerpt());
+                    break;
+                } catch (AiCapacityExceededException e) {
+                    sleep(retryBackoffMs);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        stageExecutor.shutdown();
+    }
+}
@@ -0,0 +1,19 @@
+package miniproject.domain.service;
+
+/**
+ * OpenAI 호출 자체가 실패한 경우 (연결/타임아웃/HTTP 오류/빈 응답).
+ * 파이프라인은 단계별로 재시도하고, 대화형 API 는 502 로 돌려준다.
+ */
+public class AiUpstreamException extends RuntimeException {
+
+    private final String operation;
+
+    public AiUpstreamException(String operation, String message, Throwable cause) {
+        super(message, cause);
+        this.operation = operation;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+}
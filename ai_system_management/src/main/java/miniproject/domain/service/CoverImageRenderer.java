@@ -0,0 +1,160 @@
+package miniproject.domain.service;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import javax.imageio.ImageIO;
+import org.springframework.stereotype.Component;
+
+/**
+ * 제목/장르로 표지 이미지를 직접 그린다 (Java2D).
+ * 같은 제목과 장르는 항상 같은 이미지가 나오므로 API 키가 없거나 DALL-E 호출이 실패해도 표지를 만들 수 있다.
+ */
+@Component
+public class CoverImageRenderer {
+
+    public static final int WIDTH = 512;
+    public static final int HEIGHT = 768;
+
+    private static final String[] FONT_FAMILIES = {
+        "NanumGothic",
+        "Noto Sans CJK KR",
+        "Malgun Gothic",
+        "AppleGothic",
+    };
+
+    public byte[] render(String title, String genre) {
+        String safeTitle = title == null ? "" : title.trim();
+        String safeGenre = genre == null ? "" : genre.trim().toLowerCase(Locale.ROOT);
+        Random random = new Random(seed(safeTitle + "|" + safeGenre));
+        float hue = baseHue(safeGenre, random);
+
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            // 배경 그라데이션
+            Color top = Color.getHSBColor(hue, 0.55f, 0.85f);
+            Color bottom = Color.getHSBColor((hue + 0.08f) % 1f, 0.75f, 0.35f);
+            g.setPaint(new GradientPaint(0, 0, top, 0, HEIGHT, bottom));
+            g.fillRect(0, 0, WIDTH, HEIGHT);
+
+            // 장식용 원
+            for (int i = 0; i < 6; i++) {
+                int size = 80 + random.nextInt(260);
+                int x = random.nextInt(WIDTH) - size / 2;
+                int y = random.nextInt(HEIGHT) - size / 2;
+                g.setColor(new Color(255, 255, 255, 20 + random.nextInt(40)));
+                g.fillOval(x, y, size, size);
+            }
+
+            // 테두리
+            g.setColor(new Color(255, 255, 255, 160));
+            g.setStroke(new BasicStroke(4f));
+            g.drawRect(24, 24, WIDTH - 48, HEIGHT - 48);
+
+            // 제목
+            g.setColor(Color.WHITE);
+            g.setFont(font(safeTitle, Font.BOLD, 44));
+            List<String> lines = wrap(safeTitle, g.getFontMetrics(), WIDTH - 96);
+            FontMetrics titleMetrics = g.getFontMetrics();
+            int lineHeight = titleMetrics.getHeight();
+            int y = HEIGHT / 3 - (lines.size() * lineHeight) / 2 + titleMetrics.getAscent();
+            for (String line : lines) {
+                int x = (WIDTH - titleMetrics.stringWidth(line)) / 2;
+                g.drawString(line, x, y);
+                y += lineHeight;
+            }
+
+            // 장르
+            if (!safeGenre.isEmpty()) {
+                g.setFont(new Font(Font.SANS_SERIF, Font.PLAIN, 24));
+                FontMetrics genreMetrics = g.getFontMetrics();
+                String label = safeGenre.toUpperCase(Locale.ROOT);
+                g.drawString(label, (WIDTH - genreMetrics.stringWidth(label)) / 2, HEIGHT - 72);
+            }
+        } finally {
+            g.dispose();
+        }
+
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 한글 제목을 그릴 수 있는 폰트를 우선 사용하고, 없으면 기본 sans-serif 로 그린다
+    private Font font(String text, int style, int size) {
+        for (String family : FONT_FAMILIES) {
+            Font font = new Font(family, style, size);
+            if (font.getFamily().equals(family) && font.canDisplayUpTo(text) == -1) {
+                return font;
+            }
+        }
+        return new Font(Font.SANS_SERIF, style, size);
+    }
+
+    private float baseHue(String genre, Random random) {
+        switch (genre) {
+            case "fantasy":
+                return 0.75f;
+            case "romance":
+                return 0.95f;
+            case "mystery":
+                return 0.62f;
+            case "scifi":
+                return 0.52f;
+            case "horror":
+                return 0.0f;
+            case "drama":
+                return 0.08f;
+            default:
+                return random.nextFloat();
+        }
+    }
+
+    private List<String> wrap(String text, FontMetrics metrics, int maxWidth) {
+        List<String> lines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        for (String word : text.split("\\s+")) {
+            String candidate = line.length() == 0 ? word : line + " " + word;
+            if (metrics.stringWidth(candidate) <= maxWidth || line.length() == 0) {
+                line.setLength(0);
+                line.append(candidate);
+            } else {
+                lines.add(line.toString());
+                line.setLength(0);
+                line.append(word);
+            }
+            if (lines.size() == 4) {
+                break;
+            }
+        }
+        if (line.length() > 0 && lines.size() < 4) {
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    private long seed(String value) {
+        String hash = SingleFlight.hash(value);
+        return Long.parseUnsignedLong(hash.substring(0, 16), 16);
+    }
+}
@@ -0,0 +1,145 @@
+package miniproject.domain.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.imageio.ImageIO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 표지 이미지를 내용 해시(SHA-256)로 저장하는 로컬 저장소.
+ * 같은 이미지는 한 번만 저장되고, 썸네일은 처음 요청될 때 만들어 디스크에 캐시한다.
+ */
+@Component
+public class CoverImageStore {
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final int[] thumbnailWidths;
+
+    public CoverImageStore(
+        @Value("${ai.cover.store-dir:./data/covers}") String storeDir,
+        @Value("${ai.cover.thumbnail-widths:96,192,384}") int[] thumbnailWidths
+    ) {
+        this.root = Paths.get(storeDir);
+        this.thumbnailWidths = thumbnailWidths.clone();
+        Arrays.sort(this.thumbnailWidths);
+    }
+
+    public String put(byte[] image) {
+        String hash = sha256(image);
+        Path target = originalPath(hash);
+        if (!Files.exists(target)) {
+            write(target, image);
+        }
+        return hash;
+    }
+
+    public Optional<Path> original(String hash) {
+        if (!isValidHash(hash)) {
+            return Optional.empty();
+        }
+        Path path = originalPath(hash);
+        return Files.exists(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    public Optional<Path> thumbnail(String hash, int requestedWidth) {
+        Optional<Path> original = original(hash);
+        if (!original.isPresent()) {
+            return Optional.empty();
+        }
+        int width = snapWidth(requestedWidth);
+        if (width <= 0) {
+            return original;
+        }
+
+        Path path = root.resolve(hash.substring(0, 2)).resolve(hash + "_" + width + ".png");
+        if (!Files.exists(path)) {
+            write(path, resize(original.get(), width));
+        }
+        return Optional.of(path);
+    }
+
+    /**
+     * 허용된 썸네일 폭 중 요청 폭 이상인 가장 작은 값. 가장 큰 썸네일보다 크면 원본(0)을 쓴다.
+     */
+    public int snapWidth(int requestedWidth) {
+        for (int width : thumbnailWidths) {
+            if (width >= requestedWidth) {
+                return width;
+            }
+        }
+        return 0;
+    }
+
+    public static boolean isValidHash(String hash) {
+        return hash != null && HASH.matcher(hash).matches();
+    }
+
+    private Path originalPath(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash + ".png");
+    }
+
+    private byte[] resize(Path source, int width) {
+        try {
+            BufferedImage original = ImageIO.read(source.toFile());
+            if (original == null || original.getWidth() <= width) {
+                return Files.readAllBytes(source);
+            }
+            int height = (int) Math.round((double) original.getHeight() * width / original.getWidth());
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(original, 0, 0, width, height, null);
+            } finally {
+                g.dispose();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(scaled, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 임시 파일에 쓴 뒤 옮겨서 동시에 읽는 쪽이 반쯤 쓰인 파일을 보지 않게 한다
+    private void write(Path target, byte[] bytes) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), "cover", ".tmp");
+            Files.write(tmp, bytes);
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package miniproject.domain.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import miniproject.domain.dto.ChatCompletionRequest;
+import miniproject.domain.dto.ImageGenerationRequest;
+
+/**
+ * OpenAI 요청 직렬화와 응답 파싱.
+ * 요청은 미리 만들어 둔 ObjectWriter 로 바로 byte[] 로 쓰고, 응답은 Map 으로 읽지 않고
+ * 스트리밍 파서로 필요한 값(choices[0].message.content, usage, data[0].url)만 꺼낸다.
+ */
+public final class OpenAIJson {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final ObjectWriter CHAT_WRITER = MAPPER.writerFor(ChatCompletionRequest.class);
+    private static final ObjectWriter IMAGE_WRITER = MAPPER.writerFor(ImageGenerationRequest.class);
+
+    private OpenAIJson() {}
+
+    public static byte[] write(ChatCompletionRequest request) {
+        try {
+            return CHAT_WRITER.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON format exception", e);
+        }
+    }
+
+    public static byte[] write(ImageGenerationRequest request) {
+        try {
+            return IMAGE_WRITER.writeValueAsBytes(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("JSON format exception", e);
+        }
+    }
+
+    /**
+     * chat/completions 응답에서 choices[0].message.content 와 usage 의 토큰 수를 읽는다.
+     * usage 는 choices 뒤에 오므로 응답 끝까지 훑는다. 없는 값은 null / 0.
+     */
+    public static ChatCompletion readChatCompletion(InputStream body) throws IOException {
+        ChatCompletion completion = new ChatCompletion();
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return completion;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("choices".equals(field) && value == JsonToken.START_ARRAY) {
+                    if (parser.nextToken() == JsonToken.START_OBJECT) {
+                        completion.content = readChoiceContent(parser);
+                        // 나머지 choice 는 건너뛴다
+                        while (parser.nextToken() != JsonToken.END_ARRAY) {
+                            parser.skipChildren();
+                        }
+                    }
+                } else if ("usage".equals(field) && value == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String name = parser.getCurrentName();
+                        JsonToken count = parser.nextToken();
+                        if (count == JsonToken.VALUE_NUMBER_INT && "prompt_tokens".equals(name)) {
+                            completion.promptTokens = parser.getLongValue();
+                        } else if (count == JsonToken.VALUE_NUMBER_INT && "completion_tokens".equals(name)) {
+                            completion.completionTokens = parser.getLongValue();
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return completion;
+    }
+
+    /**
+     * images/generations 응답에서 data[0].url 만 읽는다. 없으면 null.
+     */
+    public static String readFirstImageUrl(InputStream body) throws IOException {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            if (!enterField(parser, "data", JsonToken.START_ARRAY)) {
+                return null;
+            }
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            return readTextField(parser, "url");
+        }
+    }
+
+    // 현재 객체 안에서 name 필드를 찾아 그 값(expected 토큰)으로 들어간다. 다른 필드 값은 통째로 건너뛴다
+    private static boolean enterField(JsonParser parser, String name, JsonToken expected) throws IOException {
+        if (parser.currentToken() == null && parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value == expected;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    // choice 객체 하나를 끝(END_OBJECT)까지 읽으며 message.content 를 꺼낸다
+    private static String readChoiceContent(JsonParser parser) throws IOException {
+        String content = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("message".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    JsonToken text = parser.nextToken();
+                    if ("content".equals(name) && text == JsonToken.VALUE_STRING) {
+                        content = parser.getText();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return content;
+    }
+
+    private static String readTextField(JsonParser parser, String name) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (name.equals(field)) {
+                return value == JsonToken.VALUE_STRING ? parser.getText() : null;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
+    public static final class ChatCompletion {
+        private String content;
+        private long promptTokens;
+        private long completionTokens;
+
+        public String getContent() { return content; }
+        public long getPromptTokens() { return promptTokens; }
+        public long getCompletionTokens() { return completionTokens; }
+    }
+}
@@ -1,199 +1,239 @@
 package miniproject.domain.service;
 
+import brave.Span;
+import brave.Tracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import miniproject.domain.dto.ChatCompletionRequest;
+import miniproject.domain.dto.ImageGenerationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.*;
-import java.util.Map;
-import java.util.HashMap;
-import java.util.List;
-import java.util.ArrayList;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import javax.annotation.PostConstruct;
 
 @Service
 public class OpenAIService {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenAIService.class);
+
+    // 작업별 요청 템플릿 (프롬프트만 바꿔서 재사용)
+    private static final ChatCompletionRequest POLISH_TEMPLATE = ChatCompletionRequest.template("gpt-3.5-turbo", 1000);
+    private static final ChatCompletionRequest PLOT_TEMPLATE = ChatCompletionRequest.template("gpt-3.5-turbo", 500);
+    private static final ChatCompletionRequest SUMMARY_TEMPLATE = ChatCompletionRequest.template("gpt-3.5-turbo", 300);
+    private static final ImageGenerationRequest COVER_TEMPLATE = ImageGenerationRequest.template(1, "256x256");  // 작은 크기로 비용 절약
+
+    private static final ResponseExtractor<OpenAIJson.ChatCompletion> CHAT_COMPLETION_EXTRACTOR =
+        response -> OpenAIJson.readChatCompletion(response.getBody());
+    private static final ResponseExtractor<String> IMAGE_URL_EXTRACTOR =
+        response -> OpenAIJson.readFirstImageUrl(response.getBody());
+
     @Value("${openai.api.key:}")
     private String apiKey;
-    
-    private final RestTemplate restTemplate;
-    private final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
-    
-    public OpenAIService() {
-        this.restTemplate = new RestTemplate();
+
+    @Value("${openai.api.base-url:https://api.openai.com/v1}")
+    private String baseUrl;
+
+    @Value("${openai.api.connect-timeout-ms:2000}")
+    private int connectTimeoutMs;
+
+    @Value("${openai.api.chat-read-timeout-ms:30000}")
+    private int chatReadTimeoutMs;
+
+    @Value("${openai.api.image-read-timeout-ms:60000}")
+    private int imageReadTimeoutMs;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private AiBulkheads bulkheads;
+
+    @Autowired
+    private CoverImageRenderer coverImageRenderer;
+
+    @Autowired
+    private CoverImageStore coverImageStore;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Tracer tracer;
+
+    // 느린 DALL-E 응답이 텍스트 작업의 연결까지 붙잡지 않도록 RestTemplate 을 분리한다
+    private RestTemplate chatRestTemplate;
+    private RestTemplate imageRestTemplate;
+
+    @PostConstruct
+    public void init() {
+        this.chatRestTemplate = createRestTemplate(chatReadTimeoutMs);
+        this.imageRestTemplate = createRestTemplate(imageReadTimeoutMs);
     }
-    
+
+    private RestTemplate createRestTemplate(int readTimeoutMs) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(connectTimeoutMs);
+        factory.setReadTimeout(readTimeoutMs);
+        return new RestTemplate(factory);
+    }
+
     public String polishText(String content, String style) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
             return "AI 기능을 사용하려면 OpenAI API 키가 필요합니다. [Mock] 다듬어진 내용: " + content;
         }
-        
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
-            requestBody.put("max_tokens", 1000);
-            
-            List<Map<String, String>> messages = new ArrayList<>();
-            Map<String, String> message = new HashMap<>();
-            message.put("role", "user");
-            
-            String prompt = "다음 웹소설 내용을 더 매력적이고 읽기 쉽게 다듬어주세요.";
-            if (style != null && !style.trim().isEmpty()) {
-                prompt += " 스타일: " + style + ".";
-            }
-            prompt += " 내용: " + content;
-            
-            message.put("content", prompt);
-            messages.add(message);
-            requestBody.put("messages", messages);
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<Map> response = restTemplate.postForEntity(OPENAI_API_URL, request, Map.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                if (!choices.isEmpty()) {
-                    Map<String, Object> choice = choices.get(0);
-                    Map<String, String> messageContent = (Map<String, String>) choice.get("message");
-                    return messageContent.get("content");
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("OpenAI API 호출 실패: " + e.getMessage());
+
+        String prompt = "다음 웹소설 내용을 더 매력적이고 읽기 쉽게 다듬어주세요.";
+        if (style != null && !style.trim().isEmpty()) {
+            prompt += " 스타일: " + style + ".";
+        }
+        prompt += " 내용: " + content;
+
+        String finalPrompt = prompt;
+        return singleFlight.execute("polish", prompt, () -> chat("polish", POLISH_TEMPLATE.withPrompt(finalPrompt)));
+    }
+
+    public String summarize(String title, String content) {
+        String body = content == null ? "" : content;
+        if (apiKey == null || apiKey.trim().isEmpty()) {
+            return "[Mock] " + title + " 요약: " + body.substring(0, Math.min(body.length(), 200));
         }
-        
-        return "[Mock] 다듬어진 내용: " + content;
+
+        // 긴 원고는 앞부분만 보내 토큰 비용을 제한한다
+        String excerpt = body.substring(0, Math.min(body.length(), 6000));
+        String prompt = "다음 웹소설의 줄거리를 3문장 이내로 요약해주세요. 제목: " + title + " 내용: " + excerpt;
+        return singleFlight.execute("summary", prompt, () -> chat("summary", SUMMARY_TEMPLATE.withPrompt(prompt)));
     }
-    
+
     public String generateCoverImage(String title, String genre, String description) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
-            return "📚 " + title + " (" + genre + ")";
+            return renderLocalCover(title, genre);
         }
-        
+
+        String prompt = "Create a book cover for '" + title + "' in " + genre + " genre. " + description;
+        return singleFlight.execute("cover", prompt, () -> requestCoverImage(prompt, title, genre));
+    }
+
+    // 실패는 AiUpstreamException 으로 올린다. 로컬 표지로 대신할지는 호출한 쪽(파이프라인)이 재시도 뒤에 정한다
+    private String requestCoverImage(String prompt, String title, String genre) {
+        String imageUrl;
         try {
             // DALL-E API를 위한 별도 URL
-            String dalleUrl = "https://api.openai.com/v1/images/generations";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            String prompt = "Create a book cover for '" + title + "' in " + genre + " genre. " + description;
-            requestBody.put("prompt", prompt);
-            requestBody.put("n", 1);
-            requestBody.put("size", "256x256");  // 작은 크기로 비용 절약
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            
-            try {
-                @SuppressWarnings("rawtypes")
-                ResponseEntity<Map> response = restTemplate.postForEntity(dalleUrl, request, Map.class);
-                
-                if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-                    if (responseBody != null && responseBody.containsKey("data")) {
-                        @SuppressWarnings("unchecked")
-                        List<Map<String, Object>> data = (List<Map<String, Object>>) responseBody.get("data");
-                        if (data != null && !data.isEmpty()) {
-                            Map<String, Object> imageData = data.get(0);
-                            String imageUrl = (String) imageData.get("url");
-                            if (imageUrl != null && !imageUrl.isEmpty()) {
-                                return imageUrl;
-                            }
-                        }
-                    }
-                }
-            } catch (Exception apiException) {
-                System.err.println("DALL-E API 세부 오류: " + apiException.getMessage());
-            }
+            String dalleUrl = baseUrl + "/images/generations";
+            byte[] body = OpenAIJson.write(COVER_TEMPLATE.withPrompt(prompt));
+
+            imageUrl = bulkheads.forOperation("cover").execute(
+                () -> upstream("cover", () -> imageRestTemplate.execute(dalleUrl, HttpMethod.POST, jsonBody(body), IMAGE_URL_EXTRACTOR)));
+        } catch (AiCapacityExceededException e) {
+            throw e;
         } catch (Exception e) {
-            System.err.println("DALL-E API 호출 실패: " + e.getMessage());
+            logger.warn("DALL-E API 호출 실패: {}", e.getMessage());
+            throw new AiUpstreamException("cover", "DALL-E API 호출 실패: " + e.getMessage(), e);
         }
-        
-        // API 호출 실패 시 이모지 기반 표지 생성
-        String[] fantasyEmojis = {"🏰", "⚔️", "🧙‍♂️", "🐉", "🗡️", "🛡️", "🔮"};
-        String[] romanceEmojis = {"💕", "🌹", "💖", "🌸", "💐", "🦋", "💫"};
-        String[] mysteryEmojis = {"🔍", "🕵️", "🗝️", "🔐", "📚", "🌙", "⚡"};
-        String[] scifiEmojis = {"🚀", "🛸", "🌌", "⭐", "🔬", "🤖", "🌠"};
-        String[] horrorEmojis = {"👻", "🎃", "🕷️", "🌙", "⚰️", "🦇", "🕯️"};
-        String[] dramaEmojis = {"🎭", "📖", "🌆", "💼", "🏠", "👥", "🌟"};
-        
-        String emoji = "📚"; // default
-        switch (genre.toLowerCase()) {
-            case "fantasy": 
-                emoji = fantasyEmojis[(int)(Math.random() * fantasyEmojis.length)];
-                break;
-            case "romance": 
-                emoji = romanceEmojis[(int)(Math.random() * romanceEmojis.length)];
-                break;
-            case "mystery": 
-                emoji = mysteryEmojis[(int)(Math.random() * mysteryEmojis.length)];
-                break;
-            case "scifi": 
-                emoji = scifiEmojis[(int)(Math.random() * scifiEmojis.length)];
-                break;
-            case "horror": 
-                emoji = horrorEmojis[(int)(Math.random() * horrorEmojis.length)];
-                break;
-            case "drama": 
-                emoji = dramaEmojis[(int)(Math.random() * dramaEmojis.length)];
-                break;
+        if (imageUrl == null || imageUrl.isEmpty()) {
+            throw new AiUpstreamException("cover", "DALL-E 응답에 이미지 URL 이 없습니다", null);
         }
-        
-        return emoji + " " + title;
+        return storeRemoteCover(imageUrl, title, genre);
     }
-    
+
+    /**
+     * OpenAI 로 표지를 만들지 못했을 때 쓰는 로컬 렌더링 표지 (재시도를 다 쓴 뒤의 대체값).
+     */
+    public String renderFallbackCover(String title, String genre) {
+        return renderLocalCover(title, genre);
+    }
+
+    private String renderLocalCover(String title, String genre) {
+        String hash = coverImageStore.put(coverImageRenderer.render(title, genre));
+        return "/ai/covers/" + hash;
+    }
+
+    // DALL-E URL 은 만료되므로 한 번 내려받아 로컬 저장소 주소로 바꿔서 돌려준다.
+    // 내려받지 못하면 곧 깨질 URL 대신 로컬 렌더링 표지를 쓴다
+    private String storeRemoteCover(String imageUrl, String title, String genre) {
+        try {
+            byte[] image = imageRestTemplate.getForObject(imageUrl, byte[].class);
+            if (image != null && image.length > 0) {
+                return "/ai/covers/" + coverImageStore.put(image);
+            }
+            logger.warn("표지 이미지 저장 실패: 빈 응답");
+        } catch (Exception e) {
+            logger.warn("표지 이미지 저장 실패: {}", e.getMessage());
+        }
+        return renderLocalCover(title, genre);
+    }
+
     public String suggestPlot(String genre, String keywords) {
         if (apiKey == null || apiKey.trim().isEmpty()) {
             return "[Mock] " + genre + " 장르의 플롯 제안: " + keywords + "를 중심으로 한 흥미진진한 이야기";
         }
-        
+
+        String prompt = genre + " 장르의 웹소설 플롯을 제안해주세요. 키워드: " + keywords;
+        return singleFlight.execute("plot", prompt, () -> chat("plot", PLOT_TEMPLATE.withPrompt(prompt)));
+    }
+
+    /**
+     * chat/completions 호출. 응답의 choices[0].message.content 를 돌려준다.
+     * bulkhead 가 가득 차면 {@link AiCapacityExceededException}, 호출 실패나 빈 응답은 {@link AiUpstreamException}.
+     */
+    private String chat(String operation, ChatCompletionRequest request) {
         try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-            
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-3.5-turbo");
-            requestBody.put("max_tokens", 500);
-            
-            List<Map<String, String>> messages = new ArrayList<>();
-            Map<String, String> message = new HashMap<>();
-            message.put("role", "user");
-            message.put("content", genre + " 장르의 웹소설 플롯을 제안해주세요. 키워드: " + keywords);
-            messages.add(message);
-            requestBody.put("messages", messages);
-            
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-            @SuppressWarnings("rawtypes")
-            ResponseEntity<Map> response = restTemplate.postForEntity(OPENAI_API_URL, request, Map.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-                if (responseBody != null && responseBody.containsKey("choices")) {
-                    @SuppressWarnings("unchecked")
-                    List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                    if (choices != null && !choices.isEmpty()) {
-                        Map<String, Object> choice = choices.get(0);
-                        @SuppressWarnings("unchecked")
-                        Map<String, String> messageContent = (Map<String, String>) choice.get("message");
-                        if (messageContent != null) {
-                            return messageContent.get("content");
-                        }
-                    }
-                }
+            byte[] body = OpenAIJson.write(request);
+            OpenAIJson.ChatCompletion completion = bulkheads.forOperation(operation).execute(
+                () -> upstream(operation, () -> chatRestTemplate.execute(
+                    baseUrl + "/chat/completions", HttpMethod.POST, jsonBody(body), CHAT_COMPLETION_EXTRACTOR)));
+            if (completion == null || completion.getContent() == null) {
+                throw new AiUpstreamException(operation, "OpenAI 응답에 내용이 없습니다", null);
             }
+            meterRegistry.counter("ai.tokens", "operation", operation, "type", "prompt")
+                .increment(completion.getPromptTokens());
+            meterRegistry.counter("ai.tokens", "operation", operation, "type", "completion")
+                .increment(completion.getCompletionTokens());
+            return completion.getContent();
+        } catch (AiCapacityExceededException | AiUpstreamException e) {
+            throw e;
         } catch (Exception e) {
-            System.err.println("OpenAI API 호출 실패: " + e.getMessage());
+            logger.warn("OpenAI API 호출 실패 ({}): {}", operation, e.getMessage());
+            throw new AiUpstreamException(operation, "OpenAI API 호출 실패: " + e.getMessage(), e);
         }
-        
-        return "[Mock] " + genre + " 장르의 플롯 제안: " + keywords + "를 중심으로 한 흥미진진한 이야기";
     }
-}
\ No newline at end of file
+
+    // OpenAI 왕복 시간 (bulkhead 대기 제외). 작업별 성공/실패로 나눠 ai.upstream 에 남기고 CLIENT span 으로도 남긴다
+    private <T> T upstream(String operation, Supplier<T> call) {
+        Span span = tracer.nextSpan()
+            .kind(Span.Kind.CLIENT)
+            .name("openai " + operation)
+            .remoteServiceName("openai")
+            .start();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try (Tracer.SpanInScope ws = tracer.withSpanInScope(span)) {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.finish();
+            sample.stop(meterRegistry.timer("ai.upstream", "operation", operation, "outcome", outcome));
+        }
+    }
+
+    private RequestCallback jsonBody(byte[] body) {
+        return request -> {
+            HttpHeaders headers = request.getHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(apiKey);
+            headers.setContentLength(body.length);
+            request.getBody().write(body);
+        };
+    }
+}
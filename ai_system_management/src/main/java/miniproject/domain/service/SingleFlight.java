@@ -0,0 +1,86 @@
+package miniproject.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동일한 프롬프트로 동시에 들어온 AI 호출을 하나의 upstream 호출로 합친다.
+ * 먼저 들어온 요청(leader)이 실제 호출을 수행하고, 그 사이 들어온 요청은 같은 future 를 기다린다.
+ * 키는 프롬프트 원문 그대로의 해시다. 공백이나 대소문자만 달라도 모델 출력이 달라질 수 있으므로 합치지 않는다.
+ */
+@Component
+public class SingleFlight {
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gaugeMapSize("ai.singleflight.inflight", Tags.empty(), inFlight);
+    }
+
+    public String execute(String operation, String prompt, Supplier<String> call) {
+        String key = operation + ":" + hash(prompt == null ? "" : prompt);
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            counter(operation, "shared").increment();
+            return await(existing);
+        }
+
+        counter(operation, "leader").increment();
+        try {
+            String result = call.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Error 로 끝나도 기다리는 요청이 풀리도록 future 를 반드시 완료한다
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private String await(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return meterRegistry.counter("ai.singleflight.calls", "operation", operation, "result", result);
+    }
+
+    static String hash(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] bytes = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(bytes.length * 2);
+            for (byte b : bytes) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
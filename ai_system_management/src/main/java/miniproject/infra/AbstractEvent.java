@@ -2,15 +2,7 @@ package miniproject.infra;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import miniproject.AiSystemManagementApplication;
-import miniproject.config.kafka.KafkaProcessor;
 import org.springframework.beans.BeanUtils;
-import org.springframework.messaging.MessageChannel;
-import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.support.MessageBuilder;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
-import org.springframework.util.MimeTypeUtils;
 
 //<<< Clean Arch / Outbound Adaptor
 public class AbstractEvent {
@@ -28,36 +20,9 @@ public class AbstractEvent {
         this.timestamp = System.currentTimeMillis();
     }
 
-    public void publish() {
-        /**
-         * spring streams 방식
-         */
-        KafkaProcessor processor = AiSystemManagementApplication.applicationContext.getBean(
-            KafkaProcessor.class
-        );
-        MessageChannel outputChannel = processor.outboundTopic();
-
-        outputChannel.send(
-            MessageBuilder
-                .withPayload(this)
-                .setHeader(
-                    MessageHeaders.CONTENT_TYPE,
-                    MimeTypeUtils.APPLICATION_JSON
-                )
-                .setHeader("type", getEventType())
-                .build()
-        );
-    }
-
+    // 현재 트랜잭션의 DomainEvents 에 모아 두고 커밋 후 DomainEventPublisher 로 보낸다
     public void publishAfterCommit() {
-        TransactionSynchronizationManager.registerSynchronization(
-            new TransactionSynchronizationAdapter() {
-                @Override
-                public void afterCompletion(int status) {
-                    AbstractEvent.this.publish();
-                }
-            }
-        );
+        DomainEvents.current().add(this);
     }
 
     public String getEventType() {
@@ -0,0 +1,80 @@
+package miniproject.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import miniproject.config.kafka.KafkaProcessor;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 발행/소비 지표.
+ * 발행: event.publish (type, outcome) 타이머와 event.publish.failures 카운터 (DomainEventPublisher.publish 에서 기록).
+ * 소비: event-in 채널에 걸어 PolicyHandler 디스패치 전체 시간을 event.handle (type, outcome) 으로,
+ * Kafka 레코드 타임스탬프부터 처리 시작까지를 event.consume.lag (type) 로 기록한다.
+ * event-in 은 DirectChannel 이라 preSend 와 afterSendCompletion 이 같은 스레드에서 불린다.
+ */
+@Component
+@GlobalChannelInterceptor(patterns = KafkaProcessor.INPUT)
+public class EventMetrics implements ChannelInterceptor {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final ThreadLocal<Timer.Sample> handling = new ThreadLocal<>();
+
+    public EventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void published(String type, long startedNanos, boolean sent, Throwable error) {
+        String outcome = sent && error == null ? "success" : "failure";
+        meterRegistry.timer("event.publish", "type", tag(type), "outcome", outcome)
+            .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        if (!"success".equals(outcome)) {
+            meterRegistry.counter(
+                "event.publish.failures",
+                "type", tag(type),
+                "exception", error == null ? "none" : error.getClass().getSimpleName()
+            ).increment();
+        }
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        Object received = message.getHeaders().get(KafkaHeaders.RECEIVED_TIMESTAMP);
+        if (received instanceof Long) {
+            long lag = Math.max(0L, System.currentTimeMillis() - (Long) received);
+            meterRegistry.timer("event.consume.lag", "type", type(message)).record(lag, TimeUnit.MILLISECONDS);
+        }
+        handling.set(Timer.start(meterRegistry));
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        Timer.Sample sample = handling.get();
+        if (sample == null) {
+            return;
+        }
+        handling.remove();
+        sample.stop(meterRegistry.timer(
+            "event.handle",
+            "type", type(message),
+            "outcome", sent && ex == null ? "success" : "failure"
+        ));
+    }
+
+    private static String type(Message<?> message) {
+        Object type = message.getHeaders().get("type");
+        return type != null ? type.toString() : UNKNOWN;
+    }
+
+    private static String tag(String value) {
+        return value != null ? value : UNKNOWN;
+    }
+}
@@ -0,0 +1,101 @@
+package miniproject.infra;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.propagation.Propagation;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import java.nio.charset.StandardCharsets;
+import miniproject.config.kafka.KafkaProcessor;
+import org.springframework.integration.config.GlobalChannelInterceptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 trace 전파.
+ * 발행: DomainEventPublisher.publish 에서 PRODUCER span 을 열고 현재 trace 를 b3 헤더로 메시지에 싣는다.
+ * 소비: event-in 채널에서 헤더의 trace 를 이어받아 CONSUMER span 을 열고, PolicyHandler 처리 동안
+ * 현재 span 으로 둔다 (그 안의 DB 쿼리, AI 호출, 후속 이벤트 발행이 같은 trace 의 자식이 된다).
+ * Sleuth 의 채널 계측(spring.sleuth.integration)은 꺼 두고 여기서만 처리한다.
+ */
+@Component
+@GlobalChannelInterceptor(patterns = KafkaProcessor.INPUT)
+public class EventTracing implements ChannelInterceptor {
+
+    private static final Propagation.Setter<MessageBuilder<?>, String> SETTER =
+        (builder, key, value) -> builder.setHeader(key, value);
+
+    // Kafka 헤더는 바인더 설정에 따라 byte[] 로 올 수 있다
+    private static final Propagation.Getter<MessageHeaders, String> GETTER = (headers, key) -> {
+        Object value = headers.get(key);
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return value != null ? value.toString() : null;
+    };
+
+    private final Tracer tracer;
+    private final TraceContext.Injector<MessageBuilder<?>> injector;
+    private final TraceContext.Extractor<MessageHeaders> extractor;
+    private final ThreadLocal<Handling> handling = new ThreadLocal<>();
+
+    public EventTracing(Tracing tracing) {
+        this.tracer = tracing.tracer();
+        this.injector = tracing.propagation().injector(SETTER);
+        this.extractor = tracing.propagation().extractor(GETTER);
+    }
+
+    public Span startPublish(String type, MessageBuilder<?> message) {
+        Span span = tracer.nextSpan()
+            .kind(Span.Kind.PRODUCER)
+            .name("publish " + type)
+            .tag("event.type", String.valueOf(type))
+            .remoteServiceName("kafka")
+            .start();
+        injector.inject(span.context(), message);
+        return span;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        TraceContextOrSamplingFlags extracted = extractor.extract(message.getHeaders());
+        Object type = message.getHeaders().get("type");
+        Span span = tracer.nextSpan(extracted)
+            .kind(Span.Kind.CONSUMER)
+            .name("handle " + type)
+            .tag("event.type", String.valueOf(type))
+            .remoteServiceName("kafka")
+            .start();
+        handling.set(new Handling(span, tracer.withSpanInScope(span)));
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        Handling current = handling.get();
+        if (current == null) {
+            return;
+        }
+        handling.remove();
+        if (ex != null) {
+            current.span.error(ex);
+        }
+        current.scope.close();
+        current.span.finish();
+    }
+
+    private static class Handling {
+        private final Span span;
+        private final Tracer.SpanInScope scope;
+
+        Handling(Span span, Tracer.SpanInScope scope) {
+            this.span = span;
+            this.scope = scope;
+        }
+    }
+}
@@ -7,19 +7,30 @@ import javax.naming.NameParser;
 import javax.transaction.Transactional;
 import miniproject.config.kafka.KafkaProcessor;
 import miniproject.domain.*;
+import miniproject.domain.service.AiProcessingPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 //<<< Clean Arch / Inbound Adaptor
 @Service
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 @StreamListener 구독이 걸린다
+@Lazy(false)
 @Transactional
 public class PolicyHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(PolicyHandler.class);
+
     @Autowired
     AiRepository aiRepository;
 
+    @Autowired
+    AiProcessingPipeline aiProcessingPipeline;
+
     @StreamListener(KafkaProcessor.INPUT)
     public void whatever(@Payload String eventString) {}
 
@@ -31,14 +42,11 @@ public class PolicyHandler {
         @Payload PublicationRequested publicationRequested
     ) {
         PublicationRequested event = publicationRequested;
-        System.out.println(
-            "\n\n##### listener PublicationProcessingPolicy : " +
-            publicationRequested +
-            "\n\n"
-        );
+        // 이벤트 본문(원고 내용 등)은 debug 에서만 남긴다
+        logger.debug("##### listener PublicationProcessingPolicy : {}", publicationRequested);
 
         // Sample Logic //
-        Ai.publicationProcessingPolicy(event);
+        Ai.publicationProcessingPolicy(event, aiRepository, aiProcessingPipeline);
     }
 }
 //>>> Clean Arch / Inbound Adaptor
@@ -0,0 +1,100 @@
+package miniproject.infra;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import miniproject.domain.service.CoverImageRenderer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+//<<< Clean Arch / Inbound Adaptor
+
+/**
+ * stub 프로파일에서만 뜨는 OpenAI API 대역.
+ * 지연시간을 주입해서 bulkhead/동시성 한도가 작업별로 분리되어 동작하는지 로컬에서 확인할 때 사용한다.
+ */
+@RestController
+@RequestMapping("/stub/openai/v1")
+@Profile("stub")
+public class StubOpenAIController {
+
+    @Autowired
+    private CoverImageRenderer coverImageRenderer;
+
+    @Value("${stub.openai.chat-latency-ms:200}")
+    private long chatLatencyMs;
+
+    @Value("${stub.openai.image-latency-ms:5000}")
+    private long imageLatencyMs;
+
+    @Value("${stub.openai.jitter-ms:50}")
+    private long jitterMs;
+
+    @PostMapping("/chat/completions")
+    public Map<String, Object> chatCompletions(
+        @RequestBody Map<String, Object> request
+    ) throws InterruptedException {
+        sleep(chatLatencyMs);
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("role", "assistant");
+        message.put("content", "[Stub] " + request.get("model") + " 응답");
+
+        Map<String, Object> choice = new HashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("finish_reason", "stop");
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", "chatcmpl-stub");
+        response.put("object", "chat.completion");
+        response.put("choices", Collections.singletonList(choice));
+
+        // 토큰 지표가 비지 않도록 대략적인 값을 채운다 (한글 기준 두 글자에 한 토큰 정도)
+        Map<String, Object> usage = new HashMap<>();
+        int promptTokens = String.valueOf(request.get("messages")).length() / 2;
+        int completionTokens = String.valueOf(message.get("content")).length() / 2;
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        response.put("usage", usage);
+        return response;
+    }
+
+    @PostMapping("/images/generations")
+    public Map<String, Object> imageGenerations(
+        @RequestBody Map<String, Object> request
+    ) throws InterruptedException {
+        sleep(imageLatencyMs);
+
+        Map<String, Object> image = new HashMap<>();
+        image.put(
+            "url",
+            ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/stub/openai/v1/images/files/{name}")
+                .buildAndExpand(Integer.toHexString(String.valueOf(request.get("prompt")).hashCode()))
+                .toUriString()
+        );
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("created", System.currentTimeMillis() / 1000);
+        response.put("data", Collections.singletonList(image));
+        return response;
+    }
+
+    @GetMapping(value = "/images/files/{name}", produces = MediaType.IMAGE_PNG_VALUE)
+    public byte[] imageFile(@PathVariable String name) {
+        return coverImageRenderer.render(name, "");
+    }
+
+    private void sleep(long baseMs) throws InterruptedException {
+        long jitter = jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0L;
+        Thread.sleep(baseMs + jitter);
+    }
+}
+//>>> Clean Arch / Inbound Adaptor
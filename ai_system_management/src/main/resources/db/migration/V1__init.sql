@@ -0,0 +1,20 @@
+-- AI 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence ai_seq start with 1 increment by 50;
+
+create table ai_table (
+    process_id bigint not null,
+    manuscript_id bigint,
+    publication_request_id bigint,
+    author_id bigint,
+    title varchar(255),
+    summary clob,
+    cover_image_url clob,
+    status varchar(255),
+    created_at timestamp,
+    completed_at timestamp,
+    primary key (process_id),
+    -- 원고당 한 번만 처리 (idempotency key)
+    constraint ux_ai_manuscript unique (manuscript_id)
+);
@@ -0,0 +1,2 @@
+-- 재시도 끝에 로컬 렌더링 표지로 대신한 건 표시
+alter table ai_table add column cover_fallback boolean;
@@ -0,0 +1,2 @@
+-- 재기동 뒤 멈춘 PROCESSING 건을 이어서 처리할 원고 앞부분
+alter table ai_table add column source_excerpt clob;
@@ -0,0 +1,142 @@
+package miniproject.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import miniproject.infra.StubOpenAIController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * README 의 stub 프로파일과 같은 지연 주입 대역(StubOpenAIController)으로 upstream 을 흉내 내고
+ * AIMD 한도 조정을 확인한다. 지터는 0 으로 두어 목표 지연시간 기준 판정이 흔들리지 않게 한다.
+ */
+class AdaptiveBulkheadTest {
+
+    private static final long TARGET_LATENCY_MS = 50;
+    private static final long FAST_MS = 0;
+    private static final long SLOW_MS = 150;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void fastCallsAtTheLimitGrowItAdditively() {
+        AdaptiveBulkhead bulkhead = bulkhead(1, 1, 10);
+        StubOpenAIController upstream = upstream(FAST_MS);
+
+        // 한도 1 을 꽉 채운 빠른 응답: 1 + 1/1
+        bulkhead.execute(() -> chat(upstream));
+        assertThat(bulkhead.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void fastCallsBelowTheLimitDoNotGrowIt() {
+        AdaptiveBulkhead bulkhead = bulkhead(4, 1, 10);
+        StubOpenAIController upstream = upstream(FAST_MS);
+
+        for (int i = 0; i < 5; i++) {
+            bulkhead.execute(() -> chat(upstream));
+        }
+        assertThat(bulkhead.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void growthStopsAtTheMaximum() {
+        AdaptiveBulkhead bulkhead = bulkhead(1, 1, 2);
+        StubOpenAIController upstream = upstream(FAST_MS);
+
+        bulkhead.execute(() -> chat(upstream));
+        bulkhead.execute(() -> chat(upstream));
+        assertThat(bulkhead.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void slowCallsShrinkTheLimitMultiplicatively() {
+        AdaptiveBulkhead bulkhead = bulkhead(8, 1, 10);
+        StubOpenAIController upstream = upstream(SLOW_MS);
+
+        bulkhead.execute(() -> chat(upstream));
+        assertThat(bulkhead.getLimit()).isEqualTo(4);
+        bulkhead.execute(() -> chat(upstream));
+        assertThat(bulkhead.getLimit()).isEqualTo(2);
+    }
+
+    @Test
+    void shrinkStopsAtTheMinimum() {
+        AdaptiveBulkhead bulkhead = bulkhead(2, 1, 10);
+        StubOpenAIController upstream = upstream(SLOW_MS);
+
+        bulkhead.execute(() -> chat(upstream));
+        bulkhead.execute(() -> chat(upstream));
+        assertThat(bulkhead.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void failedCallsShrinkTheLimitAndPropagate() {
+        AdaptiveBulkhead bulkhead = bulkhead(8, 1, 10);
+        AiUpstreamException failure = new AiUpstreamException("cover", "upstream 오류", null);
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw failure;
+        })).isSameAs(failure);
+        assertThat(bulkhead.getLimit()).isEqualTo(4);
+        assertThat(bulkhead.getInFlight()).isZero();
+    }
+
+    @Test
+    void callsBeyondLimitAndQueueAreRejected() throws Exception {
+        AdaptiveBulkhead bulkhead = new AdaptiveBulkhead("cover", 1, 1, 1, 0, 100, TARGET_LATENCY_MS, 0.5);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = executor.submit(() -> bulkhead.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> bulkhead.execute(() -> "rejected"))
+            .isInstanceOf(AiCapacityExceededException.class);
+        assertThat(bulkhead.getRejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    private static AdaptiveBulkhead bulkhead(int initialLimit, int minLimit, int maxLimit) {
+        return new AdaptiveBulkhead("summary", initialLimit, minLimit, maxLimit, 4, 1000, TARGET_LATENCY_MS, 0.5);
+    }
+
+    private static StubOpenAIController upstream(long latencyMs) {
+        StubOpenAIController stub = new StubOpenAIController();
+        ReflectionTestUtils.setField(stub, "chatLatencyMs", latencyMs);
+        ReflectionTestUtils.setField(stub, "jitterMs", 0L);
+        return stub;
+    }
+
+    private static Map<String, Object> chat(StubOpenAIController upstream) {
+        try {
+            return upstream.chatCompletions(Collections.singletonMap("model", "gpt-stub"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
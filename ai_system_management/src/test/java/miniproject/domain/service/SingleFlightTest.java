@@ -0,0 +1,158 @@
+package miniproject.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 4;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalPromptsShareOneCall() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        Supplier<String> call = () -> {
+            calls.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "요약";
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        }
+        awaitShared("summary", FOLLOWERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("요약");
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void followersReceiveTheLeadersException() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AiUpstreamException failure = new AiUpstreamException("summary", "upstream 오류", null);
+        Supplier<String> call = () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw failure;
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        }
+        awaitShared("summary", FOLLOWERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        }
+
+        // 실패한 호출은 남지 않으므로 다음 요청은 새로 upstream 을 부른다
+        assertThat(singleFlight.execute("summary", "원고 본문", () -> "재시도")).isEqualTo("재시도");
+    }
+
+    @Test
+    void followersAreReleasedWhenTheLeaderFailsWithAnError() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StackOverflowError failure = new StackOverflowError("응답 파싱 중 오류");
+        Supplier<String> call = () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw failure;
+        };
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("summary", "원고 본문", call)));
+        }
+        awaitShared("summary", FOLLOWERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCause(failure);
+        }
+        assertThat(singleFlight.execute("summary", "원고 본문", () -> "재시도")).isEqualTo("재시도");
+    }
+
+    @Test
+    void promptsDifferingOnlyInCaseOrSpacingAreNotCoalesced() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("polish", "Hello  World", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 진행 중인 호출을 기다리지 않고 바로 자기 호출을 한다
+        assertThat(singleFlight.execute("polish", "hello world", () -> "second")).isEqualTo("second");
+        assertThat(singleFlight.execute("plot", "Hello  World", () -> "third")).isEqualTo("third");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    private void awaitShared(String operation, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (sharedCount(operation) < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("followers did not join: " + sharedCount(operation));
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private double sharedCount(String operation) {
+        return meterRegistry.counter("ai.singleflight.calls", "operation", operation, "result", "shared").count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
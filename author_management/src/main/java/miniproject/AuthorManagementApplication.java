@@ -5,17 +5,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.stream.annotation.EnableBinding;
-import org.springframework.context.ApplicationContext;
 
 @SpringBootApplication
 @EnableBinding(KafkaProcessor.class)
 @EnableFeignClients
 public class AuthorManagementApplication {
 
-    public static ApplicationContext applicationContext;
-
     public static void main(String[] args) {
-        applicationContext =
-            SpringApplication.run(AuthorManagementApplication.class, args);
+        SpringApplication.run(AuthorManagementApplication.class, args);
     }
 }
@@ -5,20 +5,32 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.AuthorManagementApplication;
 import miniproject.domain.AuthorRegisterApplied;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "Author_table")
+@Table(
+    name = "Author_table",
+    indexes = {
+        @Index(name = "ux_author_email", columnList = "email", unique = true),
+        @Index(name = "ix_author_register_status", columnList = "authorRegisterStatus"),
+    }
+)
+// 2차 캐시 (영역 설정은 application.conf). JPA 로 고치면 커밋 때 캐시도 같이 고쳐진다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 //<<< DDD / Aggregate Root
 public class Author {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_seq")
+    @SequenceGenerator(name = "author_seq", sequenceName = "author_seq", allocationSize = 50)
     private Long authorId;
 
     private String authorName;
@@ -36,6 +48,17 @@ public class Author {
     @Embedded
     private ManuscriptId manuscriptId;
 
+    // 이메일은 소문자로 저장해 인덱스로 바로 찾을 수 있게 한다
+    @PrePersist
+    @PreUpdate
+    public void prePersist() {
+        this.email = normalizeEmail(this.email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
     @PostPersist
     public void onPostPersist() {
         AuthorRegisterApplied authorRegisterApplied = new AuthorRegisterApplied(
@@ -44,32 +67,26 @@ public class Author {
         authorRegisterApplied.publishAfterCommit();
     }
 
-    public static AuthorRepository repository() {
-        AuthorRepository authorRepository = AuthorManagementApplication.applicationContext.getBean(
-            AuthorRepository.class
-        );
-        return authorRepository;
-    }
-
     //<<< Clean Arch / Port Method
     public static void authorStatusManagementPolicy(
-        AuthorApproved authorApproved
+        AuthorApproved authorApproved,
+        AuthorRepository authorRepository
     ) {
         //implement business logic here:
 
         /** Example 1:  new item 
         Author author = new Author();
-        repository().save(author);
+        authorRepository.save(author);
 
         */
 
         /** Example 2:  finding and process
         
 
-        repository().findById(authorApproved.get???()).ifPresent(author->{
+        authorRepository.findById(authorApproved.get???()).ifPresent(author->{
             
             author // do something
-            repository().save(author);
+            authorRepository.save(author);
 
 
          });
@@ -80,23 +97,24 @@ public class Author {
     //>>> Clean Arch / Port Method
     //<<< Clean Arch / Port Method
     public static void authorStatusManagementPolicy(
-        AuthorRejected authorRejected
+        AuthorRejected authorRejected,
+        AuthorRepository authorRepository
     ) {
         //implement business logic here:
 
         /** Example 1:  new item 
         Author author = new Author();
-        repository().save(author);
+        authorRepository.save(author);
 
         */
 
         /** Example 2:  finding and process
         
 
-        repository().findById(authorRejected.get???()).ifPresent(author->{
+        authorRepository.findById(authorRejected.get???()).ifPresent(author->{
             
             author // do something
-            repository().save(author);
+            authorRepository.save(author);
 
 
          });
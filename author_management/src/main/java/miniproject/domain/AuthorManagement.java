@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.AuthorManagementApplication;
 import miniproject.domain.AuthorApproved;
 import miniproject.domain.AuthorRejected;
 
@@ -19,7 +18,8 @@ import miniproject.domain.AuthorRejected;
 public class AuthorManagement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "author_management_seq")
+    @SequenceGenerator(name = "author_management_seq", sequenceName = "author_management_seq", allocationSize = 50)
     private Long managementId;
 
     private Long userId;
@@ -39,22 +39,16 @@ public class AuthorManagement {
         authorRejected.publishAfterCommit();
     }
 
-    public static AuthorManagementRepository repository() {
-        AuthorManagementRepository authorManagementRepository = AuthorManagementApplication.applicationContext.getBean(
-            AuthorManagementRepository.class
-        );
-        return authorManagementRepository;
-    }
-
     //<<< Clean Arch / Port Method
     public static void authorManagementPolicy(
-        AuthorRegisterApplied authorRegisterApplied
+        AuthorRegisterApplied authorRegisterApplied,
+        AuthorManagementRepository authorManagementRepository
     ) {
         //implement business logic here:
 
         /** Example 1:  new item 
         AuthorManagement authorManagement = new AuthorManagement();
-        repository().save(authorManagement);
+        authorManagementRepository.save(authorManagement);
 
         */
 
@@ -65,10 +59,10 @@ public class AuthorManagement {
         // ObjectMapper mapper = new ObjectMapper();
         // Map<Long, Object> authorMap = mapper.convertValue(authorRegisterApplied.getManuscriptId(), Map.class);
 
-        repository().findById(authorRegisterApplied.get???()).ifPresent(authorManagement->{
+        authorManagementRepository.findById(authorRegisterApplied.get???()).ifPresent(authorManagement->{
             
             authorManagement // do something
-            repository().save(authorManagement);
+            authorManagementRepository.save(authorManagement);
 
 
          });
@@ -2,9 +2,12 @@ package miniproject.domain;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import javax.persistence.QueryHint;
 import miniproject.domain.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 
@@ -13,10 +16,14 @@ import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 public interface AuthorRepository
     extends PagingAndSortingRepository<Author, Long> {
     
-    // 특정 상태의 작가들을 조회
+    // 특정 상태의 작가들을 조회 (승인 대기 목록)
+    // 쿼리 캐시: 결과 id 만 캐시하고 작가는 2차 캐시에서 꺼낸다. Author_table 이 바뀌면 통째로 무효화된다
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Author> findByAuthorRegisterStatus(AuthorRegisterStatus status);
     
-    // 이메일로 작가 찾기
-    Author findByEmail(String email);
+    // 이메일로 작가 찾기 (ux_author_email 인덱스, Author.normalizeEmail 로 정규화한 값으로 호출)
+    Optional<Author> findByEmail(String email);
+    
+    boolean existsByEmail(String email);
 }
     
\ No newline at end of file
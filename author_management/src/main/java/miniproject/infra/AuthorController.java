@@ -28,15 +28,20 @@ public class AuthorController {
     @PostMapping
     public ResponseEntity<Author> createAuthor(@RequestBody Author author) {
         logger.info("=== Author Registration Request ===");
-        logger.info("Received author data: {}", author);
-        logger.info("Author Name: {}", author.getAuthorName());
-        logger.info("Email: {}", author.getEmail());
-        logger.info("Introduction: {}", author.getIntroduction());
-        logger.info("Real Name: {}", author.getRealName());
-        logger.info("Password: {}", author.getAuthorPassword() != null ? "***PROVIDED***" : "NULL");
-        logger.info("Register Status: {}", author.getAuthorRegisterStatus());
+        // 요청 본문(개인정보, 소개글)은 debug 에서만 남긴다. Author 전체(toString)는 비밀번호까지 찍히므로 쓰지 않는다
+        logger.debug("Author Name: {}, Email: {}, Real Name: {}, Register Status: {}",
+            author.getAuthorName(), author.getEmail(), author.getRealName(), author.getAuthorRegisterStatus());
+        logger.debug("Introduction: {}", author.getIntroduction());
+        logger.debug("Password: {}", author.getAuthorPassword() != null ? "***PROVIDED***" : "NULL");
         
         try {
+            // 이메일은 ux_author_email 로 유일해야 한다
+            String email = Author.normalizeEmail(author.getEmail());
+            if (email != null && authorRepository.existsByEmail(email)) {
+                logger.warn("Author already exists with email: {}", email);
+                return ResponseEntity.status(409).build();
+            }
+            
             // Set default status if not provided
             if (author.getAuthorRegisterStatus() == null) {
                 author.setAuthorRegisterStatus(AuthorRegisterStatus.PENDING);
@@ -57,7 +62,7 @@ public class AuthorController {
     public ResponseEntity<Author> updateAuthor(@PathVariable Long id, @RequestBody Author updates) {
         logger.info("=== Author Update Request ===");
         logger.info("Author ID: {}", id);
-        logger.info("Updates: {}", updates);
+        logger.debug("Updates: status={}", updates.getAuthorRegisterStatus());
         
         Optional<Author> authorOpt = authorRepository.findById(id);
         if (authorOpt.isPresent()) {
@@ -106,15 +111,13 @@ public class AuthorController {
     @GetMapping("/email/{email}")
     public ResponseEntity<Author> getAuthorByEmail(@PathVariable String email) {
         logger.info("=== Get Author By Email Request ===");
-        logger.info("Email: {}", email);
+        logger.debug("Email: {}", email);
         
         try {
-            // 이메일로 작가 찾기 (간단한 구현)
-            Iterable<Author> authors = authorRepository.findAll();
-            for (Author author : authors) {
-                if (email.equals(author.getEmail())) {
-                    return ResponseEntity.ok(author);
-                }
+            // 이메일 인덱스로 작가 찾기 (ux_author_email)
+            Optional<Author> authorOpt = authorRepository.findByEmail(Author.normalizeEmail(email));
+            if (authorOpt.isPresent()) {
+                return ResponseEntity.ok(authorOpt.get());
             }
             logger.warn("Author not found with email: {}", email);
             return ResponseEntity.notFound().build();
@@ -124,6 +127,22 @@ public class AuthorController {
         }
     }
     
+    // 작가 로그인 (이메일 + 비밀번호)
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+        logger.info("=== Author Login Request ===");
+        logger.debug("Email: {}", request.getEmail());
+        
+        // ux_author_email 인덱스 한 번으로 찾는다. 응답에는 비밀번호를 싣지 않는다
+        Optional<Author> authorOpt = authorRepository.findByEmail(Author.normalizeEmail(request.getEmail()));
+        if (authorOpt.isPresent() && request.getPassword() != null
+            && request.getPassword().equals(authorOpt.get().getAuthorPassword())) {
+            return ResponseEntity.ok(new LoginResponse(authorOpt.get()));
+        }
+        logger.warn("Author login failed for email: {}", request.getEmail());
+        return ResponseEntity.status(401).build();
+    }
+    
     // === 작가 승인 관련 API들 ===
     
     // 승인 대기 중인 작가 목록 조회 (admin용)
@@ -186,5 +205,41 @@ public class AuthorController {
             return ResponseEntity.notFound().build();
         }
     }
+    
+    public static class LoginRequest {
+        private String email;
+        private String password;
+        
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+    
+    // 로그인 응답 (비밀번호 등 자격 증명 필드는 빼고 내려준다)
+    public static class LoginResponse {
+        private final Long authorId;
+        private final String authorName;
+        private final String email;
+        private final String introduction;
+        private final String realName;
+        private final AuthorRegisterStatus authorRegisterStatus;
+        
+        LoginResponse(Author author) {
+            this.authorId = author.getAuthorId();
+            this.authorName = author.getAuthorName();
+            this.email = author.getEmail();
+            this.introduction = author.getIntroduction();
+            this.realName = author.getRealName();
+            this.authorRegisterStatus = author.getAuthorRegisterStatus();
+        }
+        
+        public Long getAuthorId() { return authorId; }
+        public String getAuthorName() { return authorName; }
+        public String getEmail() { return email; }
+        public String getIntroduction() { return introduction; }
+        public String getRealName() { return realName; }
+        public AuthorRegisterStatus getAuthorRegisterStatus() { return authorRegisterStatus; }
+    }
 }
 //>>> Clean Arch / Inbound Adaptor
@@ -7,10 +7,13 @@ import miniproject.config.kafka.KafkaProcessor;
 import miniproject.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 @Service
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 @StreamListener 구독이 걸린다
+@Lazy(false)
 public class AuthorManagementViewViewHandler {
 
     //<<< DDD / CQRS
@@ -7,22 +7,32 @@ import javax.naming.NameParser;
 import javax.transaction.Transactional;
 import miniproject.config.kafka.KafkaProcessor;
 import miniproject.domain.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 //<<< Clean Arch / Inbound Adaptor
 @Service
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 @StreamListener 구독이 걸린다
+@Lazy(false)
 @Transactional
 public class PolicyHandler {
 
+    private static final Logger logger = LoggerFactory.getLogger(PolicyHandler.class);
+
     @Autowired
     AuthorRepository authorRepository;
 
     @Autowired
     AuthorManagementRepository authorManagementRepository;
 
+    @Autowired
+    SecondLevelCache secondLevelCache;
+
     @StreamListener(KafkaProcessor.INPUT)
     public void whatever(@Payload String eventString) {}
 
@@ -34,14 +44,10 @@ public class PolicyHandler {
         @Payload AuthorRegisterApplied authorRegisterApplied
     ) {
         AuthorRegisterApplied event = authorRegisterApplied;
-        System.out.println(
-            "\n\n##### listener AuthorManagementPolicy : " +
-            authorRegisterApplied +
-            "\n\n"
-        );
+        logger.debug("##### listener AuthorManagementPolicy : {}", authorRegisterApplied);
 
         // Sample Logic //
-        AuthorManagement.authorManagementPolicy(event);
+        AuthorManagement.authorManagementPolicy(event, authorManagementRepository);
     }
 
     @StreamListener(
@@ -52,14 +58,12 @@ public class PolicyHandler {
         @Payload AuthorApproved authorApproved
     ) {
         AuthorApproved event = authorApproved;
-        System.out.println(
-            "\n\n##### listener AuthorStatusManagementPolicy : " +
-            authorApproved +
-            "\n\n"
-        );
+        logger.debug("##### listener AuthorStatusManagementPolicy : {}", authorApproved);
 
         // Sample Logic //
-        Author.authorStatusManagementPolicy(event);
+        Author.authorStatusManagementPolicy(event, authorRepository);
+
+        evictAuthor(event.getManagementId(), event.getUserId());
     }
 
     @StreamListener(
@@ -70,14 +74,28 @@ public class PolicyHandler {
         @Payload AuthorRejected authorRejected
     ) {
         AuthorRejected event = authorRejected;
-        System.out.println(
-            "\n\n##### listener AuthorStatusManagementPolicy : " +
-            authorRejected +
-            "\n\n"
-        );
+        logger.debug("##### listener AuthorStatusManagementPolicy : {}", authorRejected);
 
         // Sample Logic //
-        Author.authorStatusManagementPolicy(event);
+        Author.authorStatusManagementPolicy(event, authorRepository);
+
+        evictAuthor(event.getManagementId(), event.getUserId());
+    }
+
+    // 심사 결과로 바뀐 작가 한 건과 승인 대기 목록 쿼리 캐시를 비운다.
+    // 심사 기록의 userId 가 신청한 작가의 authorId 이고, 이벤트에 없으면 managementId 로 심사 기록에서 찾는다
+    private void evictAuthor(Long managementId, Long userId) {
+        Long authorId = userId;
+        if (authorId == null && managementId != null) {
+            authorId = authorManagementRepository.findById(managementId).map(AuthorManagement::getUserId).orElse(null);
+        }
+        if (authorId != null) {
+            secondLevelCache.evict(Author.class, authorId);
+        } else {
+            logger.warn("심사 대상 작가를 알 수 없어 작가 캐시 영역을 통째로 비웁니다: managementId={}", managementId);
+            secondLevelCache.evictAll(Author.class);
+        }
+        secondLevelCache.evictQueries();
     }
 }
 //>>> Clean Arch / Inbound Adaptor
@@ -0,0 +1,68 @@
+package miniproject.infra;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 느린 쿼리 로그 (show_sql 대신).
+ * threshold-ms 를 넘은 쿼리는 모두 db.slow.queries 로 세고, 그중 sample-rate 비율만 WARN 으로 남긴다.
+ * 바인딩 값은 남기지 않고 SQL 문만 max-sql-length 까지 자른다 (본문 같은 긴 값이 로그로 새지 않도록).
+ */
+@Component
+public class SlowQueryLog implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdMs;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SlowQueryLog(
+        MeterRegistry meterRegistry,
+        @Value("${db.slow-query.threshold-ms:200}") long thresholdMs,
+        @Value("${db.slow-query.sample-rate:0.1}") double sampleRate,
+        @Value("${db.slow-query.max-sql-length:500}") int maxSqlLength
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMs = thresholdMs;
+        this.sampleRate = sampleRate;
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {}
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (elapsed < thresholdMs) {
+            return;
+        }
+        meterRegistry.counter("db.slow.queries", "success", String.valueOf(execInfo.isSuccess())).increment();
+        if (ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        if (sql.length() > maxSqlLength) {
+            sql = sql.substring(0, maxSqlLength) + "...";
+        }
+        logger.warn(
+            "느린 쿼리 {}ms (batch={}, size={}, success={}): {}",
+            elapsed,
+            execInfo.isBatch(),
+            execInfo.getBatchSize(),
+            execInfo.isSuccess(),
+            sql
+        );
+    }
+}
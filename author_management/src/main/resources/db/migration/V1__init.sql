@@ -0,0 +1,39 @@
+-- 작가 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case,
+-- 임베디드 값은 ImplicitNamingStrategyComponentPathImpl 로 경로가 붙는다). enum 은 ORDINAL 이라 integer
+
+create sequence author_seq start with 1 increment by 50;
+create sequence author_management_seq start with 1 increment by 50;
+
+create table author_table (
+    author_id bigint not null,
+    author_name varchar(255),
+    email varchar(255),
+    introduction varchar(255),
+    author_password varchar(255),
+    real_name varchar(255),
+    author_register_status integer,
+    manuscript_id_manuscript_id bigint,
+    primary key (author_id)
+);
+
+create unique index ux_author_email on author_table (email);
+create index ix_author_register_status on author_table (author_register_status);
+
+create table author_management_table (
+    management_id bigint not null,
+    user_id bigint,
+    reviewer_id bigint,
+    reviewed_at timestamp,
+    management_status integer,
+    primary key (management_id)
+);
+
+create table author_management_view_table (
+    management_id bigint not null,
+    user_id bigint,
+    reviewer_id bigint,
+    reviewed_at timestamp,
+    management_status timestamp,
+    primary key (management_id)
+);
@@ -0,0 +1,104 @@
+package miniproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.dto.ChatCompletionRequest;
+import miniproject.domain.service.OpenAIJson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * OpenAI 요청 만들기와 응답 파싱 (OpenAIService 가 쓰는 OpenAIJson 경로).
+ * 응답 파싱은 예전처럼 Map 으로 통째로 읽고 choices[0].message.content 와 usage 를 꺼내는 방식을 기준선으로 같이 잰다.
+ * 할당량은 -prof gc 로 본다 (run-benchmarks.sh 가 붙인다).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OpenAIJsonBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ChatCompletionRequest POLISH_TEMPLATE = ChatCompletionRequest.template("gpt-3.5-turbo", 1000);
+
+    // 응답 본문(completion) 길이 (글자 수)
+    @Param({ "1000", "16000", "256000" })
+    public int completionChars;
+
+    private String prompt;
+    private byte[] response;
+
+    @Setup
+    public void setUp() throws Exception {
+        prompt = "다음 웹소설 내용을 더 매력적이고 읽기 쉽게 다듬어주세요. 내용: " + text(completionChars);
+
+        Map<String, Object> message = new HashMap<>();
+        message.put("role", "assistant");
+        message.put("content", text(completionChars));
+        Map<String, Object> choice = new HashMap<>();
+        choice.put("index", 0);
+        choice.put("message", message);
+        choice.put("finish_reason", "stop");
+        List<Object> choices = new ArrayList<>();
+        choices.add(choice);
+        Map<String, Object> usage = new HashMap<>();
+        usage.put("prompt_tokens", completionChars / 2);
+        usage.put("completion_tokens", completionChars / 2);
+        usage.put("total_tokens", completionChars);
+        Map<String, Object> body = new HashMap<>();
+        body.put("id", "chatcmpl-benchmark");
+        body.put("object", "chat.completion");
+        body.put("created", 1700000000L);
+        body.put("model", "gpt-3.5-turbo");
+        body.put("choices", choices);
+        body.put("usage", usage);
+        response = MAPPER.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] buildRequest() {
+        return OpenAIJson.write(POLISH_TEMPLATE.withPrompt(prompt));
+    }
+
+    // OpenAIService.chat 이 실제로 쓰는 경로 (content 와 usage 토큰 수)
+    @Benchmark
+    public OpenAIJson.ChatCompletion parseStreaming() throws Exception {
+        return OpenAIJson.readChatCompletion(new ByteArrayInputStream(response));
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Object[] parseAsMap() throws Exception {
+        Map<String, Object> body = MAPPER.readValue(new ByteArrayInputStream(response), Map.class);
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) body.get("choices");
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        Map<String, Object> usage = (Map<String, Object>) body.get("usage");
+        return new Object[] { message.get("content"), usage.get("prompt_tokens"), usage.get("completion_tokens") };
+    }
+
+    private static String text(int chars) {
+        String sentence = "비가 그친 골목을 걸으며 그는 오래전 약속을 떠올렸다. ";
+        StringBuilder builder = new StringBuilder(chars);
+        while (builder.length() < chars) {
+            builder.append(sentence);
+        }
+        builder.setLength(chars);
+        return builder.toString();
+    }
+}
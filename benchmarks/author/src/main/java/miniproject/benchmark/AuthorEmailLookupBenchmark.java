@@ -0,0 +1,149 @@
+package miniproject.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Author;
+import miniproject.domain.AuthorRegisterStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이메일로 작가 찾기: 예전 getAuthorByEmail 의 findAll + 순회(O(n))와
+ * Author_table 의 ux_author_email 인덱스 조회(O(log n))를 작가 수를 늘려 가며 비교한다.
+ * 찾는 이메일은 매 호출 바꿔 가며(대소문자 섞어서) 고른다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class AuthorEmailLookupBenchmark {
+
+    private static final int TARGETS = 1024;
+
+    private static String email(int i) {
+        return "author" + i + "@walklib.example";
+    }
+
+    // 호출마다 다른 작가를 찾도록 고르게 흩어 둔 이메일 (로그인 입력처럼 대문자가 섞여 있다)
+    private static String[] targets(int authors) {
+        String[] targets = new String[TARGETS];
+        for (int i = 0; i < TARGETS; i++) {
+            int id = (int) ((i * 2654435761L) % authors);
+            targets[i] = i % 2 == 0 ? email(id) : email(id).toUpperCase();
+        }
+        return targets;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Scan {
+
+        @Param({ "10000", "100000", "1000000" })
+        public int authors;
+
+        List<Author> all;
+        String[] targets;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            all = new ArrayList<>(authors);
+            for (int i = 0; i < authors; i++) {
+                Author author = new Author();
+                author.setAuthorId((long) i);
+                author.setAuthorName("작가" + i);
+                author.setEmail(email(i));
+                author.setAuthorRegisterStatus(AuthorRegisterStatus.APPROVED);
+                all.add(author);
+            }
+            targets = targets(authors);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Indexed {
+
+        @Param({ "10000", "100000", "1000000" })
+        public int authors;
+
+        Connection connection;
+        PreparedStatement lookup;
+        String[] targets;
+        int next;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            connection = DriverManager.getConnection("jdbc:h2:mem:authors-" + authors + ";DB_CLOSE_DELAY=-1");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(
+                    "create table Author_table (authorId bigint primary key, authorName varchar(255), " +
+                    "email varchar(255), authorRegisterStatus int)"
+                );
+                statement.execute("create unique index ux_author_email on Author_table (email)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                "insert into Author_table (authorId, authorName, email, authorRegisterStatus) values (?, ?, ?, 1)"
+            )) {
+                for (int i = 0; i < authors; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "작가" + i);
+                    insert.setString(3, email(i));
+                    insert.addBatch();
+                    if (i % 5000 == 4999) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+            lookup = connection.prepareStatement("select authorId, authorName, email from Author_table where email = ?");
+            targets = targets(authors);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws Exception {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("drop all objects");
+            }
+            connection.close();
+        }
+    }
+
+    // 예전 방식: 전체를 돌며 문자열 비교 (대소문자가 다르면 못 찾는다)
+    @Benchmark
+    public Author scanFindAll(Scan state) {
+        String email = state.targets[state.next++ & (TARGETS - 1)];
+        for (Author author : state.all) {
+            if (email.equals(author.getEmail())) {
+                return author;
+            }
+        }
+        return null;
+    }
+
+    // 현재 방식: 정규화한 이메일로 유니크 인덱스 조회 (findByEmail 이 내는 SQL 과 같은 모양)
+    @Benchmark
+    public Long indexedLookup(Indexed state) throws Exception {
+        String email = Author.normalizeEmail(state.targets[state.next++ & (TARGETS - 1)]);
+        state.lookup.setString(1, email);
+        try (ResultSet rs = state.lookup.executeQuery()) {
+            return rs.next() ? rs.getLong(1) : null;
+        }
+    }
+}
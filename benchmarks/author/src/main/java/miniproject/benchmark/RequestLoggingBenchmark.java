@@ -0,0 +1,134 @@
+package miniproject.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Author;
+import miniproject.domain.AuthorRegisterStatus;
+import miniproject.infra.AuthorController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+
+/**
+ * 작가 등록 요청 한 건의 로그 비용.
+ * verbose 는 예전 createAuthor 로그(Author 전체 toString 포함 INFO 8줄), production 은 지금 로그(INFO 1줄 + 꺼진 DEBUG)이고,
+ * appender 는 동기(요청 스레드가 직접 쓰기)와 prod 프로파일의 비동기 appender 를 비교한다.
+ * 출력은 실제 파일에 매번 flush 하므로 stdout 처럼 쓰기마다 시스템 호출이 난다.
+ * 비동기는 결과가 버려지지 않도록 무손실(neverBlock=false, discardingThreshold=0)로 재므로 운영 설정보다 보수적인 값이다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class RequestLoggingBenchmark {
+
+    @Param({ "sync", "async" })
+    public String appender;
+
+    private LoggerContext context;
+    private Logger logger;
+    private File file;
+    private Author author;
+
+    @Setup
+    public void setUp() throws Exception {
+        file = File.createTempFile("request-logging", ".log");
+        context = new LoggerContext();
+
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%t] %logger{39} : %m%n");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> fileAppender = new FileAppender<>();
+        fileAppender.setContext(context);
+        fileAppender.setFile(file.getAbsolutePath());
+        fileAppender.setEncoder(encoder);
+        fileAppender.setImmediateFlush(true);
+        fileAppender.start();
+
+        Appender<ILoggingEvent> root = fileAppender;
+        if ("async".equals(appender)) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setQueueSize(8192);
+            async.setDiscardingThreshold(0);
+            async.setNeverBlock(false);
+            async.addAppender(fileAppender);
+            async.start();
+            root = async;
+        }
+
+        ch.qos.logback.classic.Logger rootLogger = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        rootLogger.setLevel(Level.INFO);
+        rootLogger.addAppender(root);
+        logger = context.getLogger(AuthorController.class);
+
+        author = new Author();
+        author.setAuthorId(42L);
+        author.setAuthorName("작가42");
+        author.setEmail("author42@walklib.example");
+        author.setRealName("홍길동");
+        author.setAuthorPassword("password");
+        author.setAuthorRegisterStatus(AuthorRegisterStatus.PENDING);
+        author.setIntroduction(introduction(2000));
+    }
+
+    // 소개글처럼 긴 한국어 문단
+    private static String introduction(int chars) {
+        StringBuilder builder = new StringBuilder(chars + 64);
+        while (builder.length() < chars) {
+            builder.append("비가 그친 골목을 걸으며 그는 오래전 약속을 떠올렸다. ");
+        }
+        builder.setLength(chars);
+        return builder.toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+        file.delete();
+    }
+
+    @Benchmark
+    public void verbose() {
+        logger.info("=== Author Registration Request ===");
+        logger.info("Received author data: {}", author);
+        logger.info("Author Name: {}", author.getAuthorName());
+        logger.info("Email: {}", author.getEmail());
+        logger.info("Introduction: {}", author.getIntroduction());
+        logger.info("Real Name: {}", author.getRealName());
+        logger.info("Password: {}", author.getAuthorPassword() != null ? "***PROVIDED***" : "NULL");
+        logger.info("Register Status: {}", author.getAuthorRegisterStatus());
+    }
+
+    @Benchmark
+    public void production() {
+        logger.info("=== Author Registration Request ===");
+        logger.debug("Author Name: {}, Email: {}, Real Name: {}, Register Status: {}",
+            author.getAuthorName(), author.getEmail(), author.getRealName(), author.getAuthorRegisterStatus());
+        logger.debug("Introduction: {}", author.getIntroduction());
+        logger.debug("Password: {}", author.getAuthorPassword() != null ? "***PROVIDED***" : "NULL");
+    }
+}
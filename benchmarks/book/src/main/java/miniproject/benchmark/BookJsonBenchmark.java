@@ -0,0 +1,81 @@
+package miniproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Book;
+import miniproject.domain.BookContent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 본문이 큰 도서 응답 비용.
+ *  - renderBookJson: GET /books/{id} 처럼 본문을 채운 Book 을 JSON 으로 쓴다.
+ *  - decodeContent: BookContent.text() 로 저장된 본문을 String 으로 되살린다 (fill 이 하는 일).
+ *  - streamContent: GET /books/{id}/content 처럼 저장된 바이트를 String 없이 그대로 흘려 보낸다.
+ * 저장 형식은 content.compression 기본값(4KB 이상 gzip)을 따른다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class BookJsonBenchmark {
+
+    // Spring MVC 가 쓰는 것과 같은 설정의 ObjectMapper
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    @Param({ "10000", "1000000", "10000000" })
+    public int contentChars;
+
+    private Book book;
+    private BookContent stored;
+
+    @Setup
+    public void setUp() {
+        String content = Texts.novel(contentChars);
+        book = new Book();
+        book.setBookId(1L);
+        book.setTitle("걷다가 만난 서재");
+        book.setAuthorId(2L);
+        book.setStatus("PUBLISHED");
+        book.setViewCount(0);
+        book.setIsBestseller(false);
+        book.setCreatedAt(new Date());
+        book.setContent(content);
+
+        stored = new BookContent();
+        stored.setBookId(1L);
+        stored.write(content, true, 4096);
+    }
+
+    @Benchmark
+    public void renderBookJson() throws Exception {
+        MAPPER.writeValue(OutputStream.nullOutputStream(), book);
+    }
+
+    @Benchmark
+    public String decodeContent() {
+        return stored.text();
+    }
+
+    @Benchmark
+    public long streamContent() throws Exception {
+        try (InputStream in = BookContent.openStream(stored.getData(), stored.getEncoding())) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
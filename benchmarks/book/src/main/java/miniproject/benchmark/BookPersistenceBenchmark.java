@@ -0,0 +1,81 @@
+package miniproject.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Book 행을 트랜잭션 하나에 rows 개씩 insert 한 뒤 그 도서들의 상태를 한 번 더 바꾸는 비용 (H2 인메모리, Hikari).
+ * 출간 요청(insert) 후 출간 처리(update)처럼 같은 트랜잭션 안에서 insert 와 update 가 섞이는 경우다.
+ * 본문(BookContent)은 빼고 도서 행만 잰다. config 는 PersistenceSetup 참고.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookPersistenceBenchmark {
+
+    @Param({ "baseline", "tuned" })
+    public String config;
+
+    @Param({ "1", "100", "1000" })
+    public int rows;
+
+    private PersistenceSetup db;
+    private long authorId;
+
+    @Setup(Level.Trial)
+    public void open() {
+        db = new PersistenceSetup(config, Book.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        db.truncate("book_table");
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        db.close();
+    }
+
+    @Benchmark
+    public void insertAndPublish() {
+        long author = ++authorId;
+        db.inTransaction(session -> {
+            Book[] books = new Book[rows];
+            for (int i = 0; i < rows; i++) {
+                Book book = new Book();
+                book.setTitle("걷다가 만난 서재 " + i);
+                book.setAuthorId(author);
+                book.setStatus("DRAFT");
+                book.setViewCount(0);
+                book.setIsBestseller(false);
+                book.setCreatedAt(new Date());
+                session.persist(book);
+                books[i] = book;
+            }
+            session.flush();
+            Date now = new Date();
+            for (Book book : books) {
+                book.setStatus("PUBLISHED");
+                book.setPublishedAt(now);
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package miniproject.benchmark;
+
+/**
+ * 벤치마크용 본문. 장 제목과 문단이 섞인 한국어 텍스트를 원하는 길이로 만든다.
+ */
+final class Texts {
+
+    private static final String[] SENTENCES = {
+        "비가 그친 골목을 걸으며 그는 오래전 약속을 떠올렸다.",
+        "서재의 창문 너머로 늦은 오후의 빛이 길게 들어왔다.",
+        "그녀는 책장을 넘기다 말고 한참 동안 같은 문장을 바라보았다.",
+        "바람이 불 때마다 낡은 간판이 삐걱거리는 소리를 냈다.",
+        "누구도 그 편지의 마지막 줄을 끝까지 읽지 못했다.",
+    };
+
+    private Texts() {}
+
+    static String novel(int chars) {
+        StringBuilder builder = new StringBuilder(chars + 64);
+        int chapter = 1;
+        int sentence = 0;
+        builder.append("제").append(chapter++).append("장\n\n");
+        while (builder.length() < chars) {
+            builder.append(SENTENCES[sentence % SENTENCES.length]).append(' ');
+            sentence++;
+            if (sentence % 7 == 0) {
+                builder.append("\n\n");
+            }
+            if (sentence % 700 == 0) {
+                builder.append("제").append(chapter++).append("장\n\n");
+            }
+        }
+        builder.setLength(chars);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,74 @@
+package miniproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Manuscript;
+import miniproject.domain.ManuscriptChunker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 본문이 큰 원고 응답과 저장 준비 비용.
+ *  - renderManuscriptJson: GET /manuscripts/{id} 처럼 본문을 채운 Manuscript 를 JSON 으로 쓴다.
+ *  - split / splitAndHash: 저장할 때 본문을 조각으로 나누고 조각 해시를 구하는 비용 (ManuscriptContentStore.save).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ManuscriptJsonBenchmark {
+
+    // Spring MVC 가 쓰는 것과 같은 설정의 ObjectMapper
+    private static final ObjectMapper MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    @Param({ "10000", "1000000", "10000000" })
+    public int contentChars;
+
+    private Manuscript manuscript;
+
+    @Setup
+    public void setUp() {
+        manuscript = new Manuscript();
+        manuscript.setManuscriptId(1L);
+        manuscript.setAuthorId(2L);
+        manuscript.setTitle("걷다가 만난 서재");
+        manuscript.setStatus("DRAFT");
+        manuscript.setCreatedAt(new Date());
+        manuscript.setUpdatedAt(new Date());
+        manuscript.setContent(Texts.novel(contentChars));
+    }
+
+    @Benchmark
+    public void renderManuscriptJson() throws Exception {
+        MAPPER.writeValue(OutputStream.nullOutputStream(), manuscript);
+    }
+
+    @Benchmark
+    public List<String> split() {
+        return ManuscriptChunker.split(manuscript.getContent());
+    }
+
+    @Benchmark
+    public int splitAndHash() {
+        int length = 0;
+        for (String chunk : ManuscriptChunker.split(manuscript.getContent())) {
+            length += ManuscriptChunker.hash(chunk).length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,72 @@
+package miniproject.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Manuscript;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Manuscript 행을 트랜잭션 하나에 rows 개씩 insert 하는 비용 (H2 인메모리, Hikari).
+ * 본문(청크)은 빼고 원고 행만 잰다. config 는 PersistenceSetup 참고.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ManuscriptPersistenceBenchmark {
+
+    @Param({ "baseline", "tuned" })
+    public String config;
+
+    @Param({ "1", "100", "1000" })
+    public int rows;
+
+    private PersistenceSetup db;
+    private long authorId;
+
+    @Setup(Level.Trial)
+    public void open() {
+        db = new PersistenceSetup(config, Manuscript.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        db.truncate("manuscript_table");
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        db.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        long author = ++authorId;
+        db.inTransaction(session -> {
+            Date now = new Date();
+            for (int i = 0; i < rows; i++) {
+                Manuscript manuscript = new Manuscript();
+                manuscript.setAuthorId(author);
+                manuscript.setTitle("걷다가 만난 서재 " + i);
+                manuscript.setStatus("DRAFT");
+                manuscript.setCreatedAt(now);
+                manuscript.setUpdatedAt(now);
+                session.persist(manuscript);
+            }
+        });
+    }
+}
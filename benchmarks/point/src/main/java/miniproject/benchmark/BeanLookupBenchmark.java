@@ -0,0 +1,128 @@
+package miniproject.benchmark;
+
+import brave.Tracing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import miniproject.config.kafka.KafkaProcessor;
+import miniproject.domain.PointRepository;
+import miniproject.infra.EventMetrics;
+import miniproject.infra.EventTracing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * 호출마다 ApplicationContext.getBean 으로 의존성을 찾던 비용과 한 번 주입받은 필드를 읽는 비용.
+ *  - lookupPublish: 예전 AbstractEvent.publish() (KafkaProcessor, EventMetrics, EventTracing 세 번 조회)
+ *  - lookupRepository: 예전 엔티티 repository() (XxxRepository 한 번 조회)
+ *  - injected*: DomainEventPublisher / PolicyHandler 처럼 생성 때 받은 필드를 읽기만 한다
+ * 컨텍스트에는 filler 빈을 beans 개 더 올려 서비스 규모(수백 개)에 맞춘다. Kafka 전송 자체는 포함하지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanLookupBenchmark {
+
+    @Param({ "100", "1000" })
+    public int beans;
+
+    private GenericApplicationContext context;
+    private Tracing tracing;
+
+    private MessageChannel outputChannel;
+    private EventMetrics eventMetrics;
+    private EventTracing eventTracing;
+    private PointRepository pointRepository;
+
+    public static class Filler {}
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MessageChannel channel = (message, timeout) -> true;
+        tracing = Tracing.newBuilder().build();
+
+        context = new GenericApplicationContext();
+        for (int i = 0; i < beans; i++) {
+            context.registerBean("filler" + i, Filler.class, Filler::new);
+        }
+        context.registerBean(KafkaProcessor.class, () -> proxy(KafkaProcessor.class, channel));
+        context.registerBean(PointRepository.class, () -> proxy(PointRepository.class, null));
+        context.registerBean(EventMetrics.class, () -> new EventMetrics(new SimpleMeterRegistry()));
+        context.registerBean(EventTracing.class, () -> new EventTracing(tracing));
+        context.refresh();
+
+        outputChannel = context.getBean(KafkaProcessor.class).outboundTopic();
+        eventMetrics = context.getBean(EventMetrics.class);
+        eventTracing = context.getBean(EventTracing.class);
+        pointRepository = context.getBean(PointRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        tracing.close();
+    }
+
+    // Object 메서드 말고는 모두 result 를 돌려주는 빈 껍데기
+    private static <T> T proxy(Class<T> type, Object result) {
+        return type.cast(
+            Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[] { type },
+                (self, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return self == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        case "toString":
+                            return type.getSimpleName() + " stub";
+                        default:
+                            return result;
+                    }
+                }
+            )
+        );
+    }
+
+    @Benchmark
+    public void lookupPublish(Blackhole bh) {
+        bh.consume(context.getBean(KafkaProcessor.class).outboundTopic());
+        bh.consume(context.getBean(EventMetrics.class));
+        bh.consume(context.getBean(EventTracing.class));
+    }
+
+    @Benchmark
+    public void injectedPublish(Blackhole bh) {
+        bh.consume(outputChannel);
+        bh.consume(eventMetrics);
+        bh.consume(eventTracing);
+    }
+
+    @Benchmark
+    public PointRepository lookupRepository() {
+        return context.getBean(PointRepository.class);
+    }
+
+    @Benchmark
+    public PointRepository injectedRepository() {
+        return pointRepository;
+    }
+}
@@ -0,0 +1,70 @@
+package miniproject.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Point;
+import miniproject.domain.PointsUsed;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 이벤트 발행 직전까지의 비용: AbstractEvent(aggregate) 생성(BeanUtils 복사)과 toJson.
+ * toJson 은 호출마다 ObjectMapper 를 새로 만들므로, 공유 ObjectMapper 로 쓴 값을 기준선으로 같이 잰다.
+ * Kafka 전송 자체는 포함하지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventPublishBenchmark {
+
+    private static final ObjectMapper SHARED_MAPPER = new ObjectMapper();
+
+    private Point point;
+    private PointsUsed event;
+
+    @Setup
+    public void setUp() {
+        point = new Point();
+        point.setPointId(42L);
+        point.setUserId(7L);
+        point.setPointBalance(12000);
+        point.setPointType("USAGE");
+        point.setAmount(-1000);
+        point.setBookId(3L);
+        point.setDescription("도서 구매");
+        point.setCreatedAt(new Date());
+        event = new PointsUsed(point);
+    }
+
+    @Benchmark
+    public PointsUsed construct() {
+        return new PointsUsed(point);
+    }
+
+    @Benchmark
+    public String constructAndToJson() {
+        return new PointsUsed(point).toJson();
+    }
+
+    @Benchmark
+    public String toJson() {
+        return event.toJson();
+    }
+
+    @Benchmark
+    public String toJsonSharedMapper() throws Exception {
+        return SHARED_MAPPER.writeValueAsString(event);
+    }
+}
@@ -0,0 +1,73 @@
+package miniproject.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.function.Consumer;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.ImplicitNamingStrategyComponentPathImpl;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.springframework.boot.orm.jpa.hibernate.SpringPhysicalNamingStrategy;
+
+/**
+ * 벤치마크용 Hibernate 부트스트랩. 서비스 application.yml 의 두 설정을 그대로 옮긴다.
+ *  - baseline: persistence-baseline 프로파일 (insert 마다 시퀀스 왕복, 배치 없음, 자동 커밋)
+ *  - tuned: 기본 설정 (pooled-lo 시퀀스, jdbc batch 50, insert/update 정렬, H2 문장 캐시, 자동 커밋 끔)
+ * 스프링 컨텍스트 없이 띄우므로 JPA 콜백(이벤트 발행)은 끄고, insert 자체의 비용만 잰다.
+ */
+final class PersistenceSetup implements AutoCloseable {
+
+    private final HikariDataSource dataSource;
+    private final SessionFactory sessionFactory;
+
+    PersistenceSetup(String config, Class<?>... entities) {
+        boolean tuned = "tuned".equals(config);
+
+        HikariConfig hikari = new HikariConfig();
+        hikari.setJdbcUrl(
+            "jdbc:h2:mem:bench-" + config + ";DB_CLOSE_DELAY=-1" + (tuned ? ";QUERY_CACHE_SIZE=64" : "")
+        );
+        hikari.setUsername("sa");
+        hikari.setAutoCommit(!tuned);
+        dataSource = new HikariDataSource(hikari);
+
+        StandardServiceRegistryBuilder registry = new StandardServiceRegistryBuilder()
+            .applySetting("hibernate.connection.datasource", dataSource)
+            .applySetting("hibernate.hbm2ddl.auto", "create-drop")
+            .applySetting("hibernate.physical_naming_strategy", SpringPhysicalNamingStrategy.class.getName())
+            .applySetting("hibernate.implicit_naming_strategy", ImplicitNamingStrategyComponentPathImpl.class.getName())
+            .applySetting("hibernate.jpa_callbacks.enabled", "false")
+            .applySetting("hibernate.connection.provider_disables_autocommit", String.valueOf(tuned))
+            .applySetting("hibernate.id.optimizer.pooled.preferred", tuned ? "pooled-lo" : "none")
+            .applySetting("hibernate.jdbc.batch_size", tuned ? "50" : "0")
+            .applySetting("hibernate.order_inserts", String.valueOf(tuned))
+            .applySetting("hibernate.order_updates", String.valueOf(tuned));
+
+        MetadataSources sources = new MetadataSources(registry.build());
+        for (Class<?> entity : entities) {
+            sources.addAnnotatedClass(entity);
+        }
+        sessionFactory = sources.buildMetadata().buildSessionFactory();
+    }
+
+    void inTransaction(Consumer<Session> work) {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            work.accept(session);
+            transaction.commit();
+        }
+    }
+
+    // 반복마다 테이블을 비워 행 수가 측정 내내 늘어나지 않게 한다
+    void truncate(String table) {
+        inTransaction(session -> session.createNativeQuery("truncate table " + table).executeUpdate());
+    }
+
+    @Override
+    public void close() {
+        sessionFactory.close();
+        dataSource.close();
+    }
+}
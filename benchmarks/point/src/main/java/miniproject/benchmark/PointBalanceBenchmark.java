@@ -0,0 +1,182 @@
+package miniproject.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Point;
+import miniproject.domain.PointRepository;
+import miniproject.infra.PointController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 사용자 포인트 이력이 길어질 때 잔액 계산 비용.
+ *  - controllerBalance: PointController.getUserPointBalance 그대로 (가장 최근 이력 한 건의 잔액). 저장소는 미리 만든
+ *    최근 이력을 돌려주는 대역이라 DB 시간은 빠져 있다.
+ *  - jdbcFetchAll / jdbcLatestRow: H2 의 Point_table(ix_point_user_created) 에서 이력 전체를 읽어 가장 최근 행을 고르는
+ *    경우와 DB 에서 createdAt, pointId 역순으로 한 행만 받는 경우
+ *    (findFirstByUserIdOrderByCreatedAtDescPointIdDesc 와 같은 방식).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointBalanceBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final long START_MS = 1700000000000L;
+
+    @Param({ "10", "1000", "100000" })
+    public int history;
+
+    private PointController controller;
+    private Connection connection;
+    private PreparedStatement fetchAll;
+    private PreparedStatement latestRow;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        List<Point> points = new ArrayList<>(history);
+        for (int i = 0; i < history; i++) {
+            Point point = new Point();
+            point.setPointId((long) i);
+            point.setUserId(USER_ID);
+            point.setPointBalance(1000 + i);
+            point.setAmount(100);
+            point.setPointType("PURCHASE");
+            point.setCreatedAt(new Timestamp(START_MS + i));
+            points.add(point);
+        }
+        controller = new PointController();
+        Field field = ReflectionUtils.findField(PointController.class, "pointRepository");
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, controller, repository(points.get(points.size() - 1)));
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:points-" + history + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "create table Point_table (pointId bigint primary key, userId bigint, pointBalance int, " +
+                "pointType varchar(20), amount int, description varchar(255), bookId bigint, createdAt timestamp)"
+            );
+            statement.execute("create index ix_point_user_created on Point_table (userId, createdAt)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into Point_table (pointId, userId, pointBalance, pointType, amount, createdAt) " +
+            "values (?, ?, ?, 'PURCHASE', 100, ?)"
+        )) {
+            // 다른 사용자 이력도 섞어 둔다
+            for (int i = 0; i < history * 2; i++) {
+                insert.setLong(1, i);
+                insert.setLong(2, i % 2 == 0 ? USER_ID : USER_ID + 1 + i);
+                insert.setInt(3, 1000 + i);
+                insert.setTimestamp(4, new Timestamp(START_MS + i));
+                insert.addBatch();
+                if (i % 1000 == 999) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        fetchAll = connection.prepareStatement(
+            "select pointId, userId, pointBalance, pointType, amount, description, bookId, createdAt " +
+            "from Point_table where userId = ?"
+        );
+        latestRow = connection.prepareStatement(
+            "select pointBalance from Point_table where userId = ? order by createdAt desc, pointId desc limit 1"
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public Integer controllerBalance() {
+        return controller.getUserPointBalance(USER_ID).getBody();
+    }
+
+    @Benchmark
+    public int jdbcFetchAll() throws Exception {
+        fetchAll.setLong(1, USER_ID);
+        Point latest = null;
+        try (ResultSet rs = fetchAll.executeQuery()) {
+            while (rs.next()) {
+                Point point = new Point();
+                point.setPointId(rs.getLong(1));
+                point.setUserId(rs.getLong(2));
+                point.setPointBalance(rs.getInt(3));
+                point.setPointType(rs.getString(4));
+                point.setAmount(rs.getInt(5));
+                point.setDescription(rs.getString(6));
+                point.setBookId(rs.getLong(7));
+                point.setCreatedAt(rs.getTimestamp(8));
+                if (latest == null || isLater(point, latest)) {
+                    latest = point;
+                }
+            }
+        }
+        return latest != null ? latest.getPointBalance() : 0;
+    }
+
+    @Benchmark
+    public int jdbcLatestRow() throws Exception {
+        latestRow.setLong(1, USER_ID);
+        try (ResultSet rs = latestRow.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    private static boolean isLater(Point a, Point b) {
+        int byTime = a.getCreatedAt().compareTo(b.getCreatedAt());
+        return byTime != 0 ? byTime > 0 : a.getPointId() > b.getPointId();
+    }
+
+    // 최근 이력 조회(findFirstByUserIdOrderByCreatedAtDescPointIdDesc)만 미리 고른 한 건을 돌려주는 저장소 대역
+    private static PointRepository repository(Point latest) {
+        return (PointRepository) Proxy.newProxyInstance(
+            PointRepository.class.getClassLoader(),
+            new Class<?>[] { PointRepository.class },
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "findFirstByUserIdOrderByCreatedAtDescPointIdDesc":
+                        return Optional.of(latest);
+                    case "toString":
+                        return "PointRepository(benchmark)";
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "equals":
+                        return proxy == args[0];
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,74 @@
+package miniproject.benchmark;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Point 행을 트랜잭션 하나에 rows 개씩 insert 하는 비용 (H2 인메모리, Hikari).
+ * rows=1 은 POST /points/use 처럼 요청마다 한 행, 큰 값은 일괄 적립 같은 벌크 insert 다.
+ * config 는 PersistenceSetup 참고 (baseline: persistence-baseline 프로파일, tuned: 기본 설정).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PointPersistenceBenchmark {
+
+    @Param({ "baseline", "tuned" })
+    public String config;
+
+    @Param({ "1", "100", "1000" })
+    public int rows;
+
+    private PersistenceSetup db;
+    private long userId;
+
+    @Setup(Level.Trial)
+    public void open() {
+        db = new PersistenceSetup(config, Point.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        db.truncate("point_table");
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        db.close();
+    }
+
+    @Benchmark
+    public void insert() {
+        long user = ++userId;
+        db.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                Point point = new Point();
+                point.setUserId(user);
+                point.setPointBalance(10000 - i);
+                point.setAmount(-1);
+                point.setPointType("USAGE");
+                point.setBookId((long) i);
+                point.setDescription("도서 구매");
+                point.setCreatedAt(new Date());
+                session.persist(point);
+            }
+        });
+    }
+}
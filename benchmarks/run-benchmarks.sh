@@ -0,0 +1,44 @@
+#!/bin/bash
+# JMH 벤치마크 실행. 결과는 benchmarks/results/<모듈>.json 으로 남기고,
+# 핫패스를 건드리는 PR 에서는 이 파일들의 변화를 같이 올려 리뷰에서 비교한다.
+#
+#   ./benchmarks/run-benchmarks.sh              # 전체
+#   ./benchmarks/run-benchmarks.sh point book   # 일부 모듈만
+#   JMH_ARGS="-f 2 -wi 5" ./benchmarks/run-benchmarks.sh ai
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+RESULTS="$ROOT/benchmarks/results"
+MODULES=${@:-"ai author book content-writing point"}
+
+service_dir() {
+    case "$1" in
+        ai) echo ai_system_management ;;
+        author) echo author_management ;;
+        book) echo book_management ;;
+        content-writing) echo content_writing_management ;;
+        point) echo point_management ;;
+    esac
+}
+
+mkdir -p "$RESULTS"
+
+echo "📦 Installing service jars..."
+for module in $MODULES; do
+    mvn -q -B -DskipTests install -f "$ROOT/$(service_dir "$module")/pom.xml"
+done
+
+echo "🔨 Building benchmarks..."
+PROJECTS=$(echo $MODULES | tr ' ' ',')
+(cd "$ROOT/benchmarks" && mvn -q -B package -pl "$PROJECTS")
+
+for module in $MODULES; do
+    echo "⏱️  Running $module benchmarks..."
+    # 할당량(gc.alloc.rate.norm)도 같이 남긴다
+    java -jar "$ROOT/benchmarks/$module/target/benchmarks.jar" \
+        -prof gc \
+        -rf json -rff "$RESULTS/$module.json" \
+        $JMH_ARGS
+done
+
+echo "✅ Results: $RESULTS"
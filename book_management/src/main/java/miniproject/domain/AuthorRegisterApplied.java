@@ -0,0 +1,16 @@
+package miniproject.domain;
+
+import java.util.*;
+import lombok.*;
+import miniproject.domain.*;
+import miniproject.infra.AbstractEvent;
+
+@Data
+@ToString
+public class AuthorRegisterApplied extends AbstractEvent {
+
+    private Long authorId;
+    private String authorName;
+    private Date approvedAt;
+    private String email;
+}
@@ -8,31 +8,46 @@ import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.BookManagementApplication;
 import miniproject.domain.BookRegistered;
 import miniproject.domain.DesignatedAsBestseller;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "Book_table")
+@Table(
+    name = "Book_table",
+    indexes = {
+        @Index(name = "ix_book_author_status", columnList = "authorId, status"),
+        @Index(name = "ix_book_status", columnList = "status"),
+    }
+)
+// 2차 캐시 (영역 설정은 application.conf). JPA 로 고치면 커밋 때 캐시도 같이 고쳐진다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 //<<< DDD / Aggregate Root
 public class Book {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_seq")
+    @SequenceGenerator(name = "book_seq", sequenceName = "book_seq", allocationSize = 50)
     private Long bookId;
 
     private String title;
 
     private Long authorId;
 
-    @Lob
-    private String content; // 원고 내용
+    @Transient
+    private String content; // 원고 내용 (BookContent_table 에 따로 저장)
+
+    @Transient
+    private Integer contentLength; // 본문 글자 수 (목록 응답은 본문 대신 이것만 싣는다)
 
     @Lob
     private String coverImage; // 표지 이미지 URL
 
-    private Integer viewCount;
+    @Transient
+    private Integer viewCount; // 누적 조회수 (BookViewCount_table 에 따로 저장)
 
     private Boolean isBestseller;
 
@@ -51,11 +66,7 @@ public class Book {
         
         BookRegistered bookRegistered = new BookRegistered(this);
         bookRegistered.publishAfterCommit();
-
-        DesignatedAsBestseller designatedAsBestseller = new DesignatedAsBestseller(
-            this
-        );
-        designatedAsBestseller.publishAfterCommit();
+        // DesignatedAsBestseller 는 순위에 들 때 BestsellerRanking 이 발행한다
     }
 
     @PrePersist
@@ -63,19 +74,9 @@ public class Book {
         if (this.createdAt == null) {
             this.createdAt = new Date();
         }
-        if (this.viewCount == null) {
-            this.viewCount = 0;
-        }
         if (this.isBestseller == null) {
             this.isBestseller = false;
         }
     }
-
-    public static BookRepository repository() {
-        BookRepository bookRepository = BookManagementApplication.applicationContext.getBean(
-            BookRepository.class
-        );
-        return bookRepository;
-    }
 }
 //>>> DDD / Aggregate Root
@@ -0,0 +1,21 @@
+package miniproject.domain;
+
+import java.util.Date;
+import javax.persistence.*;
+import lombok.Data;
+
+// 검색 색인에 작가 이름을 넣기 위한 작가 ID → 이름 사본 (AuthorRegisterApplied 로 채운다)
+//<<< EDA / CQRS
+@Entity
+@Table(name = "BookAuthor_table")
+@Data
+public class BookAuthor {
+
+    @Id
+    private Long authorId;
+
+    private String authorName;
+
+    private Date updatedAt;
+}
+//>>> EDA / CQRS
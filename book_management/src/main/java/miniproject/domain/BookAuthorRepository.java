@@ -0,0 +1,10 @@
+package miniproject.domain;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+//<<< PoEAA / Repository
+@RepositoryRestResource(exported = false)
+public interface BookAuthorRepository
+    extends CrudRepository<BookAuthor, Long> {}
+//>>> PoEAA / Repository
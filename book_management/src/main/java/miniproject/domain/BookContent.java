@@ -0,0 +1,121 @@
+package miniproject.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 도서 본문. Book 행에서 분리해 두어 조회수 증가, 출간 같은 메타데이터 작업이
+ * 본문을 읽거나 dirty checking 하지 않도록 한다. 본문이 필요한 곳에서만 bookId 로 읽는다.
+ */
+@Entity
+@Table(name = "BookContent_table")
+@Data
+public class BookContent {
+
+    public static final String PLAIN = "plain";
+    public static final String GZIP = "gzip";
+
+    @Id
+    private Long bookId;
+
+    // 엔티티를 읽으면 본문도 같이 읽힌다 (bytecode enhancement 없이는 지연 로딩이 안 된다).
+    // 메타데이터만 필요한 곳은 Info projection 으로 읽는다
+    @Lob
+    @ToString.Exclude
+    private byte[] data;
+
+    private String encoding; // plain, gzip
+
+    private Integer length; // 원문 글자 수
+
+    private Long size; // 원문 UTF-8 바이트 수 (Range 요청 기준)
+
+    @Column(length = 64)
+    private String hash; // 원문 SHA-256 (ETag)
+
+    private Date updatedAt;
+
+    // 본문을 UTF-8 로 저장한다. minBytes 이상이면 gzip 으로 압축해서 저장
+    public void write(String text, boolean compress, int minBytes) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (compress && raw.length >= minBytes) {
+            this.data = gzip(raw);
+            this.encoding = GZIP;
+        } else {
+            this.data = raw;
+            this.encoding = PLAIN;
+        }
+        this.length = text.length();
+        this.size = (long) raw.length;
+        this.hash = sha256(raw);
+        this.updatedAt = new Date();
+    }
+
+    public String text() {
+        if (data == null) {
+            return null;
+        }
+        if (GZIP.equals(encoding)) {
+            return new String(gunzip(data), StandardCharsets.UTF_8);
+        }
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    // 저장된 바이트 스트림(JDBC BLOB 스트림)을 압축을 풀면서 읽는 UTF-8 바이트 스트림으로 바꾼다
+    public static InputStream openStream(InputStream data, String encoding) throws IOException {
+        InputStream in = data != null ? data : new ByteArrayInputStream(new byte[0]);
+        return GZIP.equals(encoding) ? new GZIPInputStream(in) : in;
+    }
+
+    private static String sha256(byte[] raw) {
+        try {
+            byte[] hashed = MessageDigest.getInstance("SHA-256").digest(raw);
+            StringBuilder hex = new StringBuilder(hashed.length * 2);
+            for (byte b : hashed) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+                hex.append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(raw);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gunzip(byte[] compressed) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 3);
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
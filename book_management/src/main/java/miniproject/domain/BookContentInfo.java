@@ -0,0 +1,12 @@
+package miniproject.domain;
+
+// 본문 없이 크기와 해시만 읽기 위한 projection (ETag, Range 계산용)
+public interface BookContentInfo {
+    Long getBookId();
+
+    String getHash();
+
+    Long getSize();
+
+    Integer getLength();
+}
@@ -0,0 +1,29 @@
+package miniproject.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+//<<< PoEAA / Repository
+@RepositoryRestResource(exported = false)
+public interface BookContentRepository
+    extends CrudRepository<BookContent, Long> {
+    
+    @Query(
+        "select c.bookId as bookId, c.hash as hash, c.size as size, c.length as length " +
+        "from BookContent c where c.bookId = :bookId"
+    )
+    Optional<BookContentInfo> findInfoByBookId(@Param("bookId") Long bookId);
+    
+    // 목록 응답용 (본문 제외)
+    @Query(
+        "select c.bookId as bookId, c.hash as hash, c.size as size, c.length as length " +
+        "from BookContent c where c.bookId in :bookIds"
+    )
+    List<BookContentInfo> findInfoByBookIds(@Param("bookIds") Collection<Long> bookIds);
+}
+//>>> PoEAA / Repository
@@ -1,10 +1,18 @@
 package miniproject.domain;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 import miniproject.domain.*;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 //<<< PoEAA / Repository
 public interface BookRepository
@@ -14,6 +22,8 @@ public interface BookRepository
     List<Book> findByAuthorId(Long authorId);
     
     // 상태별 도서 조회 (출간된 도서만)
+    // 쿼리 캐시: 결과 id 만 캐시하고 도서는 2차 캐시에서 꺼낸다. Book_table 이 바뀌면 통째로 무효화된다
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<Book> findByStatus(String status);
     
     // 작가별 상태별 도서 조회
@@ -22,4 +32,22 @@ public interface BookRepository
     // 모든 도서 조회
     @Query("SELECT b FROM Book b")
     List<Book> findAllBooks();
+    
+    // 베스트셀러로 표시된 도서 ID
+    @Query("SELECT b.bookId FROM Book b WHERE b.isBestseller = true")
+    List<Long> findBestsellerIds();
+    
+    // 베스트셀러 표시를 고치기 전에 행 잠금 (여러 인스턴스의 순위 갱신이 겹쳐도 한 번만 지정)
+    @RestResource(exported = false)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.bookId IN :bookIds")
+    List<Book> findAllForUpdate(@Param("bookIds") Collection<Long> bookIds);
+    
+    // 상태별 도서를 bookId 순으로 나눠 읽기 (검색 색인 재구축용 keyset 페이지)
+    @Query("SELECT b FROM Book b WHERE b.status = :status AND b.bookId > :afterId ORDER BY b.bookId")
+    List<Book> findPageByStatus(
+        @Param("status") String status,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
 }
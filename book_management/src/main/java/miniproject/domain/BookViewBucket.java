@@ -0,0 +1,28 @@
+package miniproject.domain;
+
+import javax.persistence.*;
+import lombok.Data;
+
+/**
+ * 도서별 시간 버킷 조회수 (베스트셀러 일간/주간 윈도우). 인스턴스마다 따로 세지 않고 DB 에 모아서
+ * 어느 인스턴스든 같은 순위를 계산한다. BookViewCount 처럼 캐시하지 않는다.
+ */
+@Entity
+@Table(
+    name = "BookViewBucket_table",
+    indexes = @Index(name = "ux_book_view_bucket", columnList = "bucketStart, bookId", unique = true)
+)
+@Data
+public class BookViewBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_view_bucket_seq")
+    @SequenceGenerator(name = "book_view_bucket_seq", sequenceName = "book_view_bucket_seq", allocationSize = 50)
+    private Long bucketId;
+
+    private Long bookId;
+
+    private Long bucketStart; // 버킷 시작 시각 (epoch ms, 버킷 크기 단위로 내림)
+
+    private Integer views;
+}
@@ -0,0 +1,37 @@
+package miniproject.domain;
+
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+//<<< PoEAA / Repository
+@RepositoryRestResource(exported = false)
+public interface BookViewBucketRepository
+    extends CrudRepository<BookViewBucket, Long> {
+    
+    // DB 에서 1 올린다. 이 버킷의 행이 아직 없으면 0 (BookViewCounter 가 만들고 다시 부른다)
+    @Modifying
+    @Query(
+        "UPDATE BookViewBucket b SET b.views = b.views + 1 " +
+        "WHERE b.bucketStart = :bucketStart AND b.bookId = :bookId"
+    )
+    int increment(@Param("bookId") Long bookId, @Param("bucketStart") Long bucketStart);
+    
+    // since 이후 버킷의 도서별 합계를 많은 순으로 (ux_book_view_bucket 의 bucketStart 범위)
+    @Query(
+        "SELECT b.bookId AS bookId, SUM(b.views) AS views FROM BookViewBucket b " +
+        "WHERE b.bucketStart >= :since GROUP BY b.bookId HAVING SUM(b.views) >= :minViews " +
+        "ORDER BY SUM(b.views) DESC, b.bookId"
+    )
+    List<BookViews> findTop(@Param("since") Long since, @Param("minViews") Long minViews, Pageable pageable);
+    
+    // 가장 긴 윈도우보다 오래된 버킷 정리
+    @Modifying
+    @Query("DELETE FROM BookViewBucket b WHERE b.bucketStart < :before")
+    int deleteOlderThan(@Param("before") Long before);
+}
+//>>> PoEAA / Repository
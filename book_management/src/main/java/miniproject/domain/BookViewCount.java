@@ -0,0 +1,19 @@
+package miniproject.domain;
+
+import javax.persistence.*;
+import lombok.Data;
+
+/**
+ * 도서별 누적 조회수. 조회마다 바뀌므로 2차 캐시에 올린 Book 행과 떼어 두고 이 엔티티는 캐시하지 않는다
+ * (조회수 증가가 Book 캐시 영역이나 findByStatus 쿼리 캐시를 비우지 않는다).
+ */
+@Entity
+@Table(name = "BookViewCount_table")
+@Data
+public class BookViewCount {
+
+    @Id
+    private Long bookId;
+
+    private Integer viewCount;
+}
@@ -0,0 +1,29 @@
+package miniproject.domain;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+//<<< PoEAA / Repository
+@RepositoryRestResource(exported = false)
+public interface BookViewCountRepository
+    extends CrudRepository<BookViewCount, Long> {
+    
+    // DB 에서 1 올린다. 행이 아직 없으면 0 (BookViewCounter 가 만들고 다시 부른다)
+    @Modifying
+    @Query("UPDATE BookViewCount c SET c.viewCount = c.viewCount + 1 WHERE c.bookId = :bookId")
+    int increment(@Param("bookId") Long bookId);
+    
+    // 영속성 컨텍스트가 아니라 DB 의 현재 값을 읽는다
+    @Query("SELECT c.viewCount FROM BookViewCount c WHERE c.bookId = :bookId")
+    Integer findViewCount(@Param("bookId") Long bookId);
+    
+    // 목록 응답용
+    @Query("SELECT c FROM BookViewCount c WHERE c.bookId IN :bookIds")
+    List<BookViewCount> findByBookIds(@Param("bookIds") Collection<Long> bookIds);
+}
+//>>> PoEAA / Repository
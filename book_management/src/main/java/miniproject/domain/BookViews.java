@@ -0,0 +1,8 @@
+package miniproject.domain;
+
+// 윈도우 안의 도서별 조회수 합 (베스트셀러 순위용 projection)
+public interface BookViews {
+    Long getBookId();
+
+    Long getViews();
+}
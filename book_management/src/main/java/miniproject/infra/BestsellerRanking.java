@@ -0,0 +1,224 @@
+package miniproject.infra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import miniproject.domain.Book;
+import miniproject.domain.BookRepository;
+import miniproject.domain.BookViewBucketRepository;
+import miniproject.domain.BookViews;
+import miniproject.domain.DesignatedAsBestseller;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 베스트셀러 순위.
+ * 조회수는 BookViewCounter 가 DB 의 시간 버킷(BookViewBucket_table)에 쌓으므로 인스턴스가 몇 개든,
+ * 재기동하든 같은 윈도우를 본다. refresh 주기마다 일간(최근 24시간)/주간(최근 7일) 버킷 합계로
+ * 출간된 도서 중 상위 K 개 순위표를 만들어 메모리에 올려 둔다 (GET /books/bestsellers 는 여기서 바로 응답).
+ * 일간이나 주간 순위에 든 도서가 베스트셀러이다. Book.isBestseller 는 행 잠금을 잡고 값이 실제로
+ * 바뀔 때만 고치고, false 에서 true 로 바꾼 쪽만 DesignatedAsBestseller 를 발행한다
+ * (여러 인스턴스가 같은 순위를 계산해도 지정 이벤트는 한 번).
+ */
+@Component
+public class BestsellerRanking {
+
+    private static final Logger logger = LoggerFactory.getLogger(BestsellerRanking.class);
+
+    public static final String DAILY = "daily";
+    public static final String WEEKLY = "weekly";
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+    private static final long WEEK_MS = 7 * DAY_MS;
+
+    private final BookRepository bookRepository;
+    private final BookViewBucketRepository bookViewBucketRepository;
+    private final BookViewCounter bookViewCounter;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledExecutorService refresher;
+
+    private final int topK;
+    private final long minViews;
+    private final long refreshMs;
+
+    // refresh 때마다 통째로 바꿔 끼운다
+    private volatile Map<String, List<Entry>> rankings = Collections.emptyMap();
+
+    public BestsellerRanking(
+        BookRepository bookRepository,
+        BookViewBucketRepository bookViewBucketRepository,
+        BookViewCounter bookViewCounter,
+        PlatformTransactionManager transactionManager,
+        @Value("${book.bestseller.top-k:10}") int topK,
+        @Value("${book.bestseller.min-views:5}") long minViews,
+        @Value("${book.bestseller.refresh-ms:10000}") long refreshMs
+    ) {
+        this.bookRepository = bookRepository;
+        this.bookViewBucketRepository = bookViewBucketRepository;
+        this.bookViewCounter = bookViewCounter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topK = topK;
+        this.minViews = minViews;
+        this.refreshMs = refreshMs;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "bestseller-ranking");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        refresher.scheduleWithFixedDelay(this::refresh, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    // 윈도우(daily/weekly)별 순위표 앞쪽 limit 개. 모르는 윈도우면 null
+    public List<Entry> top(String window, int limit) {
+        if (!DAILY.equals(window) && !WEEKLY.equals(window)) {
+            return null;
+        }
+        List<Entry> ranking = rankings.getOrDefault(window, Collections.emptyList());
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    private void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            // 출간되지 않은 도서를 걸러도 K 개가 남도록 넉넉히 뽑는다
+            List<BookViews> dailyTop = top(now, DAY_MS);
+            List<BookViews> weeklyTop = top(now, WEEK_MS);
+
+            Set<Long> candidates = new LinkedHashSet<>();
+            dailyTop.forEach(e -> candidates.add(e.getBookId()));
+            weeklyTop.forEach(e -> candidates.add(e.getBookId()));
+            Map<Long, Book> published = new HashMap<>();
+            for (Book book : bookRepository.findAllById(candidates)) {
+                if ("PUBLISHED".equals(book.getStatus())) {
+                    published.put(book.getBookId(), book);
+                }
+            }
+
+            Map<String, List<Entry>> next = new HashMap<>();
+            next.put(DAILY, rank(dailyTop, published));
+            next.put(WEEKLY, rank(weeklyTop, published));
+            rankings = next;
+
+            Set<Long> members = new HashSet<>();
+            next.values().forEach(list -> list.forEach(entry -> members.add(entry.bookId)));
+            updateMembers(members);
+
+            // 주간 윈도우보다 오래된 버킷은 더 쓰지 않는다
+            transactionTemplate.execute(status ->
+                bookViewBucketRepository.deleteOlderThan(windowStart(now, WEEK_MS)));
+        } catch (Exception e) {
+            logger.error("베스트셀러 순위 갱신 실패", e);
+        }
+    }
+
+    // 현재 버킷을 포함해 window 길이만큼의 버킷 합계
+    private List<BookViews> top(long now, long window) {
+        return bookViewBucketRepository.findTop(windowStart(now, window), minViews, PageRequest.of(0, topK * 2));
+    }
+
+    private long windowStart(long now, long window) {
+        long bucketMs = bookViewCounter.getBucketMs();
+        return bookViewCounter.bucketStart(now) - (window / bucketMs - 1) * bucketMs;
+    }
+
+    private List<Entry> rank(List<BookViews> top, Map<Long, Book> published) {
+        List<Entry> ranking = new ArrayList<>(topK);
+        for (BookViews counted : top) {
+            Book book = published.get(counted.getBookId());
+            if (book == null) {
+                continue;
+            }
+            Entry entry = new Entry();
+            entry.rank = ranking.size() + 1;
+            entry.bookId = book.getBookId();
+            entry.title = book.getTitle();
+            entry.authorId = book.getAuthorId();
+            entry.coverImage = book.getCoverImage();
+            entry.views = counted.getViews();
+            ranking.add(entry);
+            if (ranking.size() == topK) {
+                break;
+            }
+        }
+        return ranking;
+    }
+
+    private void updateMembers(Set<Long> members) {
+        // 바뀔 후보는 DB 의 현재 표시와 비교해서 고른다 (인스턴스마다 따로 기억하지 않는다)
+        Set<Long> marked = new HashSet<>(bookRepository.findBestsellerIds());
+        Set<Long> changed = new HashSet<>(members);
+        changed.removeAll(marked);
+        Set<Long> removed = new HashSet<>(marked);
+        removed.removeAll(members);
+        changed.addAll(removed);
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        // 행 잠금 뒤의 값으로 다시 확인해서, 다른 인스턴스가 먼저 고친 도서는 건너뛴다.
+        // 읽어 온 엔티티를 고쳐서 Book 캐시 영역에서는 바뀐 도서 항목만 갱신된다 (조회수는 Book 행에 없다)
+        List<Long> designated = new ArrayList<>();
+        List<Long> dropped = new ArrayList<>();
+        transactionTemplate.execute(status -> {
+            for (Book book : bookRepository.findAllForUpdate(changed)) {
+                boolean member = members.contains(book.getBookId());
+                if (member == Boolean.TRUE.equals(book.getIsBestseller())) {
+                    continue;
+                }
+                book.setIsBestseller(member);
+                if (member) {
+                    DesignatedAsBestseller designatedAsBestseller = new DesignatedAsBestseller(book);
+                    designatedAsBestseller.publishAfterCommit();
+                    designated.add(book.getBookId());
+                } else {
+                    dropped.add(book.getBookId());
+                }
+            }
+            return null;
+        });
+        if (!designated.isEmpty() || !dropped.isEmpty()) {
+            logger.info("베스트셀러 변경: 추가 {}, 제외 {}", designated, dropped);
+        }
+    }
+
+    public static class Entry {
+        private int rank;
+        private Long bookId;
+        private String title;
+        private Long authorId;
+        private String coverImage;
+        private long views;
+
+        public int getRank() { return rank; }
+        public Long getBookId() { return bookId; }
+        public String getTitle() { return title; }
+        public Long getAuthorId() { return authorId; }
+        public String getCoverImage() { return coverImage; }
+        public long getViews() { return views; }
+    }
+}
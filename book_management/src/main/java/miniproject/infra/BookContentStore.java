@@ -0,0 +1,218 @@
+package miniproject.infra;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import miniproject.domain.Book;
+import miniproject.domain.BookContent;
+import miniproject.domain.BookContentInfo;
+import miniproject.domain.BookContentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * BookContent_table 읽기/쓰기. Book.content 는 DB 컬럼이 아니므로(@Transient)
+ * 응답에 본문이 필요한 곳에서 여기로 채워 넣는다. 목록 응답에는 본문 대신 글자 수만 싣고,
+ * 본문 읽기는 BLOB 스트림에서 바로 흘려 보낸다.
+ */
+@Component
+public class BookContentStore {
+
+    // 장 제목 줄 (제1장, 제 3 화, Chapter 2, 프롤로그 ...)
+    private static final Pattern CHAPTER_HEADING = Pattern.compile(
+        "^\\s*(제\\s*\\d+\\s*[장화편부]|chapter\\s+\\d+|프롤로그|에필로그|prologue|epilogue)",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    @Autowired
+    BookContentRepository bookContentRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${content.compression.enabled:true}")
+    private boolean compress;
+
+    @Value("${content.compression.min-bytes:4096}")
+    private int minBytes;
+
+    public String load(Long bookId) {
+        return bookContentRepository.findById(bookId).map(BookContent::text).orElse(null);
+    }
+
+    public Optional<BookContentInfo> info(Long bookId) {
+        return bookContentRepository.findInfoByBookId(bookId);
+    }
+
+    /**
+     * 본문 스트림을 reader 에 넘긴다. BLOB 을 byte[] 로 올리지 않고 JDBC 스트림에서 압축을 풀면서 읽으며,
+     * 스트림은 reader 안에서만 유효하다 (끝나면 커넥션을 돌려준다). 본문이 없으면 빈 스트림.
+     */
+    public <T> T read(Long bookId, ContentReader<T> reader) throws IOException {
+        try {
+            return jdbcTemplate.query(
+                "select encoding, data from book_content_table where book_id = ?",
+                rs -> {
+                    String encoding = null;
+                    InputStream data = null;
+                    if (rs.next()) {
+                        encoding = rs.getString("encoding");
+                        data = rs.getBinaryStream("data");
+                    }
+                    try (InputStream in = BookContent.openStream(data, encoding)) {
+                        return reader.read(in);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                bookId
+            );
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // UTF-8 바이트 구간 [start, end] 를 그대로 흘려 보낸다 (Range 요청)
+    public void writeBytes(Long bookId, long start, long end, OutputStream out) throws IOException {
+        read(bookId, in -> {
+            long skipped = 0;
+            while (skipped < start) {
+                long n = in.skip(start - skipped);
+                if (n <= 0) {
+                    return null;
+                }
+                skipped += n;
+            }
+            byte[] buffer = new byte[8192];
+            long remaining = end - start + 1;
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            return null;
+        });
+    }
+
+    // offset 번째 글자부터 limit 글자를 흘려 보낸다
+    public void writeChars(Long bookId, long offset, int limit, Writer out) throws IOException {
+        read(bookId, in -> {
+            Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+            long skipped = 0;
+            while (skipped < offset) {
+                long n = reader.skip(offset - skipped);
+                if (n <= 0) {
+                    return null;
+                }
+                skipped += n;
+            }
+            char[] buffer = new char[8192];
+            int remaining = limit;
+            while (remaining > 0) {
+                int read = reader.read(buffer, 0, Math.min(buffer.length, remaining));
+                if (read == -1) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            return null;
+        });
+        out.flush();
+    }
+
+    // chapter 번째 장(1부터)을 흘려 보낸다. 장 제목이 없는 본문은 전체가 1장
+    public void writeChapter(Long bookId, int chapter, Writer out) throws IOException {
+        read(bookId, in -> {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            int current = 1;
+            boolean seenText = false;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // 첫 장 제목 앞에 아무 내용도 없으면 그 제목이 1장이다
+                if (seenText && CHAPTER_HEADING.matcher(line).find()) {
+                    current++;
+                    if (current > chapter) {
+                        break;
+                    }
+                }
+                if (!line.trim().isEmpty()) {
+                    seenText = true;
+                }
+                if (current == chapter) {
+                    out.write(line);
+                    out.write('\n');
+                }
+            }
+            return null;
+        });
+        out.flush();
+    }
+
+    public void save(Long bookId, String text) {
+        if (text == null) {
+            return;
+        }
+        BookContent content = bookContentRepository.findById(bookId).orElseGet(() -> {
+            BookContent created = new BookContent();
+            created.setBookId(bookId);
+            return created;
+        });
+        content.write(text, compress, minBytes);
+        bookContentRepository.save(content);
+    }
+
+    public void delete(Long bookId) {
+        if (bookContentRepository.existsById(bookId)) {
+            bookContentRepository.deleteById(bookId);
+        }
+    }
+
+    // 단건 응답은 본문까지 채운다
+    public Book fill(Book book) {
+        String content = load(book.getBookId());
+        book.setContent(content);
+        book.setContentLength(content != null ? content.length() : null);
+        return book;
+    }
+
+    // 목록 응답에는 본문을 싣지 않고 글자 수만 채운다 (IN 쿼리 한 번, BLOB 은 읽지 않는다)
+    public List<Book> describe(List<Book> books) {
+        List<Long> ids = new ArrayList<>(books.size());
+        for (Book book : books) {
+            ids.add(book.getBookId());
+        }
+        Map<Long, Integer> lengths = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (BookContentInfo info : bookContentRepository.findInfoByBookIds(ids)) {
+                lengths.put(info.getBookId(), info.getLength());
+            }
+        }
+        for (Book book : books) {
+            book.setContentLength(lengths.get(book.getBookId()));
+        }
+        return books;
+    }
+
+    @FunctionalInterface
+    public interface ContentReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+}
@@ -1,5 +1,10 @@
 package miniproject.infra;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 import javax.transaction.Transactional;
@@ -8,7 +13,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -21,18 +33,78 @@ public class BookController {
 
     private static final Logger logger = LoggerFactory.getLogger(BookController.class);
 
+    private static final MediaType TEXT_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    // 글자 단위 페이지 크기 (기본/최대)
+    private static final int DEFAULT_PAGE_CHARS = 20000;
+    private static final int MAX_PAGE_CHARS = 200000;
+
+    // 검색 결과 페이지 크기 (기본/최대)와 넘겨 볼 수 있는 최대 순위
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 50;
+    private static final int MAX_SEARCH_WINDOW = 1000;
+
     @Autowired
     BookRepository bookRepository;
 
+    @Autowired
+    BookContentStore bookContentStore;
+
+    @Autowired
+    BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    BookViewCounter bookViewCounter;
+
+    @Autowired
+    BestsellerRanking bestsellerRanking;
+
     // 모든 도서 조회
     @GetMapping(value = "")
     public ResponseEntity<List<Book>> getAllBooks() {
         logger.info("GET /books - 모든 도서 조회");
-        List<Book> books = bookRepository.findAllBooks();
+        List<Book> books = bookViewCounter.fill(bookContentStore.describe(bookRepository.findAllBooks()));
         logger.info("조회된 도서 수: {}", books.size());
         return ResponseEntity.ok(books);
     }
 
+    // 도서 검색 (출간된 도서의 제목/작가 이름/본문, 점수 순)
+    @GetMapping("/search")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public ResponseEntity<BookSearchIndex.Result> searchBooks(
+        @RequestParam String q,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(required = false) Integer size
+    ) throws IOException {
+        logger.info("GET /books/search - 도서 검색: q={}, page={}, size={}", q, page, size);
+        int count = size != null ? size : DEFAULT_SEARCH_SIZE;
+        if (q.trim().isEmpty() || page < 0 || count < 1 || count > MAX_SEARCH_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        if ((long) (page + 1) * count > MAX_SEARCH_WINDOW) {
+            logger.warn("검색 페이지 범위 초과: page={}, size={}", page, count);
+            return ResponseEntity.badRequest().build();
+        }
+        BookSearchIndex.Result result = bookSearchIndex.search(q, page, count);
+        logger.info("검색 결과: {}건 (전체 {})", result.getHits().size(), result.getTotal());
+        return ResponseEntity.ok(result);
+    }
+
+    // 베스트셀러 순위 (window=daily|weekly). 메모리의 순위표에서 바로 응답한다
+    @GetMapping("/bestsellers")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public ResponseEntity<List<BestsellerRanking.Entry>> getBestsellers(
+        @RequestParam(defaultValue = BestsellerRanking.WEEKLY) String window,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        logger.info("GET /books/bestsellers - 베스트셀러 조회: window={}, limit={}", window, limit);
+        List<BestsellerRanking.Entry> ranking = bestsellerRanking.top(window, Math.max(0, limit));
+        if (ranking == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(ranking);
+    }
+
     // 특정 도서 조회
     @GetMapping("/{id}")
     public ResponseEntity<Book> getBook(@PathVariable Long id) {
@@ -40,13 +112,122 @@ public class BookController {
         Optional<Book> book = bookRepository.findById(id);
         if (book.isPresent()) {
             logger.info("도서 조회 성공: {}", book.get().getTitle());
-            return ResponseEntity.ok(book.get());
+            return ResponseEntity.ok(bookViewCounter.fill(bookContentStore.fill(book.get())));
         } else {
             logger.warn("도서를 찾을 수 없음: {}", id);
             return ResponseEntity.notFound().build();
         }
     }
 
+    // 도서 본문 읽기 (독자용). 본문을 String 으로 만들지 않고 저장소에서 바로 흘려 보낸다
+    //  - 기본: 전체 본문, Range: bytes=... 요청이면 해당 UTF-8 바이트 구간 (206)
+    //  - ?offset=&limit= : 글자 단위 페이지, ?chapter= : 장 단위 (1부터)
+    //  - ETag 는 본문 해시이므로 바뀌지 않은 본문은 304 로 끝난다
+    @GetMapping("/{id}/content")
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public ResponseEntity<StreamingResponseBody> getBookContent(
+        @PathVariable Long id,
+        @RequestParam(required = false) Long offset,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) Integer chapter,
+        @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+        @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+        WebRequest request
+    ) {
+        logger.info("GET /books/{}/content - 도서 본문 조회 (offset={}, limit={}, chapter={}, range={})",
+                   id, offset, limit, chapter, range);
+        Optional<BookContentInfo> found = bookContentStore.info(id);
+        if (!found.isPresent()) {
+            logger.warn("도서 본문을 찾을 수 없음: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        BookContentInfo info = found.get();
+        long size = info.getSize() != null ? info.getSize() : 0L;
+        String etag = "\"" + info.getHash() + "\"";
+
+        // 장 단위
+        if (chapter != null) {
+            if (chapter < 1) {
+                return ResponseEntity.badRequest().build();
+            }
+            String pageEtag = "\"" + info.getHash() + "-ch" + chapter + "\"";
+            if (request.checkNotModified(pageEtag)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                .contentType(TEXT_UTF8)
+                .cacheControl(CacheControl.noCache())
+                .eTag(pageEtag)
+                .body(out -> bookContentStore.writeChapter(id, chapter, writer(out)));
+        }
+
+        // 글자 단위 페이지
+        if (offset != null || limit != null) {
+            long from = offset != null ? Math.max(0L, offset) : 0L;
+            int count = limit != null ? Math.max(1, Math.min(limit, MAX_PAGE_CHARS)) : DEFAULT_PAGE_CHARS;
+            int totalChars = info.getLength() != null ? info.getLength() : 0;
+            String pageEtag = "\"" + info.getHash() + "-c" + from + "-" + count + "\"";
+            if (request.checkNotModified(pageEtag)) {
+                return null;
+            }
+            ResponseEntity.BodyBuilder page = ResponseEntity.ok()
+                .contentType(TEXT_UTF8)
+                .cacheControl(CacheControl.noCache())
+                .eTag(pageEtag)
+                .header("X-Total-Chars", String.valueOf(totalChars));
+            if (from + count < totalChars) {
+                page.header("X-Next-Offset", String.valueOf(from + count));
+            }
+            return page.body(out -> bookContentStore.writeChars(id, from, count, writer(out)));
+        }
+
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        // Range 요청 (If-Range 가 현재 ETag 와 다르면 전체를 보낸다). 여러 구간 요청은 전체로 응답
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = null;
+            }
+            if (ranges != null && ranges.size() == 1) {
+                long start;
+                long end;
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+                }
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                    .contentType(TEXT_UTF8)
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(etag)
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size)
+                    .contentLength(end - start + 1)
+                    .body(out -> bookContentStore.writeBytes(id, start, end, out));
+            }
+        }
+
+        return ResponseEntity.ok()
+            .contentType(TEXT_UTF8)
+            .cacheControl(CacheControl.noCache())
+            .eTag(etag)
+            .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+            .contentLength(size)
+            .body(out -> bookContentStore.writeBytes(id, 0, size - 1, out));
+    }
+
+    private static Writer writer(OutputStream out) {
+        return new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
     // 도서 생성 (원고 저장)
     @PostMapping(value = "")
     public ResponseEntity<Book> createBook(@RequestBody Book book) {
@@ -55,6 +236,8 @@ public class BookController {
             book.setStatus("DRAFT");
         }
         Book savedBook = bookRepository.save(book);
+        bookContentStore.save(savedBook.getBookId(), book.getContent());
+        savedBook.setViewCount(0);
         logger.info("도서 생성 성공: ID={}, 상태={}", savedBook.getBookId(), savedBook.getStatus());
         return ResponseEntity.ok(savedBook);
     }
@@ -69,13 +252,17 @@ public class BookController {
             book.setTitle(bookDetails.getTitle());
             book.setAuthorId(bookDetails.getAuthorId());
             book.setStatus(bookDetails.getStatus());
-            if (bookDetails.getViewCount() != null) {
-                book.setViewCount(bookDetails.getViewCount());
-            }
+            // 조회수는 조회 API 로만 올라간다 (BookViewCount_table)
             if (bookDetails.getIsBestseller() != null) {
                 book.setIsBestseller(bookDetails.getIsBestseller());
             }
-            Book updatedBook = bookRepository.save(book);
+            Book updatedBook = bookViewCounter.fill(bookRepository.save(book));
+            // 본문이 같이 오면 저장하고, 색인은 새 본문으로 만든다 (본문이 없으면 저장된 본문으로)
+            if (bookDetails.getContent() != null) {
+                bookContentStore.save(id, bookDetails.getContent());
+                updatedBook.setContent(bookDetails.getContent());
+            }
+            bookSearchIndex.indexAfterCommit(updatedBook);
             logger.info("도서 수정 성공: ID={}, 상태={}", updatedBook.getBookId(), updatedBook.getStatus());
             return ResponseEntity.ok(updatedBook);
         } else {
@@ -92,7 +279,8 @@ public class BookController {
         if (bookOptional.isPresent()) {
             Book book = bookOptional.get();
             book.setStatus("PUBLISHED");
-            Book publishedBook = bookRepository.save(book);
+            Book publishedBook = bookViewCounter.fill(bookRepository.save(book));
+            bookSearchIndex.indexAfterCommit(publishedBook);
             logger.info("도서 출간 성공: ID={}, 제목={}", publishedBook.getBookId(), publishedBook.getTitle());
             return ResponseEntity.ok(publishedBook);
         } else {
@@ -105,7 +293,7 @@ public class BookController {
     @GetMapping("/author/{authorId}")
     public ResponseEntity<List<Book>> getBooksByAuthor(@PathVariable Long authorId) {
         logger.info("GET /books/author/{} - 작가별 도서 조회", authorId);
-        List<Book> books = bookRepository.findByAuthorId(authorId);
+        List<Book> books = bookViewCounter.fill(bookContentStore.describe(bookRepository.findByAuthorId(authorId)));
         logger.info("작가 ID {}의 도서 수: {}", authorId, books.size());
         return ResponseEntity.ok(books);
     }
@@ -114,7 +302,7 @@ public class BookController {
     @GetMapping("/published")
     public ResponseEntity<List<Book>> getPublishedBooks() {
         logger.info("GET /books/published - 출간된 도서 조회");
-        List<Book> books = bookRepository.findByStatus("PUBLISHED");
+        List<Book> books = bookViewCounter.fill(bookContentStore.describe(bookRepository.findByStatus("PUBLISHED")));
         logger.info("출간된 도서 수: {}", books.size());
         return ResponseEntity.ok(books);
     }
@@ -123,7 +311,7 @@ public class BookController {
     @GetMapping("/author/{authorId}/published")
     public ResponseEntity<List<Book>> getPublishedBooksByAuthor(@PathVariable Long authorId) {
         logger.info("GET /books/author/{}/published - 작가별 출간된 도서 조회", authorId);
-        List<Book> books = bookRepository.findByAuthorIdAndStatus(authorId, "PUBLISHED");
+        List<Book> books = bookViewCounter.fill(bookContentStore.describe(bookRepository.findByAuthorIdAndStatus(authorId, "PUBLISHED")));
         logger.info("작가 ID {}의 출간된 도서 수: {}", authorId, books.size());
         return ResponseEntity.ok(books);
     }
@@ -134,6 +322,9 @@ public class BookController {
         logger.info("DELETE /books/{} - 도서 삭제", id);
         if (bookRepository.existsById(id)) {
             bookRepository.deleteById(id);
+            bookContentStore.delete(id);
+            bookViewCounter.delete(id);
+            bookSearchIndex.removeAfterCommit(id);
             logger.info("도서 삭제 성공: ID={}", id);
             return ResponseEntity.noContent().build();
         } else {
@@ -148,16 +339,10 @@ public class BookController {
         logger.info("PATCH /books/{}/view - 도서 조회수 증가", id);
         Optional<Book> bookOptional = bookRepository.findById(id);
         if (bookOptional.isPresent()) {
-            Book book = bookOptional.get();
-            book.setViewCount(book.getViewCount() + 1);
-            
-            // 조회수가 5 이상이면 베스트셀러로 자동 설정
-            if (book.getViewCount() >= 5) {
-                book.setIsBestseller(true);
-                logger.info("도서 ID={}가 베스트셀러로 승격됨 (조회수: {})", id, book.getViewCount());
-            }
-            
-            Book updatedBook = bookRepository.save(book);
+            Book updatedBook = bookOptional.get();
+            // 조회수는 캐시하지 않는 BookViewCount_table 에서 DB 로 1 올린다. Book 행과 그 캐시 항목은 건드리지 않는다
+            // 베스트셀러 순위용 시간 버킷도 같이 올라가고, 지정은 순위 엔진이 일간/주간 순위로 정한다
+            updatedBook.setViewCount(bookViewCounter.record(id));
             logger.info("도서 조회수 증가 성공: ID={}, 조회수={}", updatedBook.getBookId(), updatedBook.getViewCount());
             return ResponseEntity.ok(updatedBook);
         } else {
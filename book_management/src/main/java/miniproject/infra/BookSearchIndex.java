@@ -0,0 +1,370 @@
+package miniproject.infra;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import miniproject.domain.Book;
+import miniproject.domain.BookAuthor;
+import miniproject.domain.BookAuthorRepository;
+import miniproject.domain.BookRepository;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 출간된 도서의 전문 검색 색인 (Lucene, 프로세스 내장).
+ * 제목/작가 이름/본문을 한국어 형태소 분석기(nori)로 색인하고, 검색은 NRT reader 로
+ * 점수 순 상위 N 개만 모은다. 색인은 DB 에서 파생된 데이터이므로 기동할 때마다 새로 만든다
+ * (index-dir 을 주면 힙 대신 디스크에 둔다). 이후에는 BookRegistered 이벤트와 도서 수정/출간/삭제로
+ * 한 건씩 갱신한다.
+ */
+@Component
+public class BookSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSearchIndex.class);
+
+    private static final String ID = "bookId";
+    private static final String AUTHOR_ID = "authorId";
+    private static final String TITLE = "title";
+    private static final String AUTHOR_NAME = "authorName";
+    private static final String CONTENT = "content";
+
+    // 제목 > 작가 이름 > 본문 순으로 가중치
+    private static final Map<String, Float> WEIGHTS = new HashMap<>();
+
+    static {
+        WEIGHTS.put(TITLE, 4.0f);
+        WEIGHTS.put(AUTHOR_NAME, 2.0f);
+        WEIGHTS.put(CONTENT, 1.0f);
+    }
+
+    @Autowired
+    BookRepository bookRepository;
+
+    @Autowired
+    BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    BookContentStore bookContentStore;
+
+    @Value("${book.search.index-dir:}")
+    private String indexDir;
+
+    @Value("${book.search.refresh-ms:1000}")
+    private long refreshMs;
+
+    @Value("${book.search.rebuild-batch-size:200}")
+    private int batchSize;
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService refresher;
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexDir == null || indexDir.trim().isEmpty()
+            ? new ByteBuffersDirectory()
+            : FSDirectory.open(Paths.get(indexDir));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+        writer = new IndexWriter(directory, config);
+        searcherManager = new SearcherManager(writer, null);
+
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "book-search-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        refresher.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    // 기동을 막지 않도록 재구축은 refresh 스레드에서 돈다. 그 사이 들어오는 갱신은 updateDocument 라 겹쳐도 된다
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        refresher.execute(this::rebuild);
+    }
+
+    public void rebuild() {
+        try {
+            long started = System.currentTimeMillis();
+            long afterId = 0L;
+            int indexed = 0;
+            while (true) {
+                List<Book> page = bookRepository.findPageByStatus(
+                    "PUBLISHED",
+                    afterId,
+                    PageRequest.of(0, batchSize)
+                );
+                if (page.isEmpty()) {
+                    break;
+                }
+                Map<Long, String> authorNames = authorNames(page);
+                for (Book book : page) {
+                    indexStreaming(book, authorNames.get(book.getAuthorId()));
+                    afterId = book.getBookId();
+                }
+                indexed += page.size();
+                if (page.size() < batchSize) {
+                    break;
+                }
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            logger.info("도서 검색 색인 재구축: {}건, {}ms", indexed, System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            logger.error("도서 검색 색인 재구축 실패", e);
+        }
+    }
+
+    // DB 에서 다시 읽어 한 권 색인 (이벤트 처리용)
+    public void index(Long bookId) {
+        Book book = bookRepository.findById(bookId).orElse(null);
+        if (book == null) {
+            remove(bookId);
+            return;
+        }
+        write(bookId, snapshot(book));
+    }
+
+    // 트랜잭션 안에서 본문/작가 이름까지 읽어 두고, 커밋된 뒤에 색인에 반영한다
+    public void indexAfterCommit(Book book) {
+        Long bookId = book.getBookId();
+        Document document = snapshot(book);
+        afterCommit(() -> write(bookId, document));
+    }
+
+    public void removeAfterCommit(Long bookId) {
+        afterCommit(() -> remove(bookId));
+    }
+
+    // 작가 이름이 들어오거나 바뀌면 그 작가의 출간 도서를 다시 색인한다.
+    // 도서와 이름은 트랜잭션 안에서 읽고, 본문을 흘려 넣는 색인 작업은 커밋된 뒤에 한다
+    public void reindexAuthor(Long authorId) {
+        List<Book> books = bookRepository.findByAuthorIdAndStatus(authorId, "PUBLISHED");
+        String authorName = authorNames(books).get(authorId);
+        afterCommit(() -> {
+            for (Book book : books) {
+                try {
+                    indexStreaming(book, authorName);
+                } catch (IOException e) {
+                    logger.error("도서 검색 색인 실패: {}", book.getBookId(), e);
+                }
+            }
+        });
+    }
+
+    public void remove(Long bookId) {
+        try {
+            writer.deleteDocuments(new Term(ID, String.valueOf(bookId)));
+        } catch (IOException e) {
+            logger.error("도서 검색 색인 삭제 실패: {}", bookId, e);
+        }
+    }
+
+    /**
+     * q 를 제목/작가 이름/본문에서 찾아 점수 순으로 page 번째(0부터) size 개를 돌려준다.
+     * 사용자 입력은 SimpleQueryParser 로 읽으므로 문법 오류로 실패하지 않고, 모든 단어가 들어간 도서만 찾는다.
+     */
+    public Result search(String q, int page, int size) throws IOException {
+        Result result = new Result();
+        result.page = page;
+        result.size = size;
+
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query query = parser.parse(q);
+
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            TopDocs top = searcher.search(query, (page + 1) * size);
+            result.total = top.totalHits.value;
+            result.totalExact = top.totalHits.relation == TotalHits.Relation.EQUAL_TO;
+            for (int i = page * size; i < top.scoreDocs.length; i++) {
+                ScoreDoc scoreDoc = top.scoreDocs[i];
+                Document document = searcher.doc(scoreDoc.doc);
+                Hit hit = new Hit();
+                hit.bookId = Long.valueOf(document.get(ID));
+                IndexableField authorId = document.getField(AUTHOR_ID);
+                hit.authorId = authorId != null ? authorId.numericValue().longValue() : null;
+                hit.title = document.get(TITLE);
+                hit.authorName = document.get(AUTHOR_NAME);
+                hit.score = scoreDoc.score;
+                result.hits.add(hit);
+            }
+        } finally {
+            searcherManager.release(searcher);
+        }
+        return result;
+    }
+
+    // 출간된 도서면 색인 문서를, 아니면 null(색인에서 뺀다)을 만든다
+    private Document snapshot(Book book) {
+        if (!"PUBLISHED".equals(book.getStatus())) {
+            return null;
+        }
+        String content = book.getContent() != null ? book.getContent() : bookContentStore.load(book.getBookId());
+        String authorName = book.getAuthorId() == null
+            ? null
+            : bookAuthorRepository.findById(book.getAuthorId()).map(BookAuthor::getAuthorName).orElse(null);
+        return toDocument(book, content != null ? new StringReader(content) : null, authorName);
+    }
+
+    // 본문을 String 으로 만들지 않고 저장소의 BLOB 스트림을 그대로 분석기에 넘긴다 (재구축, 작가 재색인용)
+    private void indexStreaming(Book book, String authorName) throws IOException {
+        bookContentStore.read(book.getBookId(), in -> {
+            Reader content = new InputStreamReader(in, StandardCharsets.UTF_8);
+            writer.updateDocument(new Term(ID, String.valueOf(book.getBookId())), toDocument(book, content, authorName));
+            return null;
+        });
+    }
+
+    // content 는 색인에 쓸 때 한 번만 읽힌다
+    private Document toDocument(Book book, Reader content, String authorName) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(book.getBookId()), Field.Store.YES));
+        if (book.getAuthorId() != null) {
+            document.add(new StoredField(AUTHOR_ID, book.getAuthorId()));
+        }
+        if (book.getTitle() != null) {
+            document.add(new TextField(TITLE, book.getTitle(), Field.Store.YES));
+        }
+        if (authorName != null) {
+            document.add(new TextField(AUTHOR_NAME, authorName, Field.Store.YES));
+        }
+        if (content != null) {
+            document.add(new TextField(CONTENT, content));
+        }
+        return document;
+    }
+
+    private void write(Long bookId, Document document) {
+        if (document == null) {
+            remove(bookId);
+            return;
+        }
+        try {
+            writer.updateDocument(new Term(ID, String.valueOf(bookId)), document);
+        } catch (IOException e) {
+            logger.error("도서 검색 색인 실패: {}", bookId, e);
+        }
+    }
+
+    private Map<Long, String> authorNames(List<Book> books) {
+        Set<Long> authorIds = new HashSet<>();
+        for (Book book : books) {
+            if (book.getAuthorId() != null) {
+                authorIds.add(book.getAuthorId());
+            }
+        }
+        Map<Long, String> names = new HashMap<>();
+        for (BookAuthor author : bookAuthorRepository.findAllById(authorIds)) {
+            names.put(author.getAuthorId(), author.getAuthorName());
+        }
+        return names;
+    }
+
+    private void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (Exception e) {
+            logger.error("도서 검색 색인 refresh 실패", e);
+        }
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            }
+        );
+    }
+
+    public static class Result {
+        private int page;
+        private int size;
+        private long total;
+        private boolean totalExact = true;
+        private List<Hit> hits = new ArrayList<>();
+
+        public int getPage() { return page; }
+        public int getSize() { return size; }
+        public long getTotal() { return total; }
+        public boolean isTotalExact() { return totalExact; }
+        public List<Hit> getHits() { return hits; }
+    }
+
+    public static class Hit {
+        private Long bookId;
+        private Long authorId;
+        private String title;
+        private String authorName;
+        private float score;
+
+        public Long getBookId() { return bookId; }
+        public Long getAuthorId() { return authorId; }
+        public String getTitle() { return title; }
+        public String getAuthorName() { return authorName; }
+        public float getScore() { return score; }
+    }
+}
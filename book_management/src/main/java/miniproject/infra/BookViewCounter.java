@@ -0,0 +1,135 @@
+package miniproject.infra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.EntityManager;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.PersistenceContext;
+import miniproject.domain.Book;
+import miniproject.domain.BookViewBucket;
+import miniproject.domain.BookViewBucketRepository;
+import miniproject.domain.BookViewCount;
+import miniproject.domain.BookViewCountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * BookViewCount_table 읽기/쓰기. Book.viewCount 는 DB 컬럼이 아니므로(@Transient)
+ * 응답에 조회수가 필요한 곳에서 여기로 채워 넣는다.
+ * 조회 한 번은 베스트셀러 순위용 시간 버킷(BookViewBucket_table)에도 함께 쌓는다.
+ */
+@Component
+public class BookViewCounter {
+
+    private final BookViewCountRepository bookViewCountRepository;
+    private final BookViewBucketRepository bookViewBucketRepository;
+    private final TransactionTemplate requiresNew;
+    private final long bucketMs;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BookViewCounter(
+        BookViewCountRepository bookViewCountRepository,
+        BookViewBucketRepository bookViewBucketRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${book.bestseller.bucket-minutes:60}") long bucketMinutes
+    ) {
+        this.bookViewCountRepository = bookViewCountRepository;
+        this.bookViewBucketRepository = bookViewBucketRepository;
+        this.bucketMs = TimeUnit.MINUTES.toMillis(bucketMinutes);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 조회 한 번. 누적 조회수를 DB 에서 1 올리고 올린 값을 돌려준다
+    public int record(Long bookId) {
+        if (bookViewCountRepository.increment(bookId) == 0) {
+            createRow(bookId);
+            bookViewCountRepository.increment(bookId);
+        }
+        long bucketStart = bucketStart(System.currentTimeMillis());
+        if (bookViewBucketRepository.increment(bookId, bucketStart) == 0) {
+            createBucket(bookId, bucketStart);
+            bookViewBucketRepository.increment(bookId, bucketStart);
+        }
+        Integer viewCount = bookViewCountRepository.findViewCount(bookId);
+        return viewCount != null ? viewCount : 0;
+    }
+
+    // 첫 조회: 0 인 행을 따로 커밋해 둔다. 동시에 들어온 다른 요청이 먼저 만들었으면 그 행을 쓴다
+    // (merge 는 이미 있는 행을 0 으로 덮어쓰므로 persist 로 insert 만 한다)
+    private void createRow(Long bookId) {
+        try {
+            requiresNew.execute(status -> {
+                BookViewCount count = new BookViewCount();
+                count.setBookId(bookId);
+                count.setViewCount(0);
+                entityManager.persist(count);
+                return null;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 이미 있다
+        }
+    }
+
+    // 이 버킷의 첫 조회: createRow 와 같은 방식 (ux_book_view_bucket 이 중복 insert 를 막는다)
+    private void createBucket(Long bookId, long bucketStart) {
+        try {
+            requiresNew.execute(status -> {
+                BookViewBucket bucket = new BookViewBucket();
+                bucket.setBookId(bookId);
+                bucket.setBucketStart(bucketStart);
+                bucket.setViews(0);
+                entityManager.persist(bucket);
+                return null;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 이미 있다
+        }
+    }
+
+    public long bucketStart(long time) {
+        return time - time % bucketMs;
+    }
+
+    public long getBucketMs() {
+        return bucketMs;
+    }
+
+    public void delete(Long bookId) {
+        if (bookViewCountRepository.existsById(bookId)) {
+            bookViewCountRepository.deleteById(bookId);
+        }
+    }
+
+    public Book fill(Book book) {
+        Integer viewCount = bookViewCountRepository.findViewCount(book.getBookId());
+        book.setViewCount(viewCount != null ? viewCount : 0);
+        return book;
+    }
+
+    // 목록은 IN 쿼리 한 번으로 채운다
+    public List<Book> fill(List<Book> books) {
+        List<Long> ids = new ArrayList<>(books.size());
+        for (Book book : books) {
+            ids.add(book.getBookId());
+        }
+        Map<Long, Integer> counts = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (BookViewCount count : bookViewCountRepository.findByBookIds(ids)) {
+                counts.put(count.getBookId(), count.getViewCount());
+            }
+        }
+        for (Book book : books) {
+            book.setViewCount(counts.getOrDefault(book.getBookId(), 0));
+        }
+        return books;
+    }
+}
@@ -4,23 +4,70 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import javax.naming.NameParser;
 import javax.naming.NameParser;
+import java.util.Date;
 import javax.transaction.Transactional;
 import miniproject.config.kafka.KafkaProcessor;
 import miniproject.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 //<<< Clean Arch / Inbound Adaptor
 @Service
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 @StreamListener 구독이 걸린다
+@Lazy(false)
 @Transactional
 public class PolicyHandler {
 
     @Autowired
     BookRepository bookRepository;
 
+    @Autowired
+    BookAuthorRepository bookAuthorRepository;
+
+    @Autowired
+    BookSearchIndex bookSearchIndex;
+
+    @Autowired
+    SecondLevelCache secondLevelCache;
+
     @StreamListener(KafkaProcessor.INPUT)
     public void whatever(@Payload String eventString) {}
+
+    @StreamListener(
+        value = KafkaProcessor.INPUT,
+        condition = "headers['type']=='BookRegistered'"
+    )
+    public void wheneverBookRegistered_IndexForSearch(
+        @Payload BookRegistered bookRegistered
+    ) {
+        bookSearchIndex.index(bookRegistered.getBookId());
+        // 출간 목록(findByStatus) 쿼리 캐시를 비운다. 이 인스턴스가 저장한 도서라면 이미 무효화돼 있다
+        secondLevelCache.evictQueries();
+    }
+
+    // 검색 색인에 쓸 작가 이름 사본을 갱신하고, 이미 출간된 책이 있으면 다시 색인한다
+    @StreamListener(
+        value = KafkaProcessor.INPUT,
+        condition = "headers['type']=='AuthorRegisterApplied'"
+    )
+    public void wheneverAuthorRegisterApplied_UpdateAuthorName(
+        @Payload AuthorRegisterApplied authorRegisterApplied
+    ) {
+        if (authorRegisterApplied.getAuthorId() == null) {
+            return;
+        }
+        BookAuthor author = bookAuthorRepository
+            .findById(authorRegisterApplied.getAuthorId())
+            .orElseGet(BookAuthor::new);
+        author.setAuthorId(authorRegisterApplied.getAuthorId());
+        author.setAuthorName(authorRegisterApplied.getAuthorName());
+        author.setUpdatedAt(new Date());
+        bookAuthorRepository.save(author);
+
+        bookSearchIndex.reindexAuthor(author.getAuthorId());
+    }
 }
 //>>> Clean Arch / Inbound Adaptor
@@ -0,0 +1,47 @@
+-- 도서 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence book_seq start with 1 increment by 50;
+
+create table book_table (
+    book_id bigint not null,
+    title varchar(255),
+    author_id bigint,
+    cover_image clob,
+    view_count integer,
+    is_bestseller boolean,
+    status varchar(255),
+    created_at timestamp,
+    published_at timestamp,
+    primary key (book_id)
+);
+
+create index ix_book_author_status on book_table (author_id, status);
+create index ix_book_status on book_table (status);
+
+-- 본문은 도서 행과 따로 둔다 (plain 또는 gzip 바이트)
+create table book_content_table (
+    book_id bigint not null,
+    data blob,
+    encoding varchar(255),
+    length integer,
+    size bigint,
+    hash varchar(64),
+    updated_at timestamp,
+    primary key (book_id)
+);
+
+create table book_author_table (
+    author_id bigint not null,
+    author_name varchar(255),
+    updated_at timestamp,
+    primary key (author_id)
+);
+
+create table book_list_table (
+    book_id bigint not null,
+    title varchar(255),
+    author_name varchar(255),
+    cover_image_url varchar(255),
+    primary key (book_id)
+);
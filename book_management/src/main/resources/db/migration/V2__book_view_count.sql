@@ -0,0 +1,11 @@
+-- 조회수를 캐시하는 도서 행에서 떼어 낸다 (조회마다 Book 캐시 영역이 비워지지 않도록)
+create table book_view_count_table (
+    book_id bigint not null,
+    view_count integer,
+    primary key (book_id)
+);
+
+insert into book_view_count_table (book_id, view_count)
+select book_id, view_count from book_table where view_count > 0;
+
+alter table book_table drop column view_count;
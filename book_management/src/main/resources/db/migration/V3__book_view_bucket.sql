@@ -0,0 +1,12 @@
+-- 베스트셀러 일간/주간 윈도우의 시간 버킷별 조회수 (인스턴스끼리 공유)
+create sequence book_view_bucket_seq start with 1 increment by 50;
+
+create table book_view_bucket_table (
+    bucket_id bigint not null,
+    book_id bigint,
+    bucket_start bigint,
+    views integer,
+    primary key (bucket_id)
+);
+
+create unique index ux_book_view_bucket on book_view_bucket_table (bucket_start, book_id);
@@ -0,0 +1,53 @@
+package miniproject.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도서 테이블에서 자주 도는 조회가 엔티티에 선언한 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * SQL 은 각 repository 메서드가 만드는 조건과 같은 모양으로 적는다.
+ */
+@DataJpaTest
+class BookIndexTest {
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 miniproject.domain 의 엔티티/repository 만 올린다
+    @Configuration
+    @AutoConfigurationPackage
+    static class JpaOnly {}
+
+    @Autowired
+    EntityManager entityManager;
+
+    // findByAuthorIdAndStatus (작가별 출간 도서)
+    @Test
+    void findByAuthorIdAndStatusUsesAuthorStatusIndex() {
+        assertThat(plan("select * from book_table where author_id = 1 and status = 'PUBLISHED'"))
+            .contains("IX_BOOK_AUTHOR_STATUS");
+    }
+
+    // findByAuthorId (작가의 모든 도서, 인덱스 앞 컬럼만 사용)
+    @Test
+    void findByAuthorIdUsesAuthorStatusIndexPrefix() {
+        assertThat(plan("select * from book_table where author_id = 1"))
+            .contains("IX_BOOK_AUTHOR_STATUS");
+    }
+
+    // findByStatus (출간 목록)
+    @Test
+    void findByStatusUsesStatusIndex() {
+        assertThat(plan("select * from book_table where status = 'PUBLISHED'"))
+            .contains("IX_BOOK_STATUS");
+    }
+
+    private String plan(String sql) {
+        Object plan = entityManager.createNativeQuery("explain " + sql).getSingleResult();
+        return String.valueOf(plan).toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,77 @@
+package miniproject.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import miniproject.domain.Book;
+import miniproject.domain.BookViewBucketRepository;
+import miniproject.domain.BookViews;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 첫 조회의 행 생성은 따로 커밋되므로(REQUIRES_NEW) 테스트마다 다른 bookId 를 쓴다.
+ */
+@DataJpaTest
+class BookViewCounterTest {
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 조회수 repository 와 카운터만 올린다
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = Book.class)
+    @Import(BookViewCounter.class)
+    static class JpaOnly {}
+
+    @Autowired
+    BookViewCounter counter;
+
+    @Autowired
+    BookViewBucketRepository buckets;
+
+    @Test
+    void firstViewCreatesTheRowAndLaterViewsIncrementIt() {
+        assertThat(counter.record(101L)).isEqualTo(1);
+        assertThat(counter.record(101L)).isEqualTo(2);
+        assertThat(counter.record(101L)).isEqualTo(3);
+    }
+
+    @Test
+    void fillUsesZeroForBooksNeverViewed() {
+        counter.record(201L);
+        counter.record(201L);
+        Book viewed = book(201L);
+        Book unseen = book(202L);
+
+        counter.fill(Arrays.asList(viewed, unseen));
+
+        assertThat(viewed.getViewCount()).isEqualTo(2);
+        assertThat(unseen.getViewCount()).isZero();
+        assertThat(counter.fill(book(201L)).getViewCount()).isEqualTo(2);
+    }
+
+    @Test
+    void viewsAreBucketedForTheBestsellerWindow() {
+        for (int i = 0; i < 3; i++) {
+            counter.record(301L);
+        }
+        counter.record(302L);
+        long since = counter.bucketStart(System.currentTimeMillis()) - counter.getBucketMs();
+
+        List<BookViews> top = buckets.findTop(since, 2L, PageRequest.of(0, 10));
+
+        assertThat(top).extracting(BookViews::getBookId).containsExactly(301L);
+        assertThat(top.get(0).getViews()).isEqualTo(3L);
+        assertThat(buckets.deleteOlderThan(since + 2 * counter.getBucketMs())).isPositive();
+    }
+
+    private static Book book(Long bookId) {
+        Book book = new Book();
+        book.setBookId(bookId);
+        return book;
+    }
+}
@@ -5,18 +5,14 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.cloud.stream.annotation.EnableBinding;
-import org.springframework.context.ApplicationContext;
 
 @SpringBootApplication
 @EnableBinding(KafkaProcessor.class)
 @EnableFeignClients
 public class ContentWritingManagementApplication {
 
-    public static ApplicationContext applicationContext;
-
     public static void main(String[] args) {
-        applicationContext =
-            SpringApplication.run(
+        SpringApplication.run(
                 ContentWritingManagementApplication.class,
                 args
             );
@@ -8,27 +8,33 @@ import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.ContentWritingManagementApplication;
 import miniproject.domain.ManuscriptCreated;
 import miniproject.domain.ManuscriptUpdated;
 import miniproject.domain.PublicationRequested;
 
 @Entity
-@Table(name = "Manuscript_table")
+@Table(
+    name = "Manuscript_table",
+    indexes = @Index(name = "ix_manuscript_author_status", columnList = "authorId, status")
+)
 @Data
 //<<< DDD / Aggregate Root
 public class Manuscript {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manuscript_seq")
+    @SequenceGenerator(name = "manuscript_seq", sequenceName = "manuscript_seq", allocationSize = 50)
     private Long manuscriptId;
 
     private Long authorId;
 
     private String title;
 
-    @Lob
-    private String content;
+    @Transient
+    private String content; // 원고 본문 (ManuscriptContent_table 에 따로 저장)
+
+    @Transient
+    private Integer contentLength; // 본문 글자 수 (목록 응답은 본문 대신 이것만 싣는다)
 
     private String status;
     
@@ -82,12 +88,5 @@ public class Manuscript {
         }
         this.viewCount++;
     }
-
-    public static ManuscriptRepository repository() {
-        ManuscriptRepository manuscriptRepository = ContentWritingManagementApplication.applicationContext.getBean(
-            ManuscriptRepository.class
-        );
-        return manuscriptRepository;
-    }
 }
 //>>> DDD / Aggregate Root
@@ -0,0 +1,87 @@
+package miniproject.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import javax.persistence.*;
+import lombok.Data;
+import lombok.ToString;
+
+/**
+ * 원고 본문 조각. 본문은 문단 경계에서 나눈 조각들을 position 순서로 이어 붙인 것이고,
+ * 조각마다 내용 해시(SHA-256)를 두어 저장할 때 바뀐 조각만 새로 쓴다.
+ * 메타데이터 작업은 Manuscript 행만 다루므로 본문을 읽지 않는다.
+ */
+@Entity
+@Table(
+    name = "ManuscriptChunk_table",
+    indexes = @Index(name = "ix_manuscript_chunk_position", columnList = "manuscriptId, position")
+)
+@Data
+public class ManuscriptChunk {
+
+    public static final String PLAIN = "plain";
+    public static final String GZIP = "gzip";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "manuscript_chunk_seq")
+    @SequenceGenerator(name = "manuscript_chunk_seq", sequenceName = "manuscript_chunk_seq", allocationSize = 50)
+    private Long chunkId;
+
+    private Long manuscriptId;
+
+    private Integer position;
+
+    @Column(length = 64)
+    private String hash;
+
+    // 엔티티를 읽으면 본문도 같이 읽힌다 (bytecode enhancement 없이는 지연 로딩이 안 된다).
+    // 메타데이터만 필요한 곳은 Info projection 으로 읽는다
+    @Lob
+    @ToString.Exclude
+    private byte[] data;
+
+    private String encoding; // plain, gzip
+
+    private Integer length; // 원문 글자 수
+
+    private Date updatedAt;
+
+    // 본문 조각을 UTF-8 로 저장한다. minBytes 이상이면 gzip 으로 압축해서 저장
+    public void write(String text, boolean compress, int minBytes) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (compress && raw.length >= minBytes) {
+            this.data = gzip(raw);
+            this.encoding = GZIP;
+        } else {
+            this.data = raw;
+            this.encoding = PLAIN;
+        }
+        this.length = text.length();
+        this.updatedAt = new Date();
+    }
+
+    // 압축을 풀면서 읽는 UTF-8 바이트 스트림
+    public static InputStream openStream(byte[] data, String encoding) throws IOException {
+        InputStream in = new ByteArrayInputStream(data == null ? new byte[0] : data);
+        return GZIP.equals(encoding) ? new GZIPInputStream(in) : in;
+    }
+
+    private static byte[] gzip(byte[] raw) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 3 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(raw);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package miniproject.domain;
+
+// 조각 하나의 저장된 바이트만 읽기 위한 projection
+public interface ManuscriptChunkData {
+    byte[] getData();
+
+    String getEncoding();
+}
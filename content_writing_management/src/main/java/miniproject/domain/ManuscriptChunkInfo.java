@@ -0,0 +1,12 @@
+package miniproject.domain;
+
+// 본문 없이 조각 목록(순서, 해시, 길이)만 읽기 위한 projection
+public interface ManuscriptChunkInfo {
+    Long getChunkId();
+
+    Integer getPosition();
+
+    String getHash();
+
+    Integer getLength();
+}
@@ -0,0 +1,48 @@
+package miniproject.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+
+//<<< PoEAA / Repository
+@RepositoryRestResource(exported = false)
+public interface ManuscriptChunkRepository
+    extends CrudRepository<ManuscriptChunk, Long> {
+    
+    // 원고의 조각 목록 (본문 제외)
+    @Query(
+        "select c.chunkId as chunkId, c.position as position, c.hash as hash, c.length as length " +
+        "from ManuscriptChunk c where c.manuscriptId = :manuscriptId order by c.position"
+    )
+    List<ManuscriptChunkInfo> findInfoByManuscriptId(@Param("manuscriptId") Long manuscriptId);
+    
+    // 여러 원고의 본문 글자 수 (목록 응답용, 본문 제외)
+    @Query(
+        "select c.manuscriptId as manuscriptId, sum(c.length) as length " +
+        "from ManuscriptChunk c where c.manuscriptId in :manuscriptIds group by c.manuscriptId"
+    )
+    List<ManuscriptContentLength> findLengthByManuscriptIds(@Param("manuscriptIds") Collection<Long> manuscriptIds);
+    
+    // 조각 하나의 본문
+    @Query("select c.data as data, c.encoding as encoding from ManuscriptChunk c where c.chunkId = :chunkId")
+    Optional<ManuscriptChunkData> findDataByChunkId(@Param("chunkId") Long chunkId);
+    
+    // 재사용하는 조각은 본문을 읽지 않고 순서만 옮긴다
+    @Modifying
+    @Query("update ManuscriptChunk c set c.position = :position where c.chunkId = :chunkId")
+    int updatePosition(@Param("chunkId") Long chunkId, @Param("position") Integer position);
+    
+    @Modifying
+    @Query("delete from ManuscriptChunk c where c.chunkId in :chunkIds")
+    int deleteByChunkIds(@Param("chunkIds") Collection<Long> chunkIds);
+    
+    @Modifying
+    @Query("delete from ManuscriptChunk c where c.manuscriptId = :manuscriptId")
+    int deleteByManuscriptId(@Param("manuscriptId") Long manuscriptId);
+}
+//>>> PoEAA / Repository
@@ -0,0 +1,93 @@
+package miniproject.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원고 본문을 문단 경계에서 조각으로 나눈다.
+ * 조각 경계는 문단 내용으로 정해지므로(content-defined chunking) 한 곳을 고쳐도
+ * 그 주변 조각만 바뀌고 나머지 조각의 해시는 그대로 남는다.
+ * 같은 규칙이 frontend/src/services/manuscriptChunks.ts 에도 있다.
+ */
+public final class ManuscriptChunker {
+
+    // 이 길이보다 짧으면 자르지 않는다
+    public static final int MIN_CHARS = 2048;
+    // 이 길이를 넘으면 문단 중간이라도 자른다
+    public static final int MAX_CHARS = 16384;
+    // 최소 길이를 넘긴 뒤 문단 해시의 하위 비트가 0 이면 자른다 (평균 4문단마다)
+    private static final int BOUNDARY_MASK = 0x3;
+
+    private ManuscriptChunker() {}
+
+    public static List<String> split(String text) {
+        List<String> chunks = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return chunks;
+        }
+
+        int chunkStart = 0;
+        int paragraphStart = 0;
+        while (paragraphStart < text.length()) {
+            // 문단은 다음 빈 줄("\n\n")까지, 구분자는 앞 문단에 붙인다
+            int separator = text.indexOf("\n\n", paragraphStart);
+            int paragraphEnd = separator < 0 ? text.length() : separator + 2;
+            while (paragraphEnd < text.length() && text.charAt(paragraphEnd) == '\n') {
+                paragraphEnd++;
+            }
+
+            // 빈 줄 없이 아주 긴 문단은 MAX_CHARS 단위로 자른다
+            while (paragraphEnd - chunkStart > MAX_CHARS) {
+                int cut = safeCut(text, chunkStart + MAX_CHARS);
+                chunks.add(text.substring(chunkStart, cut));
+                chunkStart = cut;
+            }
+
+            int length = paragraphEnd - chunkStart;
+            if (length >= MIN_CHARS && isBoundary(text, Math.max(paragraphStart, chunkStart), paragraphEnd)) {
+                chunks.add(text.substring(chunkStart, paragraphEnd));
+                chunkStart = paragraphEnd;
+            }
+            paragraphStart = paragraphEnd;
+        }
+        if (chunkStart < text.length()) {
+            chunks.add(text.substring(chunkStart));
+        }
+        return chunks;
+    }
+
+    public static String hash(String chunk) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(chunk.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(hashed.length * 2);
+            for (byte b : hashed) {
+                hex.append(Character.forDigit((b >> 4) & 0xf, 16));
+                hex.append(Character.forDigit(b & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // String.hashCode 와 같은 계산 (프론트엔드에서도 똑같이 계산할 수 있다)
+    private static boolean isBoundary(String text, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return (h & BOUNDARY_MASK) == 0;
+    }
+
+    // surrogate pair 가운데서 자르지 않는다
+    private static int safeCut(String text, int index) {
+        if (Character.isLowSurrogate(text.charAt(index)) && Character.isHighSurrogate(text.charAt(index - 1))) {
+            return index - 1;
+        }
+        return index;
+    }
+}
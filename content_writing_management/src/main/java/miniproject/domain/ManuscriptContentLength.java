@@ -0,0 +1,8 @@
+package miniproject.domain;
+
+// 원고별 본문 글자 수만 읽기 위한 projection (조각 길이의 합)
+public interface ManuscriptContentLength {
+    Long getManuscriptId();
+
+    Long getLength();
+}
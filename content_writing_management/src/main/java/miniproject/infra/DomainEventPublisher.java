@@ -0,0 +1,53 @@
+package miniproject.infra;
+
+import brave.Span;
+import miniproject.config.kafka.KafkaProcessor;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+/**
+ * 도메인 이벤트를 Kafka(outboundTopic)로 보낸다.
+ * 채널/메트릭/트레이싱은 기동 때 한 번 주입받고, 커밋 후 DomainEvents 가 모아 둔 이벤트를 여기로 넘긴다.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final MessageChannel outputChannel;
+    private final EventMetrics eventMetrics;
+    private final EventTracing eventTracing;
+
+    public DomainEventPublisher(KafkaProcessor processor, EventMetrics eventMetrics, EventTracing eventTracing) {
+        this.outputChannel = processor.outboundTopic();
+        this.eventMetrics = eventMetrics;
+        this.eventTracing = eventTracing;
+    }
+
+    public void publish(AbstractEvent event) {
+        MessageBuilder<AbstractEvent> message = MessageBuilder
+            .withPayload(event)
+            .setHeader(
+                MessageHeaders.CONTENT_TYPE,
+                MimeTypeUtils.APPLICATION_JSON
+            )
+            .setHeader("type", event.getEventType());
+        // 현재 trace 를 헤더로 실어 소비 측 PolicyHandler 까지 하나의 trace 로 잇는다
+        Span span = eventTracing.startPublish(event.getEventType(), message);
+
+        long started = System.nanoTime();
+        boolean sent = false;
+        Throwable error = null;
+        try {
+            sent = outputChannel.send(message.build());
+        } catch (RuntimeException e) {
+            error = e;
+            span.error(e);
+            throw e;
+        } finally {
+            span.finish();
+            eventMetrics.published(event.getEventType(), started, sent, error);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package miniproject.infra;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import miniproject.domain.Manuscript;
+import miniproject.domain.ManuscriptChunk;
+import miniproject.domain.ManuscriptChunkData;
+import miniproject.domain.ManuscriptChunkInfo;
+import miniproject.domain.ManuscriptChunkRepository;
+import miniproject.domain.ManuscriptChunker;
+import miniproject.domain.ManuscriptContentLength;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ManuscriptChunk_table 읽기/쓰기. Manuscript.content 는 DB 컬럼이 아니므로(@Transient)
+ * 응답에 본문이 필요한 곳에서 여기로 채워 넣는다. 목록 응답에는 본문 대신 글자 수만 싣는다.
+ *
+ * 저장은 새 조각 목록을 기존 조각과 해시로 맞춰 보고, 같은 해시의 조각은 순서만 옮기고
+ * 새 조각만 insert, 더 이상 쓰이지 않는 조각은 delete 한다.
+ */
+@Component
+public class ManuscriptContentStore {
+
+    @Autowired
+    ManuscriptChunkRepository manuscriptChunkRepository;
+
+    @Value("${content.compression.enabled:true}")
+    private boolean compress;
+
+    @Value("${content.compression.min-bytes:4096}")
+    private int minBytes;
+
+    public List<ManuscriptChunkInfo> manifest(Long manuscriptId) {
+        return manuscriptChunkRepository.findInfoByManuscriptId(manuscriptId);
+    }
+
+    public String load(Long manuscriptId) {
+        List<ManuscriptChunkInfo> chunks = manifest(manuscriptId);
+        if (chunks.isEmpty()) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            writeTo(chunks, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    // 조각을 하나씩 읽어 순서대로 흘려 보낸다 (본문 전체를 메모리에 올리지 않는다)
+    public void writeTo(List<ManuscriptChunkInfo> chunks, OutputStream out) throws IOException {
+        byte[] buffer = new byte[8192];
+        for (ManuscriptChunkInfo chunk : chunks) {
+            ManuscriptChunkData data = manuscriptChunkRepository.findDataByChunkId(chunk.getChunkId()).orElse(null);
+            if (data == null) {
+                continue;
+            }
+            try (InputStream in = ManuscriptChunk.openStream(data.getData(), data.getEncoding())) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+        }
+    }
+
+    // 전체 본문 저장 (PUT). 나눈 조각 중 해시가 같은 것은 다시 쓰지 않는다
+    public SaveResult save(Long manuscriptId, String text) {
+        if (text == null) {
+            return null;
+        }
+        List<ChunkEdit> edits = new ArrayList<>();
+        edits.add(ChunkEdit.content(text));
+        return apply(manuscriptId, edits);
+    }
+
+    /**
+     * 새 조각 목록을 적용한다. 항목은 기존 조각의 해시({@code hash}) 또는 새 본문({@code content}) 이다.
+     * 새 본문은 다시 문단 경계로 나눠서 저장한다. 모르는 해시가 있으면 IllegalArgumentException.
+     */
+    public SaveResult apply(Long manuscriptId, List<ChunkEdit> edits) {
+        // 해시별로 아직 배정되지 않은 기존 조각 (같은 내용의 조각이 여러 개일 수 있다)
+        Map<String, Deque<ManuscriptChunkInfo>> unused = new HashMap<>();
+        Map<Long, ManuscriptChunkInfo> existing = new LinkedHashMap<>();
+        for (ManuscriptChunkInfo chunk : manifest(manuscriptId)) {
+            unused.computeIfAbsent(chunk.getHash(), hash -> new ArrayDeque<>()).add(chunk);
+            existing.put(chunk.getChunkId(), chunk);
+        }
+
+        // 새 본문은 먼저 조각으로 나눠 둔다 (해시 참조는 그대로)
+        List<ChunkEdit> slots = new ArrayList<>();
+        for (ChunkEdit edit : edits) {
+            if (edit.getContent() == null) {
+                slots.add(edit);
+                continue;
+            }
+            for (String piece : ManuscriptChunker.split(edit.getContent())) {
+                ChunkEdit slot = ChunkEdit.content(piece);
+                slot.setHash(ManuscriptChunker.hash(piece));
+                slots.add(slot);
+            }
+        }
+
+        // 해시 참조를 먼저 배정해서, 모르는 해시가 있으면 아무것도 쓰기 전에 실패한다
+        ManuscriptChunkInfo[] assigned = new ManuscriptChunkInfo[slots.size()];
+        for (int i = 0; i < slots.size(); i++) {
+            ChunkEdit slot = slots.get(i);
+            if (slot.getContent() != null) {
+                continue;
+            }
+            Deque<ManuscriptChunkInfo> candidates = unused.get(slot.getHash());
+            if (candidates == null || candidates.isEmpty()) {
+                throw new IllegalArgumentException("알 수 없는 조각 해시: " + slot.getHash());
+            }
+            assigned[i] = candidates.poll();
+        }
+
+        SaveResult result = new SaveResult();
+        Set<Long> kept = new HashSet<>();
+        for (int position = 0; position < slots.size(); position++) {
+            ChunkEdit slot = slots.get(position);
+            ManuscriptChunkInfo reuse = assigned[position];
+            if (reuse == null) {
+                Deque<ManuscriptChunkInfo> candidates = unused.get(slot.getHash());
+                reuse = candidates != null ? candidates.poll() : null;
+            }
+            if (reuse != null) {
+                keep(reuse, position, kept, result);
+                continue;
+            }
+            ManuscriptChunk chunk = new ManuscriptChunk();
+            chunk.setManuscriptId(manuscriptId);
+            chunk.setPosition(position);
+            chunk.setHash(slot.getHash());
+            chunk.write(slot.getContent(), compress, minBytes);
+            manuscriptChunkRepository.save(chunk);
+            result.written++;
+        }
+
+        Set<Long> removed = new HashSet<>(existing.keySet());
+        removed.removeAll(kept);
+        if (!removed.isEmpty()) {
+            manuscriptChunkRepository.deleteByChunkIds(removed);
+        }
+        result.removed = removed.size();
+        result.chunks = slots.size();
+        return result;
+    }
+
+    private void keep(ManuscriptChunkInfo chunk, int position, Set<Long> kept, SaveResult result) {
+        if (chunk.getPosition() == null || chunk.getPosition() != position) {
+            manuscriptChunkRepository.updatePosition(chunk.getChunkId(), position);
+        }
+        kept.add(chunk.getChunkId());
+        result.reused++;
+    }
+
+    public void delete(Long manuscriptId) {
+        manuscriptChunkRepository.deleteByManuscriptId(manuscriptId);
+    }
+
+    // 단건 응답은 본문까지 채운다
+    public Manuscript fill(Manuscript manuscript) {
+        String content = load(manuscript.getManuscriptId());
+        manuscript.setContent(content);
+        manuscript.setContentLength(content != null ? content.length() : null);
+        return manuscript;
+    }
+
+    // 목록 응답에는 본문을 싣지 않고 글자 수만 채운다 (IN 쿼리 한 번, 조각 본문은 읽지 않는다)
+    public List<Manuscript> describe(List<Manuscript> manuscripts) {
+        List<Long> ids = new ArrayList<>(manuscripts.size());
+        for (Manuscript manuscript : manuscripts) {
+            ids.add(manuscript.getManuscriptId());
+        }
+        Map<Long, Integer> lengths = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (ManuscriptContentLength length : manuscriptChunkRepository.findLengthByManuscriptIds(ids)) {
+                lengths.put(length.getManuscriptId(), length.getLength() != null ? length.getLength().intValue() : null);
+            }
+        }
+        for (Manuscript manuscript : manuscripts) {
+            manuscript.setContentLength(lengths.get(manuscript.getManuscriptId()));
+        }
+        return manuscripts;
+    }
+
+    // PATCH 요청의 조각 항목: 기존 조각 해시 또는 새 본문 중 하나
+    public static class ChunkEdit {
+        private String hash;
+        private String content;
+
+        public static ChunkEdit content(String content) {
+            ChunkEdit edit = new ChunkEdit();
+            edit.setContent(content);
+            return edit;
+        }
+
+        public String getHash() { return hash; }
+        public void setHash(String hash) { this.hash = hash; }
+        public String getContent() { return content; }
+        public void setContent(String content) { this.content = content; }
+    }
+
+    public static class SaveResult {
+        private int chunks;
+        private int written;
+        private int reused;
+        private int removed;
+
+        public int getChunks() { return chunks; }
+        public int getWritten() { return written; }
+        public int getReused() { return reused; }
+        public int getRemoved() { return removed; }
+    }
+}
@@ -1,5 +1,8 @@
 package miniproject.infra;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import javax.transaction.Transactional;
@@ -8,7 +11,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,11 +29,14 @@ public class ManuscriptController {
     @Autowired
     ManuscriptRepository manuscriptRepository;
 
+    @Autowired
+    ManuscriptContentStore manuscriptContentStore;
+
     // 모든 원고 조회
     @GetMapping
     public ResponseEntity<List<Manuscript>> getAllManuscripts() {
         logger.info("GET /manuscripts - 모든 원고 조회");
-        List<Manuscript> manuscripts = manuscriptRepository.findAllManuscripts();
+        List<Manuscript> manuscripts = manuscriptContentStore.describe(manuscriptRepository.findAllManuscripts());
         logger.info("조회된 원고 수: {}", manuscripts.size());
         return ResponseEntity.ok(manuscripts);
     }
@@ -40,7 +48,7 @@ public class ManuscriptController {
         Optional<Manuscript> manuscript = manuscriptRepository.findById(id);
         if (manuscript.isPresent()) {
             logger.info("원고 조회 성공: {}", manuscript.get().getTitle());
-            return ResponseEntity.ok(manuscript.get());
+            return ResponseEntity.ok(manuscriptContentStore.fill(manuscript.get()));
         } else {
             logger.warn("원고를 찾을 수 없음: {}", id);
             return ResponseEntity.notFound().build();
@@ -55,6 +63,7 @@ public class ManuscriptController {
             manuscript.setStatus("DRAFT");
         }
         Manuscript savedManuscript = manuscriptRepository.save(manuscript);
+        manuscriptContentStore.save(savedManuscript.getManuscriptId(), manuscript.getContent());
         logger.info("원고 생성 성공: ID={}, 상태={}", savedManuscript.getManuscriptId(), savedManuscript.getStatus());
         return ResponseEntity.ok(savedManuscript);
     }
@@ -69,7 +78,10 @@ public class ManuscriptController {
             manuscript.setTitle(manuscriptDetails.getTitle());
             manuscript.setContent(manuscriptDetails.getContent());
             manuscript.setStatus(manuscriptDetails.getStatus());
+            // 본문만 바뀐 경우에도 수정 시각은 갱신한다
+            manuscript.setUpdatedAt(new Date());
             Manuscript updatedManuscript = manuscriptRepository.save(manuscript);
+            manuscriptContentStore.save(id, manuscriptDetails.getContent());
             logger.info("원고 수정 성공: ID={}, 상태={}", updatedManuscript.getManuscriptId(), updatedManuscript.getStatus());
             return ResponseEntity.ok(updatedManuscript);
         } else {
@@ -78,11 +90,66 @@ public class ManuscriptController {
         }
     }
 
+    // 원고 본문 조각 목록 (순서, 해시, 길이). 편집기는 이 해시로 바뀐 조각만 골라 보낸다
+    @GetMapping("/{id}/chunks")
+    public ResponseEntity<ChunkManifest> getChunks(@PathVariable Long id) {
+        logger.info("GET /manuscripts/{}/chunks - 원고 조각 목록 조회", id);
+        if (!manuscriptRepository.existsById(id)) {
+            logger.warn("원고를 찾을 수 없음: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(ChunkManifest.of(id, manuscriptContentStore.manifest(id)));
+    }
+
+    // 원고 본문 부분 저장: 바뀌지 않은 조각은 해시만, 바뀐 조각은 본문을 보낸다
+    @PatchMapping("/{id}/chunks")
+    public ResponseEntity<ChunkManifest> patchChunks(@PathVariable Long id, @RequestBody ChunkPatchRequest request) {
+        List<ManuscriptContentStore.ChunkEdit> edits = request.getChunks() != null ? request.getChunks() : new ArrayList<>();
+        logger.info("PATCH /manuscripts/{}/chunks - 원고 부분 저장: 항목 {}개", id, edits.size());
+        
+        Optional<Manuscript> manuscriptOptional = manuscriptRepository.findById(id);
+        if (!manuscriptOptional.isPresent()) {
+            logger.warn("저장할 원고를 찾을 수 없음: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        
+        ManuscriptContentStore.SaveResult result;
+        try {
+            result = manuscriptContentStore.apply(id, edits);
+        } catch (IllegalArgumentException e) {
+            logger.warn("원고 부분 저장 실패: ID={}, {}", id, e.getMessage());
+            return ResponseEntity.status(409).build();
+        }
+        
+        Manuscript manuscript = manuscriptOptional.get();
+        manuscript.setUpdatedAt(new Date());
+        manuscriptRepository.save(manuscript);
+        
+        logger.info("원고 부분 저장 성공: ID={}, 조각 {}개 (새로 씀 {}, 재사용 {}, 삭제 {})",
+                   id, result.getChunks(), result.getWritten(), result.getReused(), result.getRemoved());
+        return ResponseEntity.ok(ChunkManifest.of(id, manuscriptContentStore.manifest(id)));
+    }
+
+    // 원고 본문을 조각 순서대로 흘려 보낸다
+    @GetMapping(value = "/{id}/content", produces = "text/plain;charset=UTF-8")
+    public ResponseEntity<StreamingResponseBody> streamContent(@PathVariable Long id) {
+        logger.info("GET /manuscripts/{}/content - 원고 본문 조회", id);
+        if (!manuscriptRepository.existsById(id)) {
+            logger.warn("원고를 찾을 수 없음: {}", id);
+            return ResponseEntity.notFound().build();
+        }
+        List<ManuscriptChunkInfo> chunks = manuscriptContentStore.manifest(id);
+        StreamingResponseBody body = out -> manuscriptContentStore.writeTo(chunks, out);
+        return ResponseEntity.ok()
+            .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+            .body(body);
+    }
+
     // 작가별 원고 조회
     @GetMapping("/author/{authorId}")
     public ResponseEntity<List<Manuscript>> getManuscriptsByAuthor(@PathVariable Long authorId) {
         logger.info("GET /manuscripts/author/{} - 작가별 원고 조회", authorId);
-        List<Manuscript> manuscripts = manuscriptRepository.findByAuthorId(authorId);
+        List<Manuscript> manuscripts = manuscriptContentStore.describe(manuscriptRepository.findByAuthorId(authorId));
         logger.info("작가 ID {}의 원고 수: {}", authorId, manuscripts.size());
         return ResponseEntity.ok(manuscripts);
     }
@@ -93,6 +160,7 @@ public class ManuscriptController {
         logger.info("DELETE /manuscripts/{} - 원고 삭제", id);
         if (manuscriptRepository.existsById(id)) {
             manuscriptRepository.deleteById(id);
+            manuscriptContentStore.delete(id);
             logger.info("원고 삭제 성공: ID={}", id);
             return ResponseEntity.noContent().build();
         } else {
@@ -120,5 +188,47 @@ public class ManuscriptController {
             return ResponseEntity.notFound().build();
         }
     }
+
+    public static class ChunkPatchRequest {
+        private List<ManuscriptContentStore.ChunkEdit> chunks;
+        
+        public List<ManuscriptContentStore.ChunkEdit> getChunks() { return chunks; }
+        public void setChunks(List<ManuscriptContentStore.ChunkEdit> chunks) { this.chunks = chunks; }
+    }
+    
+    public static class ChunkManifest {
+        private Long manuscriptId;
+        private int length;
+        private List<ChunkInfo> chunks;
+        
+        static ChunkManifest of(Long manuscriptId, List<ManuscriptChunkInfo> infos) {
+            ChunkManifest manifest = new ChunkManifest();
+            manifest.manuscriptId = manuscriptId;
+            manifest.chunks = new ArrayList<>(infos.size());
+            for (ManuscriptChunkInfo info : infos) {
+                ChunkInfo chunk = new ChunkInfo();
+                chunk.position = info.getPosition();
+                chunk.hash = info.getHash();
+                chunk.length = info.getLength();
+                manifest.chunks.add(chunk);
+                manifest.length += info.getLength() != null ? info.getLength() : 0;
+            }
+            return manifest;
+        }
+        
+        public Long getManuscriptId() { return manuscriptId; }
+        public int getLength() { return length; }
+        public List<ChunkInfo> getChunks() { return chunks; }
+    }
+    
+    public static class ChunkInfo {
+        private Integer position;
+        private String hash;
+        private Integer length;
+        
+        public Integer getPosition() { return position; }
+        public String getHash() { return hash; }
+        public Integer getLength() { return length; }
+    }
 }
 //>>> Clean Arch / Inbound Adaptor
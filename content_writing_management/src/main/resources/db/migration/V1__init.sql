@@ -0,0 +1,41 @@
+-- 원고 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence manuscript_seq start with 1 increment by 50;
+create sequence manuscript_chunk_seq start with 1 increment by 50;
+
+create table manuscript_table (
+    manuscript_id bigint not null,
+    author_id bigint,
+    title varchar(255),
+    status varchar(255),
+    cover_image clob,
+    view_count bigint,
+    created_at timestamp,
+    updated_at timestamp,
+    primary key (manuscript_id)
+);
+
+create index ix_manuscript_author_status on manuscript_table (author_id, status);
+
+-- 본문 청크 (plain 또는 gzip 바이트)
+create table manuscript_chunk_table (
+    chunk_id bigint not null,
+    manuscript_id bigint,
+    position integer,
+    hash varchar(64),
+    data blob,
+    encoding varchar(255),
+    length integer,
+    updated_at timestamp,
+    primary key (chunk_id)
+);
+
+create index ix_manuscript_chunk_position on manuscript_chunk_table (manuscript_id, position);
+
+create table manuscript_list_table (
+    manuscript_id bigint not null,
+    title varchar(255),
+    last_saved_at varchar(255),
+    primary key (manuscript_id)
+);
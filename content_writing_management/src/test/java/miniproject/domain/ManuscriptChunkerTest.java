@@ -0,0 +1,130 @@
+package miniproject.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class ManuscriptChunkerTest {
+
+    // 300 문단 (약 12만 자) 이면 수십 개 조각으로 나뉜다
+    private static final int PARAGRAPHS = 300;
+
+    @Test
+    void emptyTextHasNoChunks() {
+        assertThat(ManuscriptChunker.split(null)).isEmpty();
+        assertThat(ManuscriptChunker.split("")).isEmpty();
+    }
+
+    @Test
+    void shortTextIsOneChunk() {
+        String text = "첫 문단\n\n둘째 문단\n";
+
+        assertThat(ManuscriptChunker.split(text)).containsExactly(text);
+    }
+
+    @Test
+    void chunksReassembleToTheOriginalText() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(1L, PARAGRAPHS));
+
+        List<String> chunks = ManuscriptChunker.split(text);
+
+        assertThat(chunks.size()).isGreaterThan(10);
+        assertThat(String.join("", chunks)).isEqualTo(text);
+        for (String chunk : chunks.subList(0, chunks.size() - 1)) {
+            assertThat(chunk.length()).isBetween(ManuscriptChunker.MIN_CHARS, ManuscriptChunker.MAX_CHARS);
+            // 문단 사이(빈 줄 뒤)에서만 자른다
+            assertThat(chunk).endsWith("\n\n");
+        }
+    }
+
+    @Test
+    void longParagraphIsCutAtMaxWithoutSplittingSurrogatePairs() {
+        // 앞의 두 글자 때문에 MAX_CHARS 위치가 이모지의 low surrogate 에 걸린다
+        StringBuilder text = new StringBuilder("AB");
+        while (text.length() < 3 * ManuscriptChunker.MAX_CHARS) {
+            text.append("가😀");
+        }
+
+        List<String> chunks = ManuscriptChunker.split(text.toString());
+
+        assertThat(chunks.size()).isGreaterThan(2);
+        assertThat(String.join("", chunks)).isEqualTo(text.toString());
+        for (String chunk : chunks) {
+            assertThat(chunk.length()).isLessThanOrEqualTo(ManuscriptChunker.MAX_CHARS);
+            assertThat(Character.isLowSurrogate(chunk.charAt(0))).isFalse();
+            assertThat(Character.isHighSurrogate(chunk.charAt(chunk.length() - 1))).isFalse();
+        }
+    }
+
+    @Test
+    void localEditOnlyChangesNearbyChunks() {
+        List<String> paragraphs = ManuscriptTexts.paragraphs(2L, PARAGRAPHS);
+        List<String> original = hashes(ManuscriptChunker.split(ManuscriptTexts.join(paragraphs)));
+
+        String editedText = ManuscriptTexts.join(
+            ManuscriptTexts.insertSentence(paragraphs, PARAGRAPHS / 2, " 새로 끼워 넣은 문장입니다.")
+        );
+        List<String> editedChunks = ManuscriptChunker.split(editedText);
+        List<String> edited = hashes(editedChunks);
+
+        assertThat(String.join("", editedChunks)).isEqualTo(editedText);
+        assertChangedAtMost(original, edited, 3);
+
+        // 고친 곳 앞의 조각은 순서까지 그대로다
+        int prefix = commonPrefix(original, edited);
+        assertThat(prefix).isGreaterThan(original.size() / 3);
+    }
+
+    @Test
+    void editAtTheStartLeavesTheRestUnchanged() {
+        List<String> paragraphs = ManuscriptTexts.paragraphs(3L, PARAGRAPHS);
+        List<String> original = hashes(ManuscriptChunker.split(ManuscriptTexts.join(paragraphs)));
+
+        List<String> edited = hashes(ManuscriptChunker.split(ManuscriptTexts.join(
+            ManuscriptTexts.insertSentence(paragraphs, 0, " 머리말을 고쳤다.")
+        )));
+
+        assertChangedAtMost(original, edited, 3);
+    }
+
+    @Test
+    void hashIsStableHexSha256() {
+        String hash = ManuscriptChunker.hash("문단");
+
+        assertThat(hash).hasSize(64).matches("[0-9a-f]+");
+        assertThat(ManuscriptChunker.hash("문단")).isEqualTo(hash);
+        assertThat(ManuscriptChunker.hash("문단 ")).isNotEqualTo(hash);
+    }
+
+    private static void assertChangedAtMost(List<String> original, List<String> edited, int limit) {
+        Set<String> before = new HashSet<>(original);
+        int added = 0;
+        for (String hash : edited) {
+            if (!before.contains(hash)) {
+                added++;
+            }
+        }
+        assertThat(added).as("new chunks after a local edit").isBetween(1, limit);
+        assertThat(edited.size()).isBetween(original.size() - limit, original.size() + limit);
+    }
+
+    private static int commonPrefix(List<String> a, List<String> b) {
+        int i = 0;
+        while (i < a.size() && i < b.size() && a.get(i).equals(b.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static List<String> hashes(List<String> chunks) {
+        List<String> hashes = new ArrayList<>(chunks.size());
+        for (String chunk : chunks) {
+            hashes.add(ManuscriptChunker.hash(chunk));
+        }
+        return hashes;
+    }
+}
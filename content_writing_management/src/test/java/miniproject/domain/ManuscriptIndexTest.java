@@ -0,0 +1,39 @@
+package miniproject.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원고 테이블에서 자주 도는 조회가 엔티티에 선언한 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * SQL 은 각 repository 메서드가 만드는 조건과 같은 모양으로 적는다.
+ */
+@DataJpaTest
+class ManuscriptIndexTest {
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 miniproject.domain 의 엔티티/repository 만 올린다
+    @Configuration
+    @AutoConfigurationPackage
+    static class JpaOnly {}
+
+    @Autowired
+    EntityManager entityManager;
+
+    // findByAuthorId (작가 센터 원고 목록, 인덱스 앞 컬럼만 사용)
+    @Test
+    void findByAuthorIdUsesAuthorStatusIndexPrefix() {
+        assertThat(plan("select * from manuscript_table where author_id = 1"))
+            .contains("IX_MANUSCRIPT_AUTHOR_STATUS");
+    }
+
+    private String plan(String sql) {
+        Object plan = entityManager.createNativeQuery("explain " + sql).getSingleResult();
+        return String.valueOf(plan).toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package miniproject.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 테스트용 원고 본문. 시드가 같으면 항상 같은 문단들을 만든다.
+ */
+public final class ManuscriptTexts {
+
+    private ManuscriptTexts() {}
+
+    // 200~600 자짜리 한글 문단 count 개
+    public static List<String> paragraphs(long seed, int count) {
+        Random random = new Random(seed);
+        List<String> paragraphs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = 200 + random.nextInt(400);
+            StringBuilder paragraph = new StringBuilder(length);
+            while (paragraph.length() < length) {
+                int word = 1 + random.nextInt(5);
+                for (int j = 0; j < word; j++) {
+                    paragraph.append((char) (0xAC00 + random.nextInt(11172)));
+                }
+                paragraph.append(random.nextInt(8) == 0 ? ". " : " ");
+            }
+            paragraphs.add(paragraph.toString().trim());
+        }
+        return paragraphs;
+    }
+
+    public static String join(List<String> paragraphs) {
+        return String.join("\n\n", paragraphs) + "\n";
+    }
+
+    // index 번째 문단 가운데에 문장 하나를 끼워 넣는다
+    public static List<String> insertSentence(List<String> paragraphs, int index, String sentence) {
+        List<String> edited = new ArrayList<>(paragraphs);
+        String paragraph = edited.get(index);
+        int middle = paragraph.length() / 2;
+        edited.set(index, paragraph.substring(0, middle) + sentence + paragraph.substring(middle));
+        return edited;
+    }
+}
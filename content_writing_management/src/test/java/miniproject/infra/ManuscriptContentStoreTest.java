@@ -0,0 +1,190 @@
+package miniproject.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import miniproject.domain.Manuscript;
+import miniproject.domain.ManuscriptChunkInfo;
+import miniproject.domain.ManuscriptChunker;
+import miniproject.domain.ManuscriptTexts;
+import miniproject.infra.ManuscriptContentStore.ChunkEdit;
+import miniproject.infra.ManuscriptContentStore.SaveResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+class ManuscriptContentStoreTest {
+
+    private static final Long MANUSCRIPT_ID = 1L;
+    private static final int PARAGRAPHS = 300;
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 조각 repository 와 저장소만 올린다
+    @Configuration
+    @AutoConfigurationPackage(basePackageClasses = Manuscript.class)
+    @Import(ManuscriptContentStore.class)
+    static class JpaOnly {}
+
+    @Autowired
+    ManuscriptContentStore store;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Test
+    void savedTextLoadsBackUnchanged() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(1L, PARAGRAPHS));
+
+        SaveResult result = store.save(MANUSCRIPT_ID, text);
+        flushAndClear();
+
+        assertThat(result.getChunks()).isEqualTo(ManuscriptChunker.split(text).size());
+        assertThat(result.getWritten()).isEqualTo(result.getChunks());
+        assertThat(store.load(MANUSCRIPT_ID)).isEqualTo(text);
+    }
+
+    @Test
+    void resavingALocalEditWritesOnlyTheChangedChunks() {
+        List<String> paragraphs = ManuscriptTexts.paragraphs(2L, PARAGRAPHS);
+        SaveResult first = store.save(MANUSCRIPT_ID, ManuscriptTexts.join(paragraphs));
+        flushAndClear();
+
+        String edited = ManuscriptTexts.join(
+            ManuscriptTexts.insertSentence(paragraphs, PARAGRAPHS / 2, " 새로 끼워 넣은 문장입니다.")
+        );
+        SaveResult second = store.save(MANUSCRIPT_ID, edited);
+        flushAndClear();
+
+        assertThat(second.getWritten()).isBetween(1, 3);
+        assertThat(second.getReused()).isEqualTo(second.getChunks() - second.getWritten());
+        assertThat(second.getRemoved()).isEqualTo(first.getChunks() - second.getReused());
+        assertThat(store.load(MANUSCRIPT_ID)).isEqualTo(edited);
+        assertThat(positions()).isEqualTo(expectedPositions(second.getChunks()));
+    }
+
+    @Test
+    void applyReplacesOneChunkByContentAndKeepsTheRestByHash() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(3L, PARAGRAPHS));
+        store.save(MANUSCRIPT_ID, text);
+        flushAndClear();
+        List<String> chunks = ManuscriptChunker.split(text);
+        List<ManuscriptChunkInfo> manifest = store.manifest(MANUSCRIPT_ID);
+
+        int replaced = manifest.size() / 2;
+        String replacement = "바꿔 쓴 조각입니다.\n\n";
+        List<ChunkEdit> edits = new ArrayList<>();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < manifest.size(); i++) {
+            if (i == replaced) {
+                edits.add(ChunkEdit.content(replacement));
+                expected.append(replacement);
+            } else {
+                edits.add(reference(manifest.get(i).getHash()));
+                expected.append(chunks.get(i));
+            }
+        }
+
+        SaveResult result = store.apply(MANUSCRIPT_ID, edits);
+        flushAndClear();
+
+        assertThat(result.getWritten()).isEqualTo(1);
+        assertThat(result.getReused()).isEqualTo(manifest.size() - 1);
+        assertThat(result.getRemoved()).isEqualTo(1);
+        assertThat(store.load(MANUSCRIPT_ID)).isEqualTo(expected.toString());
+    }
+
+    @Test
+    void applyCanReorderChunksWithoutRewritingThem() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(4L, PARAGRAPHS));
+        store.save(MANUSCRIPT_ID, text);
+        flushAndClear();
+        List<String> chunks = new ArrayList<>(ManuscriptChunker.split(text));
+        List<ChunkEdit> edits = new ArrayList<>();
+        for (ManuscriptChunkInfo chunk : store.manifest(MANUSCRIPT_ID)) {
+            edits.add(reference(chunk.getHash()));
+        }
+        Collections.swap(edits, 0, edits.size() - 1);
+        Collections.swap(chunks, 0, chunks.size() - 1);
+
+        SaveResult result = store.apply(MANUSCRIPT_ID, edits);
+        flushAndClear();
+
+        assertThat(result.getWritten()).isZero();
+        assertThat(result.getRemoved()).isZero();
+        assertThat(store.load(MANUSCRIPT_ID)).isEqualTo(String.join("", chunks));
+        assertThat(positions()).isEqualTo(expectedPositions(chunks.size()));
+    }
+
+    @Test
+    void unknownHashFailsBeforeWritingAnything() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(5L, PARAGRAPHS));
+        store.save(MANUSCRIPT_ID, text);
+        flushAndClear();
+
+        List<ChunkEdit> edits = new ArrayList<>();
+        edits.add(ChunkEdit.content("앞에 붙인 새 조각\n\n"));
+        edits.add(reference(ManuscriptChunker.hash("저장된 적 없는 조각")));
+
+        assertThatThrownBy(() -> store.apply(MANUSCRIPT_ID, edits))
+            .isInstanceOf(IllegalArgumentException.class);
+        flushAndClear();
+        assertThat(store.load(MANUSCRIPT_ID)).isEqualTo(text);
+    }
+
+    @Test
+    void describeFillsOnlyTheLengthForListResponses() {
+        String text = ManuscriptTexts.join(ManuscriptTexts.paragraphs(6L, PARAGRAPHS));
+        store.save(MANUSCRIPT_ID, text);
+        flushAndClear();
+        Manuscript saved = manuscript(MANUSCRIPT_ID);
+        Manuscript empty = manuscript(MANUSCRIPT_ID + 1);
+
+        store.describe(Arrays.asList(saved, empty));
+
+        assertThat(saved.getContent()).isNull();
+        assertThat(saved.getContentLength()).isEqualTo(text.length());
+        assertThat(empty.getContentLength()).isNull();
+    }
+
+    private static Manuscript manuscript(Long manuscriptId) {
+        Manuscript manuscript = new Manuscript();
+        manuscript.setManuscriptId(manuscriptId);
+        return manuscript;
+    }
+
+    private static ChunkEdit reference(String hash) {
+        ChunkEdit edit = new ChunkEdit();
+        edit.setHash(hash);
+        return edit;
+    }
+
+    private List<Integer> positions() {
+        List<Integer> positions = new ArrayList<>();
+        for (ManuscriptChunkInfo chunk : store.manifest(MANUSCRIPT_ID)) {
+            positions.add(chunk.getPosition());
+        }
+        return positions;
+    }
+
+    private static List<Integer> expectedPositions(int count) {
+        List<Integer> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            positions.add(i);
+        }
+        return positions;
+    }
+
+    // 다음 조회가 영속성 컨텍스트가 아니라 DB 를 읽도록 한다
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -26,9 +26,23 @@ export const AuthorCenter = ({ user, onBack, onWriteClick, refreshTrigger }: Aut
   };
 
   // 원고 편집 (에디터로 이동)
-  const handleEditManuscript = (manuscript: Manuscript) => {
-    // 편집할 원고 정보를 localStorage에 저장하고 에디터로 이동
-    localStorage.setItem('editingManuscript', JSON.stringify(manuscript));
+  const handleEditManuscript = async (manuscript: Manuscript) => {
+    // 목록에는 본문이 없으므로 단건 조회로 본문까지 받아 localStorage에 저장하고 에디터로 이동
+    let editing = manuscript;
+    if (manuscript.manuscriptId) {
+      try {
+        editing = await manuscriptAPI.getById(manuscript.manuscriptId);
+      } catch (error) {
+        console.error('원고 조회 실패:', error);
+        toast({
+          title: "원고를 불러오지 못했습니다",
+          description: "잠시 후 다시 시도해주세요.",
+          variant: "destructive"
+        });
+        return;
+      }
+    }
+    localStorage.setItem('editingManuscript', JSON.stringify(editing));
     onWriteClick();
   };
 
@@ -265,11 +279,7 @@ export const AuthorCenter = ({ user, onBack, onWriteClick, refreshTrigger }: Aut
                         </div>
                         
                         <div className="text-sm text-gray-600 leading-relaxed">
-                          {manuscript.content ? (
-                            manuscript.content.length > 150 
-                              ? `${manuscript.content.substring(0, 150)}...` 
-                              : manuscript.content
-                          ) : '내용이 없습니다.'}
+                          {manuscript.contentLength ? '편집을 눌러 본문을 확인하세요.' : '내용이 없습니다.'}
                         </div>
                         
                         <div className="flex items-center space-x-4 text-xs text-gray-500">
@@ -278,7 +288,7 @@ export const AuthorCenter = ({ user, onBack, onWriteClick, refreshTrigger }: Aut
                             조회수: {(Math.floor(Math.random() * 1000) + index * 50).toLocaleString()}
                           </span>
                           <span>
-                            글자수: {manuscript.content?.length.toLocaleString() || 0}자
+                            글자수: {(manuscript.contentLength || 0).toLocaleString()}자
                           </span>
                           <span>
                             최종 수정: {manuscript.updatedAt ? new Date(manuscript.updatedAt).toLocaleDateString() : '방금 전'}
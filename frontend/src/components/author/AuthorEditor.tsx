@@ -169,13 +169,13 @@ export const AuthorEditor = ({ user, onBack, onManuscriptSaved }: AuthorEditorPr
 
     try {
       if (isEditMode && lastSavedManuscriptId) {
-        // 기존 원고 수정
+        // 기존 원고 수정 (본문은 바뀐 조각만 보낸다)
         const updatedManuscript = await manuscriptAPI.update(lastSavedManuscriptId, {
           title,
-          content,
           coverImage: generatedCover,
           status: 'DRAFT'
         });
+        await manuscriptAPI.saveContent(lastSavedManuscriptId, content);
 
         toast({
           title: "작품이 수정되었습니다!",
@@ -47,7 +47,7 @@ export const BookDetail = ({
     ];
 
   const handleReadBook = async () => {
-    if (isSubscribed) {
+    if (isSubscribed || book.isOwned) { // 구독 중이거나 이미 구매한 도서
       setIsReading(true);
     } else if (points >= 1000) { // 1000포인트 필요
       try {
@@ -239,9 +239,9 @@ export const BookDetail = ({
             onClick={handleReadBook}
             className="w-full bg-amber-700 hover:bg-amber-800 text-white py-4 text-lg font-medium rounded-xl transition-all duration-300 hover:scale-[1.02]"
           >
-            {isSubscribed ? '👑 프리미엄으로 무제한 열람하기' : `💰 1,000 포인트로 열람하기`}
+            {isSubscribed ? '👑 프리미엄으로 무제한 열람하기' : book.isOwned ? '📖 구매한 도서 열람하기' : `💰 1,000 포인트로 열람하기`}
           </Button>
-          {!isSubscribed && points < 1000 && (
+          {!isSubscribed && !book.isOwned && points < 1000 && (
             <p className="text-center text-sm text-amber-700 mt-2">
               포인트가 부족합니다. 충전이 필요해요!
             </p>
@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from 'react';
-import { bookAPI, Book } from '../../services/api';
+import { bookAPI, Book, coverThumbnailUrl } from '../../services/api';
 import { useNavigate } from 'react-router-dom';
 
 interface BookListProps {
@@ -104,7 +104,7 @@ const BookList: React.FC<BookListProps> = ({
               <div className="aspect-[3/4] bg-gray-100 rounded-t-lg overflow-hidden">
                 {book.coverImage ? (
                   <img
-                    src={book.coverImage}
+                    src={coverThumbnailUrl(book.coverImage, 384)}
                     alt={book.title}
                     className="w-full h-full object-cover"
                     onError={(e) => {
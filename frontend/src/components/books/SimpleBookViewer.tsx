@@ -3,7 +3,7 @@ import { ArrowLeft, User, Eye, Heart } from 'lucide-react';
 import { Button } from '@/components/ui/button';
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
 import { Badge } from '@/components/ui/badge';
-import { Book } from '@/services/api';
+import { Book, coverThumbnailUrl } from '@/services/api';
 
 interface SimpleBookViewerProps {
   book: Book;
@@ -38,7 +38,7 @@ const SimpleBookViewer: React.FC<SimpleBookViewerProps> = ({ book, onBack }) =>
               <div className="w-48 h-64 mx-auto md:mx-0 flex-shrink-0">
                 {book.coverImage ? (
                   <img
-                    src={book.coverImage}
+                    src={coverThumbnailUrl(book.coverImage, 384)}
                     alt={book.title}
                     className="w-full h-full object-cover rounded-lg shadow-md"
                     onError={(e) => {
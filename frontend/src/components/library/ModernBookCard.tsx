@@ -1,6 +1,7 @@
 
 import { Badge } from '@/components/ui/badge';
 import { Eye } from 'lucide-react';
+import { coverThumbnailUrl, isCoverImageUrl } from '@/services/api';
 
 interface Book {
   id: number;
@@ -12,6 +13,7 @@ interface Book {
   views?: number;
   isNew?: boolean;
   isBestseller?: boolean;
+  isOwned?: boolean;
 }
 
 interface ModernBookCardProps {
@@ -30,9 +32,9 @@ export const ModernBookCard = ({ book, onBookSelect }: ModernBookCardProps) => {
           {/* Book Cover */}
           <div className="relative aspect-[3/4] bg-gradient-to-br from-gray-100 to-gray-200 group-hover:from-gray-200 group-hover:to-gray-300 transition-all duration-500">
             {/* 실제 이미지 URL인지 확인 후 이미지 또는 이모지 표시 */}
-            {book.cover && (book.cover.startsWith('http') || book.cover.startsWith('data:')) ? (
+            {isCoverImageUrl(book.cover) ? (
               <img 
-                src={book.cover} 
+                src={coverThumbnailUrl(book.cover, 384)} 
                 alt={book.title}
                 className="absolute inset-0 w-full h-full object-cover group-hover:scale-110 transition-transform duration-500"
                 onError={(e) => {
@@ -46,7 +48,7 @@ export const ModernBookCard = ({ book, onBookSelect }: ModernBookCardProps) => {
             
             {/* 이모지 fallback */}
             <div className={`absolute inset-0 flex items-center justify-center text-6xl group-hover:scale-110 transition-transform duration-500 ${
-              book.cover && (book.cover.startsWith('http') || book.cover.startsWith('data:')) ? 'hidden' : ''
+              isCoverImageUrl(book.cover) ? 'hidden' : ''
             }`}>
               {book.cover || '📖'}
             </div>
@@ -66,6 +68,11 @@ export const ModernBookCard = ({ book, onBookSelect }: ModernBookCardProps) => {
                   BEST
                 </Badge>
               )}
+              {book.isOwned && (
+                <Badge className="bg-gradient-to-r from-amber-600 to-amber-800 text-white border-0">
+                  열람 가능
+                </Badge>
+              )}
             </div>
 
             {/* Hover Stats */}
@@ -11,6 +11,7 @@ interface Book {
   views?: number;
   isNew?: boolean;
   isBestseller?: boolean;
+  isOwned?: boolean;
 }
 
 interface ModernBookCarouselProps {
@@ -16,6 +16,7 @@ interface ModernHeaderProps {
   isSubscribed: boolean;
   onPaymentClick: () => void;
   onLogout: () => void;
+  onSearch?: (query: string) => void;
 }
 
 export const ModernHeader = ({ 
@@ -23,7 +24,8 @@ export const ModernHeader = ({
   points, 
   isSubscribed, 
   onPaymentClick, 
-  onLogout 
+  onLogout,
+  onSearch
 }: ModernHeaderProps) => {
   return (
     <header className="bg-white/90 backdrop-blur-xl border-b border-gray-200/50 sticky top-0 z-50">
@@ -44,6 +46,11 @@ export const ModernHeader = ({
               <input
                 type="text"
                 placeholder="작품이나 작가를 검색해보세요..."
+                onKeyDown={(e) => {
+                  if (e.key === 'Enter') {
+                    onSearch?.(e.currentTarget.value.trim());
+                  }
+                }}
                 className="pl-10 pr-4 py-2 w-80 bg-gray-50 border border-gray-200 rounded-full text-sm focus:outline-none focus:ring-2 focus:ring-amber-500 focus:border-transparent transition-all duration-200"
               />
             </div>
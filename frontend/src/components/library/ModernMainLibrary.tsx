@@ -2,7 +2,7 @@ import { useState, useEffect } from 'react';
 import { ModernHeader } from './ModernHeader';
 import { ModernBookCarousel } from './ModernBookCarousel';
 import { Footer } from '@/components/ui/footer';
-import { bookAPI, authorAPI, Book as APIBook, Author } from '@/services/api';
+import { bookAPI, authorAPI, pointAPI, subscriptionAPI, Book as APIBook, Author } from '@/services/api';
 
 interface Book {
   id: number;
@@ -16,6 +16,7 @@ interface Book {
   isBestseller?: boolean;
   content?: string;
   authorId?: number;
+  isOwned?: boolean;
 }
 
 const mockBooks: Book[] = [
@@ -122,6 +123,33 @@ export const ModernMainLibrary = ({
   const [featuredBooks, setFeaturedBooks] = useState<Book[]>([]);
   const [newBooks, setNewBooks] = useState<Book[]>([]);
   const [bestSellerBooks, setBestSellerBooks] = useState<Book[]>([]);
+  const [searchQuery, setSearchQuery] = useState('');
+  const [searchResults, setSearchResults] = useState<Book[]>([]);
+  const [ownedBookIds, setOwnedBookIds] = useState<Set<number>>(new Set());
+
+  // 서버 검색 색인으로 찾는다 (빈 검색어면 결과를 닫는다)
+  const handleSearch = async (query: string) => {
+    setSearchQuery(query);
+    if (!query) {
+      setSearchResults([]);
+      return;
+    }
+    try {
+      const result = await bookAPI.search(query);
+      setSearchResults(result.hits.map(hit => ({
+        id: hit.bookId,
+        title: hit.title,
+        author: hit.authorName || authors[hit.authorId ?? -1]?.authorName || '알 수 없는 작가',
+        cover: '📖',
+        genre: '소설',
+        price: 1000,
+        authorId: hit.authorId
+      })));
+    } catch (error) {
+      console.error('도서 검색 실패:', error);
+      setSearchResults([]);
+    }
+  };
 
   // 실제 API에서 도서와 작가 데이터 불러오기
   useEffect(() => {
@@ -167,7 +195,6 @@ export const ModernMainLibrary = ({
           views: book.viewCount || 0, // 실제 조회수 (기본값 0)
           isNew: new Date(book.createdAt).getTime() > Date.now() - 7 * 24 * 60 * 60 * 1000, // 7일 이내
           isBestseller: (book.viewCount || 0) >= 10, // 조회수 10 이상이면 베스트셀러
-          content: book.content,
           authorId: book.authorId
         }));
         
@@ -183,6 +210,26 @@ export const ModernMainLibrary = ({
         setNewBooks(transformedBooks.filter(book => book.isNew));
         setBestSellerBooks(transformedBooks.filter(book => book.isBestseller));
         
+        // 서버 베스트셀러 순위(주간)가 있으면 그것을 쓴다
+        try {
+          const ranking = await bookAPI.getBestsellers('weekly');
+          if (ranking.length > 0) {
+            setBestSellerBooks(ranking.map(entry => ({
+              id: entry.bookId,
+              title: entry.title,
+              author: authorsData[entry.authorId ?? -1]?.authorName || '알 수 없는 작가',
+              cover: entry.coverImage || '📖',
+              genre: '소설',
+              price: 1000,
+              views: entry.views,
+              isBestseller: true,
+              authorId: entry.authorId
+            })));
+          }
+        } catch (error) {
+          console.warn('베스트셀러 순위 조회 실패:', error);
+        }
+        
         // 데이터가 없을 때 mockBooks 사용
         if (transformedBooks.length === 0) {
           console.log('실제 도서 데이터가 없어서 mockBooks 사용');
@@ -208,6 +255,38 @@ export const ModernMainLibrary = ({
     loadData();
   }, []);
 
+  // 화면에 올라온 도서들의 열람 권한을 도서마다 묻지 않고 서비스별 배치 한 번으로 확인한다
+  useEffect(() => {
+    if (user?.userType !== 'reader' || !user?.userId) {
+      setOwnedBookIds(new Set());
+      return;
+    }
+    const bookIds = [...new Set([...books, ...bestSellerBooks, ...searchResults].map(book => book.id))];
+    if (bookIds.length === 0) {
+      return;
+    }
+    const items = bookIds.map(bookId => ({ userId: user.userId, bookId }));
+
+    let cancelled = false;
+    Promise.all([pointAPI.checkEntitlements(items), subscriptionAPI.checkEntitlements(items)])
+      .then(([pointResults, subscriptionResults]) => {
+        if (cancelled) {
+          return;
+        }
+        const owned = new Set<number>();
+        pointResults.filter(result => result.purchased).forEach(result => owned.add(result.bookId));
+        subscriptionResults.filter(result => result.isSubscriber).forEach(result => owned.add(result.bookId));
+        setOwnedBookIds(owned);
+      })
+      .catch(error => console.warn('열람 권한 배치 조회 실패:', error));
+
+    return () => {
+      cancelled = true;
+    };
+  }, [books, bestSellerBooks, searchResults, user?.userId, user?.userType]);
+
+  const withOwnership = (list: Book[]) => list.map(book => ({ ...book, isOwned: ownedBookIds.has(book.id) }));
+
   if (loading) {
     return (
       <div className="min-h-screen bg-gradient-to-br from-slate-50 via-white to-amber-50/30 flex items-center justify-center">
@@ -227,27 +306,37 @@ export const ModernMainLibrary = ({
         isSubscribed={isSubscribed}
         onPaymentClick={onPaymentClick}
         onLogout={onLogout}
+        onSearch={handleSearch}
       />
       
       <main className="max-w-7xl mx-auto py-6 px-4 sm:px-6 lg:px-8 space-y-8">
+        {/* Search Results */}
+        {searchQuery && (
+          <ModernBookCarousel
+            title={`🔎 '${searchQuery}' 검색 결과 ${searchResults.length}건`}
+            books={withOwnership(searchResults)}
+            onBookSelect={onBookSelect}
+          />
+        )}
+
         {/* Featured Books Carousel */}
         <ModernBookCarousel
           title="✨ 추천 작품"
-          books={featuredBooks}
+          books={withOwnership(featuredBooks)}
           onBookSelect={onBookSelect}
         />
 
         {/* New Releases Carousel */}
         <ModernBookCarousel
           title="🔥 따끈따끈 신작"
-          books={newBooks}
+          books={withOwnership(newBooks)}
           onBookSelect={onBookSelect}
         />
 
         {/* Bestseller Carousel */}
         <ModernBookCarousel
           title="🏆 요즘 핫한 베스트셀러"
-          books={bestSellerBooks}
+          books={withOwnership(bestSellerBooks)}
           onBookSelect={onBookSelect}
         />
 
@@ -255,7 +344,7 @@ export const ModernMainLibrary = ({
         <div className="space-y-2">
           <h2 className="text-2xl font-semibold text-gray-800">📚 모든 작품</h2>
           <div className="grid grid-cols-2 sm:grid-cols-3 lg:grid-cols-4 xl:grid-cols-5 gap-4">
-            {books.map((book) => (
+            {withOwnership(books).map((book) => (
               <div key={book.id}>
                 <div onClick={() => onBookSelect(book)}>
                   {book.title}
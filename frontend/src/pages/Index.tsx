@@ -103,16 +103,25 @@ const Index = () => {
       console.warn('조회수 증가 실패:', error);
     }
     
+    // 목록에는 본문이 없으므로 상세 화면에 들어갈 때 단건 조회로 받는다
+    let content = book.content;
+    try {
+      content = (await manuscriptAPI.getById(book.id)).content;
+    } catch (error) {
+      console.warn('본문 조회 실패:', error);
+    }
+
     // ModernMainLibrary의 Book 형태를 API Book 형태로 변환
     const apiBook = {
       bookId: book.id,
       title: book.title,
-      content: book.content || '내용을 불러오는 중...',
+      content: content || '내용을 불러오는 중...',
       authorId: book.authorId,
       status: 'PUBLISHED',
       coverImage: book.cover,
       viewCount: book.views || 0,
       isBestseller: book.isBestseller || false,
+      isOwned: book.isOwned || false, // 라이브러리 배치 권한 조회 결과
       createdAt: new Date().toISOString(),
       publishedAt: new Date().toISOString()
     };
@@ -190,7 +199,7 @@ const Index = () => {
             // 포인트 사용 API 호출
             if (user?.userId) {
               try {
-                await pointAPI.usePoints(user.userId, usedPoints, `도서 "${selectedBook.title}" 구매`);
+                await pointAPI.usePoints(user.userId, usedPoints, `도서 "${selectedBook.title}" 구매`, selectedBook.bookId);
                 // 포인트 잔액 새로고침
                 await loadUserPointsAndSubscription(user.userId);
               } catch (error) {
@@ -1,3 +1,4 @@
+import { buildChunkEdits, ChunkEdit } from './manuscriptChunks';
 // API client for microservices
 const API_BASE_URLS = {
   user: '',  // 프록시를 통해 /users로 요청
@@ -42,7 +43,8 @@ export interface Author {
 export interface Book {
   bookId?: number;
   title: string;
-  content: string;
+  content: string; // 단건 조회에만 실린다 (목록은 contentLength 만)
+  contentLength?: number;
   authorId: number;
   status?: string;
   coverImage?: string;
@@ -52,11 +54,39 @@ export interface Book {
   publishedAt?: string;
 }
 
+// 도서 검색 결과 (GET /books/search)
+export interface BookSearchHit {
+  bookId: number;
+  authorId?: number;
+  title: string;
+  authorName?: string;
+  score: number;
+}
+
+export interface BookSearchResult {
+  page: number;
+  size: number;
+  total: number;
+  totalExact: boolean;
+  hits: BookSearchHit[];
+}
+
+// 베스트셀러 순위 항목 (GET /books/bestsellers)
+export interface BestsellerEntry {
+  rank: number;
+  bookId: number;
+  title: string;
+  authorId?: number;
+  coverImage?: string;
+  views: number;
+}
+
 export interface Manuscript {
   manuscriptId?: number;
   authorId: number;
   title: string;
-  content: string;
+  content: string; // 단건 조회에만 실린다 (목록은 contentLength 만)
+  contentLength?: number;
   status?: 'DRAFT' | 'PUBLISHED';
   coverImage?: string;
   viewCount?: number; // 조회수 (기본값 0)
@@ -85,6 +115,17 @@ export interface Subscription {
   createdAt?: string;
 }
 
+export interface ManuscriptChunkManifest {
+  manuscriptId: number;
+  length: number;
+  chunks: { position: number; hash: string; length: number }[];
+}
+
+export interface EntitlementItem {
+  userId: number;
+  bookId: number;
+}
+
 // Generic API functions
 async function apiRequest<T>(baseUrl: string, endpoint: string, options: RequestInit = {}): Promise<T> {
   const url = `${baseUrl}/${endpoint}`;
@@ -149,31 +190,17 @@ export const userAPI = {
   login: async (email: string, password: string) => {
     console.log('💻 User Login API 호출:', { email });
     try {
-      const response = await apiRequest<User[] | {_embedded?: {users: User[]}, users?: User[]}>(API_BASE_URLS.user, 'users');
-      console.log('📋 모든 사용자 조회 결과:', response);
+      // 이메일 인덱스로 서버에서 확인 (전체 사용자 목록을 내려받지 않는다)
+      const user = await apiRequest<User>(API_BASE_URLS.user, 'users/login', {
+        method: 'POST',
+        body: JSON.stringify({ email, password }),
+      }).catch(() => null);
       
-      // 응답이 배열인지 객체인지 확인
-      let userList: User[] = [];
-      if (Array.isArray(response)) {
-        userList = response;
-      } else if (response._embedded?.users) {
-        userList = response._embedded.users;
-      } else if (response.users) {
-        userList = response.users;
+      if (user && user.userType !== 'reader') {
+        console.log('❌ 독자 로그인 실패: 독자 계정이 아님');
+        throw new Error('이메일 또는 비밀번호가 올바르지 않습니다.');
       }
       
-      console.log('📝 파싱된 사용자 목록:', userList);
-      console.log('🔍 찾는 조건:', { email, password, userType: 'reader' });
-      
-      const user = userList.find(u => {
-        console.log('👤 비교 중인 사용자:', {
-          storedEmail: u.email,
-          storedPassword: u.userPassword,
-          storedType: u.userType
-        });
-        return u.email === email && u.userPassword === password && u.userType === 'reader';
-      });
-      
       if (user) {
         console.log('✅ 독자 로그인 성공:', user);
         return user;
@@ -293,29 +320,11 @@ export const authorAPI = {
   login: async (email: string, password: string) => {
     console.log('💻 Author Login API 호출:', { email });
     try {
-      const response = await apiRequest<Author[] | {_embedded?: {authors: Author[]}, authors?: Author[]}>(API_BASE_URLS.author, 'authors');
-      console.log('📋 모든 작가 조회 결과:', response);
-      
-      // 응답이 배열인지 객체인지 확인
-      let authorList: Author[] = [];
-      if (Array.isArray(response)) {
-        authorList = response;
-      } else if (response._embedded?.authors) {
-        authorList = response._embedded.authors;
-      } else if (response.authors) {
-        authorList = response.authors;
-      }
-      
-      console.log('📝 파싱된 작가 목록:', authorList);
-      console.log('🔍 찾는 조건:', { email, password });
-      
-      const author = authorList.find(a => {
-        console.log('👤 비교 중인 작가:', {
-          storedEmail: a.email,
-          storedPassword: a.authorPassword
-        });
-        return a.email === email && a.authorPassword === password;
-      });
+      // 이메일 인덱스로 서버에서 확인 (전체 작가 목록을 내려받지 않는다)
+      const author = await apiRequest<Author>(API_BASE_URLS.author, 'authors/login', {
+        method: 'POST',
+        body: JSON.stringify({ email, password }),
+      }).catch(() => null);
       
       if (author) {
         console.log('✅ 작가 로그인 성공:', author);
@@ -389,6 +398,14 @@ export const bookAPI = {
   
   getByAuthor: (authorId: number) => apiRequest<Book[]>(API_BASE_URLS.book, `books/author/${authorId}`),
   
+  // 출간된 책 검색 (제목/작가/본문, 점수 순)
+  search: (q: string, page = 0, size = 20) =>
+    apiRequest<BookSearchResult>(API_BASE_URLS.book, `books/search?q=${encodeURIComponent(q)}&page=${page}&size=${size}`),
+  
+  // 베스트셀러 순위 (daily: 최근 24시간, weekly: 최근 7일)
+  getBestsellers: (window: 'daily' | 'weekly' = 'weekly', limit = 10) =>
+    apiRequest<BestsellerEntry[]>(API_BASE_URLS.book, `books/bestsellers?window=${window}&limit=${limit}`),
+  
   // 출간된 책만 조회
   getPublished: () => apiRequest<Book[]>(API_BASE_URLS.book, 'books/published'),
   
@@ -432,6 +449,26 @@ export const manuscriptAPI = {
     body: JSON.stringify(manuscript),
   }),
   
+  // 본문 조각 목록 (순서, 해시, 길이)
+  getChunks: (id: number) => apiRequest<ManuscriptChunkManifest>(API_BASE_URLS.manuscript, `manuscripts/${id}/chunks`),
+  
+  patchChunks: (id: number, chunks: ChunkEdit[]) => apiRequest<ManuscriptChunkManifest>(API_BASE_URLS.manuscript, `manuscripts/${id}/chunks`, {
+    method: 'PATCH',
+    body: JSON.stringify({ chunks }),
+  }),
+  
+  // 본문 저장: 서버에 없는 조각만 보낸다. 조각 목록이 그 사이 바뀌었으면(409) 전체를 다시 보낸다
+  saveContent: async (id: number, content: string) => {
+    const manifest = await manuscriptAPI.getChunks(id);
+    const known = new Set(manifest.chunks.map(chunk => chunk.hash));
+    try {
+      return await manuscriptAPI.patchChunks(id, await buildChunkEdits(content, known));
+    } catch (error) {
+      console.warn('원고 부분 저장 실패, 전체 본문으로 다시 저장:', error);
+      return manuscriptAPI.patchChunks(id, [{ content }]);
+    }
+  },
+  
   // 원고를 Book으로 출간
   publish: async (manuscriptId: number) => {
     console.log('=== MANUSCRIPT PUBLISH PROCESS START ===');
@@ -520,9 +557,20 @@ export const pointAPI = {
   }),
   
   // 포인트 사용 (도서 구매)
-  usePoints: (userId: number, amount: number, description?: string) => apiRequest<Point>(API_BASE_URLS.point, 'points/use', {
+  usePoints: (userId: number, amount: number, description?: string, bookId?: number) => apiRequest<Point>(API_BASE_URLS.point, 'points/use', {
+    method: 'POST',
+    body: JSON.stringify({ userId, amount, description, bookId }),
+  }),
+  
+  // 여러 (사용자, 도서) 조합의 잔액/구매 여부를 한 번에 확인
+  checkEntitlements: (items: EntitlementItem[]) => apiRequest<{
+    userId: number;
+    bookId: number;
+    balance: number;
+    purchased: boolean;
+  }[]>(API_BASE_URLS.point, 'points/entitlements:batch', {
     method: 'POST',
-    body: JSON.stringify({ userId, amount, description }),
+    body: JSON.stringify({ items }),
   }),
   
   // 포인트 충전
@@ -564,9 +612,32 @@ export const subscriptionAPI = {
     planType?: string;
     endDate?: string;
   }>(API_BASE_URLS.subscription, `subscriptions/user/${userId}/status`),
+  
+  // 여러 (사용자, 도서) 조합의 구독 권한을 한 번에 확인
+  checkEntitlements: (items: EntitlementItem[]) => apiRequest<{
+    userId: number;
+    bookId: number;
+    isSubscriber: boolean;
+    planType?: string;
+    endDate?: string;
+  }[]>(API_BASE_URLS.subscription, 'subscriptions/entitlements:batch', {
+    method: 'POST',
+    body: JSON.stringify({ items }),
+  }),
 };
 
 // AI API
+// 로컬 표지 저장소(/ai/covers/{hash}) 이미지는 필요한 크기의 썸네일로 요청한다
+export const coverThumbnailUrl = (coverImage: string | undefined, width: number) => {
+  if (!coverImage || !coverImage.startsWith('/ai/covers/')) {
+    return coverImage;
+  }
+  return `${coverImage}?w=${width}`;
+};
+
+export const isCoverImageUrl = (cover: string | undefined) =>
+  !!cover && (cover.startsWith('http') || cover.startsWith('data:') || cover.startsWith('/ai/covers/'));
+
 export const aiAPI = {
   polishText: (content: string, style?: string) => apiRequest<{
     success: boolean;
@@ -0,0 +1,81 @@
+// 원고 본문을 문단 경계에서 조각으로 나눈다.
+// 서버의 ManuscriptChunker(content_writing_management)와 같은 규칙이어야 해시가 맞는다.
+
+const MIN_CHARS = 2048;
+const MAX_CHARS = 16384;
+const BOUNDARY_MASK = 0x3;
+
+export interface ChunkEdit {
+  hash?: string;
+  content?: string;
+}
+
+// Java String.hashCode 와 같은 계산
+const isBoundary = (text: string, from: number, to: number) => {
+  let h = 0;
+  for (let i = from; i < to; i++) {
+    h = (Math.imul(31, h) + text.charCodeAt(i)) | 0;
+  }
+  return (h & BOUNDARY_MASK) === 0;
+};
+
+// surrogate pair 가운데서 자르지 않는다
+const safeCut = (text: string, index: number) => {
+  const code = text.charCodeAt(index);
+  const prev = text.charCodeAt(index - 1);
+  if (code >= 0xdc00 && code <= 0xdfff && prev >= 0xd800 && prev <= 0xdbff) {
+    return index - 1;
+  }
+  return index;
+};
+
+export const splitIntoChunks = (text: string): string[] => {
+  const chunks: string[] = [];
+  if (!text) {
+    return chunks;
+  }
+
+  let chunkStart = 0;
+  let paragraphStart = 0;
+  while (paragraphStart < text.length) {
+    const separator = text.indexOf('\n\n', paragraphStart);
+    let paragraphEnd = separator < 0 ? text.length : separator + 2;
+    while (paragraphEnd < text.length && text.charAt(paragraphEnd) === '\n') {
+      paragraphEnd++;
+    }
+
+    while (paragraphEnd - chunkStart > MAX_CHARS) {
+      const cut = safeCut(text, chunkStart + MAX_CHARS);
+      chunks.push(text.substring(chunkStart, cut));
+      chunkStart = cut;
+    }
+
+    const length = paragraphEnd - chunkStart;
+    if (length >= MIN_CHARS && isBoundary(text, Math.max(paragraphStart, chunkStart), paragraphEnd)) {
+      chunks.push(text.substring(chunkStart, paragraphEnd));
+      chunkStart = paragraphEnd;
+    }
+    paragraphStart = paragraphEnd;
+  }
+  if (chunkStart < text.length) {
+    chunks.push(text.substring(chunkStart));
+  }
+  return chunks;
+};
+
+export const sha256Hex = async (text: string) => {
+  const digest = await crypto.subtle.digest('SHA-256', new TextEncoder().encode(text));
+  return Array.from(new Uint8Array(digest))
+    .map(b => b.toString(16).padStart(2, '0'))
+    .join('');
+};
+
+// 서버에 이미 있는 조각은 해시만, 새 조각만 본문을 보내는 PATCH 항목을 만든다
+export const buildChunkEdits = async (text: string, knownHashes: Set<string>): Promise<ChunkEdit[]> => {
+  const edits: ChunkEdit[] = [];
+  for (const chunk of splitIntoChunks(text)) {
+    const hash = await sha256Hex(chunk);
+    edits.push(knownHashes.has(hash) ? { hash } : { content: chunk });
+  }
+  return edits;
+};
@@ -0,0 +1,125 @@
+package miniproject.config;
+
+import brave.handler.FinishedSpanHandler;
+import brave.handler.MutableSpan;
+import brave.propagation.TraceContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 끝난 span 을 Zipkin v2 JSON 형식으로 한 줄씩 파일에 남긴다 (tracing.file.path 가 있을 때만).
+ * 오프라인 분석용이라 Zipkin 서버 없이 서비스별 파일을 모아 traceId 로 묶어 보면 된다.
+ * 요청 스레드는 큐에 넣기만 하고 쓰기는 별도 스레드가 한다. 큐가 가득 차면 span 을 버리고 개수만 센다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "tracing.file", name = "path")
+public class FileSpanExporter extends FinishedSpanHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final BlockingQueue<String> queue;
+    private final BufferedWriter writer;
+    private final Thread flusher;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean running = true;
+
+    public FileSpanExporter(
+        @Value("${tracing.file.path}") String path,
+        @Value("${tracing.file.queue-size:10000}") int queueSize
+    ) throws IOException {
+        Path file = Paths.get(path).toAbsolutePath();
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.writer = Files.newBufferedWriter(
+            file,
+            StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.APPEND
+        );
+        this.flusher = new Thread(this::drain, "span-file-exporter");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+        logger.info("span 파일 출력: {}", file);
+    }
+
+    @Override
+    public boolean handle(TraceContext context, MutableSpan span) {
+        if (!queue.offer(toJson(context, span))) {
+            dropped.incrementAndGet();
+        }
+        return true;
+    }
+
+    private String toJson(TraceContext context, MutableSpan span) {
+        ObjectNode node = MAPPER.createObjectNode();
+        node.put("traceId", context.traceIdString());
+        if (context.parentId() != null) {
+            node.put("parentId", String.format("%016x", context.parentId()));
+        }
+        node.put("id", context.spanIdString());
+        if (span.kind() != null) {
+            node.put("kind", span.kind().name());
+        }
+        node.put("name", span.name());
+        node.put("timestamp", span.startTimestamp());
+        node.put("duration", Math.max(0L, span.finishTimestamp() - span.startTimestamp()));
+        node.putObject("localEndpoint").put("serviceName", span.localServiceName());
+        if (span.remoteServiceName() != null) {
+            node.putObject("remoteEndpoint").put("serviceName", span.remoteServiceName());
+        }
+        ObjectNode tags = node.putObject("tags");
+        span.forEachTag((target, key, value) -> target.put(key, value), tags);
+        if (span.error() != null && !tags.has("error")) {
+            tags.put("error", span.error().getClass().getSimpleName());
+        }
+        return node.toString();
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                String line = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (line == null) {
+                    writer.flush();
+                    continue;
+                }
+                writer.write(line);
+                writer.newLine();
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (IOException e) {
+                logger.warn("span 파일 쓰기 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(5));
+        writer.close();
+        if (dropped.get() > 0) {
+            logger.warn("큐가 가득 차 버린 span: {}개", dropped.get());
+        }
+    }
+}
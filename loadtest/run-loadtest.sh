@@ -0,0 +1,102 @@
+#!/bin/bash
+# 종단 간 부하 테스트.
+# 내장 Kafka(localhost:9092) + 전체 서비스(default 프로파일 포트) + 게이트웨이(8088)를 띄우고
+# ai 서비스는 stub 프로파일로 OpenAI 대신 지연만 흉내 내는 대역을 쓴다 (외부 호출/비용 없음).
+# 경로별 p50/p95/p99 표를 출력하고 loadtest/results/report-<시각>.json 으로 남긴다.
+# 각 서비스의 span 은 loadtest/logs/spans-<서비스>.jsonl 로 남는다 (샘플링 비율: TRACE_SAMPLE_PROBABILITY).
+#
+#   ./loadtest/run-loadtest.sh
+#   ./loadtest/run-loadtest.sh users=100 duration=300 think-ms=100
+#   SKIP_BUILD=1 STUB_CHAT_LATENCY_MS=500 ./loadtest/run-loadtest.sh
+#   EXTRA_PROFILES=prod ./loadtest/run-loadtest.sh        # 운영 로그 설정으로
+#   EXTRA_PROFILES=sql-debug ./loadtest/run-loadtest.sh   # 예전 SQL/바인딩 로그로 (비교용)
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+LOGS="$ROOT/loadtest/logs"
+RESULTS="$ROOT/loadtest/results"
+SERVICES="user_management:8087 point_management:8085 subscription_management:8086 book_management:8083 author_management:8082 content_writing_management:8084 ai_system_management:8081"
+PIDS=""
+
+mkdir -p "$LOGS" "$RESULTS"
+
+cleanup() {
+    echo "🛑 Stopping..."
+    for pid in $PIDS; do
+        kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+# 실행용 jar (repackage 결과). exec 분류자가 있으면 그것을 쓴다
+service_jar() {
+    ls "$ROOT/$1"/target/*SNAPSHOT-exec.jar 2>/dev/null | head -1 || true
+}
+
+wait_healthy() {
+    local name=$1 port=$2
+    for _ in $(seq 1 120); do
+        if curl -sf "http://localhost:$port/actuator/health" > /dev/null; then
+            echo "   ✔ $name ($port)"
+            return 0
+        fi
+        sleep 1
+    done
+    echo "❌ $name did not become healthy, see $LOGS/$name.log"
+    exit 1
+}
+
+if [ -z "$SKIP_BUILD" ]; then
+    echo "📦 Building services..."
+    for entry in $SERVICES gateway:8088; do
+        mvn -q -B -DskipTests package -f "$ROOT/${entry%%:*}/pom.xml"
+    done
+    mvn -q -B -DskipTests package -f "$ROOT/loadtest/pom.xml"
+fi
+
+echo "🧵 Starting embedded Kafka..."
+java -cp "$ROOT/loadtest/target/loadtest.jar" miniproject.loadtest.EmbeddedKafkaServer port=9092 \
+    > "$LOGS/kafka.log" 2>&1 &
+PIDS="$PIDS $!"
+for _ in $(seq 1 60); do
+    if grep -q "내장 Kafka 기동" "$LOGS/kafka.log"; then
+        break
+    fi
+    sleep 1
+done
+
+echo "🚀 Starting services..."
+for entry in $SERVICES; do
+    name=${entry%%:*}
+    jar=$(service_jar "$name")
+    [ -z "$jar" ] && jar=$(ls "$ROOT/$name"/target/*SNAPSHOT.jar | head -1)
+    profiles=default${EXTRA_PROFILES:+,$EXTRA_PROFILES}
+    if [ "$name" = ai_system_management ]; then
+        profiles=$profiles,stub
+    fi
+    java $JAVA_OPTS -jar "$jar" \
+        --spring.profiles.active=$profiles \
+        --stub.openai.chat-latency-ms=${STUB_CHAT_LATENCY_MS:-200} \
+        --stub.openai.image-latency-ms=${STUB_IMAGE_LATENCY_MS:-5000} \
+        --tracing.file.path="$LOGS/spans-$name.jsonl" \
+        > "$LOGS/$name.log" 2>&1 &
+    PIDS="$PIDS $!"
+done
+
+java $JAVA_OPTS -jar "$(ls "$ROOT"/gateway/target/*SNAPSHOT.jar | head -1)" \
+    --tracing.file.path="$LOGS/spans-gateway.jsonl" \
+    > "$LOGS/gateway.log" 2>&1 &
+PIDS="$PIDS $!"
+
+for entry in $SERVICES gateway:8088; do
+    wait_healthy "${entry%%:*}" "${entry##*:}"
+done
+
+echo "⏱️  Running load test..."
+java -cp "$ROOT/loadtest/target/loadtest.jar" miniproject.loadtest.LoadTest \
+    gateway=http://localhost:8088 \
+    report="$RESULTS/report-$(date +%Y%m%d-%H%M%S).json" \
+    "$@"
+
+echo "✅ Results: $RESULTS (service logs: $LOGS)"
@@ -0,0 +1,171 @@
+#!/bin/bash
+# 서비스별 콜드 스타트 측정.
+# 내장 Kafka(localhost:9092)만 띄워 두고 서비스를 하나씩 따로 기동해서, 프로세스 시작부터
+# /actuator/health 가 UP 이 될 때까지의 시간과 그 직후 첫 요청의 응답 시간을 모드별로 RUNS 번씩 잰다.
+#   default        : 기본 프로파일
+#   fast-start     : + fast-start 프로파일 (지연 초기화, 안 쓰는 자동 구성 제외)
+#   fast-start+cds : + AppCDS 아카이브 (Dockerfile 과 같은 방법으로 학습 실행해서 만든다, JDK 13 이상)
+# 세 모드 모두 풀어 놓은 jar 를 클래스패스로 띄워 프로파일/CDS 차이만 비교한다.
+# 중앙값을 표로 출력하고 loadtest/results/startup-<시각>.md 로 남긴다.
+#
+#   ./loadtest/run-startup.sh
+#   RUNS=5 SKIP_BUILD=1 ./loadtest/run-startup.sh book_management point_management
+set -e
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+LOGS="$ROOT/loadtest/logs/startup"
+RESULTS="$ROOT/loadtest/results"
+RUNS=${RUNS:-3}
+# 서비스:포트:첫 요청 경로
+SERVICES="user_management:8087:/users point_management:8085:/points/user/1 subscription_management:8086:/subscriptions/user/1 book_management:8083:/books/published author_management:8082:/authors content_writing_management:8084:/manuscripts ai_system_management:8081:/ais"
+MODES="default fast-start fast-start+cds"
+KAFKA_PID=""
+SERVICE_PID=""
+
+if [ $# -gt 0 ]; then
+    selected=""
+    for name in "$@"; do
+        selected="$selected $(echo $SERVICES | tr ' ' '\n' | grep "^$name:" || true)"
+    done
+    SERVICES=$selected
+fi
+
+mkdir -p "$LOGS" "$RESULTS"
+
+cleanup() {
+    for pid in $SERVICE_PID $KAFKA_PID; do
+        kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+now_ms() {
+    date +%s%3N
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) print "-"; else print v[int((NR + 1) / 2)] }'
+}
+
+# 실행형 jar 를 logs/startup/<서비스>/app 에 풀고 Start-Class 를 돌려준다
+explode() {
+    local name=$1 dir=$LOGS/$1/app jar
+    jar=$(ls "$ROOT/$name"/target/*SNAPSHOT-exec.jar 2>/dev/null | head -1 || true)
+    [ -z "$jar" ] && jar=$(ls "$ROOT/$name"/target/*SNAPSHOT.jar | head -1)
+    rm -rf "$dir" && mkdir -p "$dir"
+    (cd "$dir" && jar xf "$jar")
+    sed -n 's/^Start-Class: *//p' "$dir/META-INF/MANIFEST.MF" | tr -d '\r'
+}
+
+profiles_for() {
+    local name=$1 mode=$2 profiles=default
+    [ "$mode" != default ] && profiles=$profiles,fast-start
+    [ "$name" = ai_system_management ] && profiles=$profiles,stub
+    echo $profiles
+}
+
+# 한 번 기동해서 "UP 까지 ms 첫요청 ms" 를 출력한다
+measure() {
+    local name=$1 port=$2 path=$3 mode=$4 main=$5 run=$6
+    local dir=$LOGS/$name/app cds="" started up first
+    [ "$mode" = fast-start+cds ] && cds="-XX:SharedArchiveFile=$LOGS/$name/app.jsa"
+
+    started=$(now_ms)
+    java $JAVA_OPTS $cds -cp "$dir/BOOT-INF/classes:$dir/BOOT-INF/lib/*" "$main" \
+        --spring.profiles.active=$(profiles_for "$name" "$mode") \
+        > "$LOGS/$name/$mode-$run.log" 2>&1 &
+    SERVICE_PID=$!
+
+    up=""
+    for _ in $(seq 1 1200); do
+        if curl -sf "http://localhost:$port/actuator/health" 2>/dev/null | grep -q '"UP"'; then
+            up=$(( $(now_ms) - started ))
+            break
+        fi
+        if ! kill -0 $SERVICE_PID 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    if [ -z "$up" ]; then
+        echo "❌ $name ($mode) did not become healthy, see $LOGS/$name/$mode-$run.log" >&2
+        exit 1
+    fi
+
+    # 지연 초기화로 미뤄진 비용은 첫 요청이 낸다
+    first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$port$path" | awk '{ printf "%d", $1 * 1000 }')
+
+    kill $SERVICE_PID 2>/dev/null || true
+    wait $SERVICE_PID 2>/dev/null || true
+    SERVICE_PID=""
+    echo "$up $first"
+}
+
+if [ -z "$SKIP_BUILD" ]; then
+    echo "📦 Building services..."
+    for entry in $SERVICES; do
+        mvn -q -B -DskipTests package -f "$ROOT/${entry%%:*}/pom.xml"
+    done
+    mvn -q -B -DskipTests package -f "$ROOT/loadtest/pom.xml"
+fi
+
+echo "🧵 Starting embedded Kafka..."
+java -cp "$ROOT/loadtest/target/loadtest.jar" miniproject.loadtest.EmbeddedKafkaServer port=9092 \
+    > "$LOGS/kafka.log" 2>&1 &
+KAFKA_PID=$!
+for _ in $(seq 1 60); do
+    if grep -q "내장 Kafka 기동" "$LOGS/kafka.log"; then
+        break
+    fi
+    sleep 1
+done
+
+report="$RESULTS/startup-$(date +%Y%m%d-%H%M%S).md"
+{
+    echo "# 콜드 스타트 ($(java -version 2>&1 | head -1), 중앙값 / ${RUNS}회)"
+    echo
+    echo "| 서비스 | default UP | fast-start UP | fast-start+cds UP | default 첫 요청 | fast-start 첫 요청 | fast-start+cds 첫 요청 |"
+    echo "| :--- | ---: | ---: | ---: | ---: | ---: | ---: |"
+} > "$report"
+
+for entry in $SERVICES; do
+    name=${entry%%:*}
+    rest=${entry#*:}
+    port=${rest%%:*}
+    path=${rest#*:}
+    echo "⏱️  $name"
+
+    main=$(explode "$name")
+    rm -f "$LOGS/$name/app.jsa"
+    java -XX:ArchiveClassesAtExit="$LOGS/$name/app.jsa" \
+        -cp "$LOGS/$name/app/BOOT-INF/classes:$LOGS/$name/app/BOOT-INF/lib/*" "$main" \
+        --spring.profiles.active=$(profiles_for "$name" default) \
+        --cds.training=true --spring.main.register-shutdown-hook=false \
+        > "$LOGS/$name/cds-training.log" 2>&1 || true
+
+    ups=""
+    firsts=""
+    for mode in $MODES; do
+        if [ "$mode" = fast-start+cds ] && [ ! -f "$LOGS/$name/app.jsa" ]; then
+            echo "   ⚠️  no CDS archive (JDK 13+ needed), see $LOGS/$name/cds-training.log"
+            ups="$ups | -"
+            firsts="$firsts | -"
+            continue
+        fi
+        : > "$LOGS/$name/$mode.ms"
+        for run in $(seq 1 $RUNS); do
+            measure "$name" "$port" "$path" "$mode" "$main" "$run" >> "$LOGS/$name/$mode.ms"
+        done
+        up=$(cut -d' ' -f1 "$LOGS/$name/$mode.ms" | median)
+        first=$(cut -d' ' -f2 "$LOGS/$name/$mode.ms" | median)
+        echo "   $mode: UP ${up}ms, first request ${first}ms"
+        ups="$ups | $up ms"
+        firsts="$firsts | $first ms"
+    done
+    echo "| $name$ups$firsts |" >> "$report"
+done
+
+echo
+cat "$report"
+echo "✅ Report: $report (service logs: $LOGS)"
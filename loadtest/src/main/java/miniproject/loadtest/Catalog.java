@@ -0,0 +1,56 @@
+package miniproject.loadtest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 준비 단계에서 만든 작가/도서/독자 id 와 본문 생성용 단어.
+ * 부하 단계에서는 읽기만 한다.
+ */
+public class Catalog {
+
+    static final String[] WORDS = {
+        "바다", "도시", "기억", "여름", "고양이", "편지", "기차", "겨울", "숲", "시간",
+        "마법", "학교", "우주", "정원", "등대", "비밀", "친구", "전쟁", "노래", "그림자"
+    };
+
+    final List<Long> authorIds = new ArrayList<>();
+    final List<Long> bookIds = new ArrayList<>();
+    final List<Long> readerIds = new ArrayList<>();
+
+    static String word() {
+        return WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+    }
+
+    static String title() {
+        return word() + "의 " + word();
+    }
+
+    // 약 chars 글자의 본문. 검색어가 실제로 걸리도록 같은 단어 목록에서 만든다
+    static String content(int chars) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder text = new StringBuilder(chars + 32);
+        while (text.length() < chars) {
+            text.append(word()).append("은 ").append(word()).append("을 보았다. ");
+            if (random.nextInt(8) == 0) {
+                text.append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    static Map<String, Object> body(Object... keyValues) {
+        Map<String, Object> body = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            body.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return body;
+    }
+
+    static <T> T pick(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,41 @@
+package miniproject.loadtest;
+
+import java.util.concurrent.CountDownLatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+/**
+ * 부하 테스트용 단일 노드 Kafka (ZooKeeper 포함, 프로세스 내장).
+ * 서비스들의 default 프로파일이 보는 localhost:9092 에 띄우므로 서비스 설정은 그대로 둔다.
+ *
+ *   java -cp loadtest.jar miniproject.loadtest.EmbeddedKafkaServer [port=9092] [partitions=3]
+ */
+public class EmbeddedKafkaServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmbeddedKafkaServer.class);
+
+    // 모든 서비스가 같은 토픽을 쓴다 (application.yml 의 EDA / Topic Name)
+    private static final String TOPIC = "miniproject";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        int port = config.getInt("port", 9092);
+        int partitions = config.getInt("partitions", 3);
+
+        EmbeddedKafkaBroker broker = new EmbeddedKafkaBroker(1, false, partitions, TOPIC)
+            .kafkaPorts(port)
+            .brokerProperty("auto.create.topics.enable", "true")
+            .brokerProperty("offsets.topic.replication.factor", "1")
+            .brokerProperty("group.initial.rebalance.delay.ms", "0");
+        broker.afterPropertiesSet();
+        logger.info("내장 Kafka 기동: {} (topic={}, partitions={})", broker.getBrokersAsString(), TOPIC, partitions);
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            broker.destroy();
+            stopped.countDown();
+        }));
+        stopped.await();
+    }
+}
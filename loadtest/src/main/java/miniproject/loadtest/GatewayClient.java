@@ -0,0 +1,129 @@
+package miniproject.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 게이트웨이로 요청을 보내고 경로별로 응답 시간을 기록한다.
+ * route 는 보고서에 묶일 이름(예: "GET /books/{id}")이고, stats 가 null 이면 기록하지 않는다 (데이터 준비 단계).
+ */
+public class GatewayClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+    private volatile RouteStats stats;
+
+    public GatewayClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+    }
+
+    public void recordTo(RouteStats stats) {
+        this.stats = stats;
+    }
+
+    public Response get(String route, String path, int... accepted) {
+        return send(route, HttpRequest.newBuilder(uri(path)).GET(), accepted);
+    }
+
+    public Response post(String route, String path, Object body, int... accepted) {
+        return send(route, withJson(HttpRequest.newBuilder(uri(path)), body, "POST"), accepted);
+    }
+
+    public Response put(String route, String path, Object body, int... accepted) {
+        return send(route, withJson(HttpRequest.newBuilder(uri(path)), body, "PUT"), accepted);
+    }
+
+    public Response patch(String route, String path, Object body, int... accepted) {
+        return send(route, withJson(HttpRequest.newBuilder(uri(path)), body, "PATCH"), accepted);
+    }
+
+    private Response send(String route, HttpRequest.Builder builder, int[] accepted) {
+        HttpRequest request = builder.timeout(timeout).build();
+        long started = System.nanoTime();
+        int status = 0;
+        byte[] body = new byte[0];
+        try {
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            body = response.body();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        }
+        long micros = (System.nanoTime() - started) / 1000;
+        int code = status;
+        boolean ok = (code >= 200 && code < 300) || Arrays.stream(accepted).anyMatch(s -> s == code);
+        RouteStats current = stats;
+        if (current != null) {
+            current.record(route, micros, ok, status);
+        }
+        return new Response(status, ok, body);
+    }
+
+    private HttpRequest.Builder withJson(HttpRequest.Builder builder, Object body, String method) {
+        try {
+            byte[] json = body == null ? new byte[0] : MAPPER.writeValueAsBytes(body);
+            return builder
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(json));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    public static class Response {
+        private final int status;
+        private final boolean ok;
+        private final byte[] body;
+
+        Response(int status, boolean ok, byte[] body) {
+            this.status = status;
+            this.ok = ok;
+            this.body = body;
+        }
+
+        public int getStatus() { return status; }
+        public boolean isOk() { return ok; }
+
+        public JsonNode json() {
+            try {
+                return body.length == 0 ? MAPPER.nullNode() : MAPPER.readTree(body);
+            } catch (IOException e) {
+                return MAPPER.nullNode();
+            }
+        }
+
+        // Spring Data REST 응답(HAL)에는 id 필드가 없으므로 _links.self.href 의 마지막 경로에서 읽는다
+        public Long id(String field) {
+            JsonNode root = json();
+            JsonNode node = root.get(field);
+            if (node != null && node.canConvertToLong()) {
+                return node.asLong();
+            }
+            String href = root.path("_links").path("self").path("href").asText("");
+            String last = href.substring(href.lastIndexOf('/') + 1);
+            return last.matches("\\d+") ? Long.valueOf(last) : null;
+        }
+    }
+}
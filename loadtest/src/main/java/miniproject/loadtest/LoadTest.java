@@ -0,0 +1,190 @@
+package miniproject.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 게이트웨이를 통한 종단 간 부하 테스트.
+ *
+ * 1. 준비: 작가 등록/승인, 도서 등록/출간, 독자 가입/가입 포인트 지급
+ * 2. 워밍업: 가상 사용자들이 시나리오를 돌리되 기록은 버린다
+ * 3. 측정: duration 동안 경로별 응답 시간을 HdrHistogram 에 기록하고 p50/p95/p99 표와 JSON 보고서를 남긴다
+ *
+ * 인자 (key=value, 모두 선택):
+ *   gateway=http://localhost:8088 users=50 warmup=30 duration=120 think-ms=200
+ *   authors=20 books=200 readers=200 book-chars=30000 seed-threads=16 timeout-ms=10000
+ *   report=loadtest/results/report.json weight.browse=30 weight.open=35 ...
+ */
+public class LoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTest.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        String gateway = config.get("gateway", "http://localhost:8088");
+        int users = config.getInt("users", 50);
+        int warmup = config.getInt("warmup", 30);
+        int duration = config.getInt("duration", 120);
+        int thinkMs = config.getInt("think-ms", 200);
+        String report = config.get("report", "loadtest/results/report.json");
+
+        GatewayClient client = new GatewayClient(gateway, Duration.ofMillis(config.getInt("timeout-ms", 10000)));
+        Catalog catalog = seed(client, config);
+        logger.info("준비 완료: 작가 {}명, 도서 {}권, 독자 {}명",
+            catalog.authorIds.size(), catalog.bookIds.size(), catalog.readerIds.size());
+        if (catalog.bookIds.isEmpty() || catalog.readerIds.isEmpty() || catalog.authorIds.isEmpty()) {
+            throw new IllegalStateException("준비 데이터를 만들지 못했습니다. 서비스와 게이트웨이 상태를 확인하세요: " + gateway);
+        }
+
+        RouteStats stats = new RouteStats();
+        client.recordTo(stats);
+        Scenarios scenarios = new Scenarios(client, catalog, config);
+
+        ExecutorService pool = Executors.newFixedThreadPool(users);
+        long stopAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(warmup + duration);
+        for (int i = 0; i < users; i++) {
+            pool.submit(() -> {
+                while (System.currentTimeMillis() < stopAt && !Thread.currentThread().isInterrupted()) {
+                    scenarios.runOne();
+                    think(thinkMs);
+                }
+            });
+        }
+
+        logger.info("워밍업 {}초 (가상 사용자 {}명)", warmup, users);
+        TimeUnit.SECONDS.sleep(warmup);
+        stats.reset();
+        Instant measuredFrom = Instant.now();
+        logger.info("측정 {}초", duration);
+
+        pool.shutdown();
+        if (!pool.awaitTermination(duration + 60L, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+        double seconds = Duration.between(measuredFrom, Instant.now()).toMillis() / 1000.0;
+
+        System.out.println();
+        System.out.print(stats.table(seconds));
+
+        ObjectNode summary = new ObjectMapper().createObjectNode();
+        summary.put("startedAt", measuredFrom.toString());
+        summary.put("gateway", gateway);
+        summary.put("users", users);
+        summary.put("thinkMs", thinkMs);
+        summary.put("warmupSec", warmup);
+        summary.put("durationSec", seconds);
+        summary.put("authors", catalog.authorIds.size());
+        summary.put("books", catalog.bookIds.size());
+        summary.put("readers", catalog.readerIds.size());
+        stats.writeJson(new File(report), summary, seconds);
+        logger.info("보고서 저장: {}", report);
+    }
+
+    private static Catalog seed(GatewayClient client, LoadTestConfig config) throws Exception {
+        int authors = config.getInt("authors", 20);
+        int books = config.getInt("books", 200);
+        int readers = config.getInt("readers", 200);
+        int bookChars = config.getInt("book-chars", 30000);
+        // 같은 서비스에 다시 돌려도 이메일이 겹치지 않게 실행마다 접두어를 바꾼다
+        String run = Long.toString(System.currentTimeMillis(), 36);
+
+        Catalog catalog = new Catalog();
+        ExecutorService pool = Executors.newFixedThreadPool(config.getInt("seed-threads", 16));
+        try {
+            catalog.authorIds.addAll(runAll(pool, authors, i -> {
+                GatewayClient.Response created = client.post("seed", "/authors", Catalog.body(
+                    "authorName", "작가" + i,
+                    "email", "author-" + run + "-" + i + "@loadtest.local",
+                    "authorPassword", "password",
+                    "realName", "작가" + i,
+                    "introduction", Catalog.content(200)));
+                Long authorId = created.id("authorId");
+                if (authorId != null) {
+                    client.post("seed", "/authors/" + authorId + "/approve", null);
+                }
+                return authorId;
+            }));
+            logger.info("작가 {}명 등록", catalog.authorIds.size());
+
+            catalog.bookIds.addAll(runAll(pool, books, i -> {
+                Long authorId = catalog.authorIds.get(i % catalog.authorIds.size());
+                GatewayClient.Response created = client.post("seed", "/books", Catalog.body(
+                    "title", Catalog.title(),
+                    "authorId", authorId,
+                    "content", Catalog.content(bookChars),
+                    "status", "DRAFT"));
+                Long bookId = created.id("bookId");
+                if (bookId != null && !client.patch("seed", "/books/" + bookId + "/publish", null).isOk()) {
+                    return null;
+                }
+                return bookId;
+            }));
+            logger.info("도서 {}권 출간", catalog.bookIds.size());
+
+            catalog.readerIds.addAll(runAll(pool, readers, i -> {
+                boolean kt = i % 3 == 0;
+                GatewayClient.Response created = client.post("seed", "/users", Catalog.body(
+                    "email", "reader-" + run + "-" + i + "@loadtest.local",
+                    "userName", "독자" + i,
+                    "userPassword", "password",
+                    "userType", "reader",
+                    "isKtCustomer", kt));
+                Long userId = created.id("userId");
+                if (userId != null) {
+                    client.post("seed", "/points/signup", Catalog.body("userId", userId, "ktCustomer", kt));
+                }
+                return userId;
+            }));
+            logger.info("독자 {}명 가입", catalog.readerIds.size());
+        } finally {
+            pool.shutdownNow();
+        }
+        return catalog;
+    }
+
+    // 0..count-1 을 병렬로 실행하고 null 이 아닌 결과만 순서대로 모은다
+    private static List<Long> runAll(ExecutorService pool, int count, IndexedTask task) throws Exception {
+        List<Callable<Long>> calls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            calls.add(() -> task.run(index));
+        }
+        List<Long> ids = new ArrayList<>(count);
+        for (Future<Long> future : pool.invokeAll(calls)) {
+            Long id = future.get();
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static void think(int thinkMs) {
+        if (thinkMs <= 0) {
+            return;
+        }
+        try {
+            // 평균 thinkMs 로 흔들어 모든 사용자가 같은 박자로 몰리지 않게 한다
+            Thread.sleep(ThreadLocalRandom.current().nextLong(thinkMs * 2L + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface IndexedTask {
+        Long run(int index) throws Exception;
+    }
+}
@@ -0,0 +1,37 @@
+package miniproject.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * key=value 형태의 실행 인자. 같은 이름의 시스템 프로퍼티(-Dloadtest.key=...)가 있으면 그 값이 우선한다.
+ */
+public class LoadTestConfig {
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = trimmed.indexOf('=');
+            if (eq > 0) {
+                config.values.put(trimmed.substring(0, eq), trimmed.substring(eq + 1));
+            }
+        }
+        return config;
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = System.getProperty("loadtest." + key, values.get(key));
+        return value != null ? value : defaultValue;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        return Double.parseDouble(get(key, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,96 @@
+package miniproject.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 경로(라우트 템플릿)별 응답 시간 히스토그램과 오류 수.
+ * 응답 시간은 마이크로초로 기록하고 보고서에는 밀리초로 쓴다.
+ */
+public class RouteStats {
+
+    private final ConcurrentMap<String, Route> routes = new ConcurrentHashMap<>();
+
+    public void record(String route, long micros, boolean ok, int status) {
+        Route stats = routes.computeIfAbsent(route, key -> new Route());
+        stats.latency.recordValue(Math.max(1L, micros));
+        if (!ok) {
+            stats.errors.increment();
+            stats.statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+        }
+    }
+
+    // 워밍업이 끝나면 그때까지 쌓인 값을 버린다
+    public void reset() {
+        routes.clear();
+    }
+
+    public String table(double seconds) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-44s %8s %7s %8s %9s %9s %9s %9s%n",
+            "route", "count", "errors", "rps", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+        for (Map.Entry<String, Route> entry : new TreeMap<>(routes).entrySet()) {
+            Histogram h = entry.getValue().latency.copy();
+            out.append(String.format("%-44s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f%n",
+                entry.getKey(),
+                h.getTotalCount(),
+                entry.getValue().errors.sum(),
+                h.getTotalCount() / seconds,
+                ms(h.getValueAtPercentile(50)),
+                ms(h.getValueAtPercentile(95)),
+                ms(h.getValueAtPercentile(99)),
+                ms(h.getMaxValue())));
+        }
+        return out.toString();
+    }
+
+    public void writeJson(File file, ObjectNode summary, double seconds) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode list = summary.putArray("routes");
+        for (Map.Entry<String, Route> entry : new TreeMap<>(routes).entrySet()) {
+            Histogram h = entry.getValue().latency.copy();
+            ObjectNode node = list.addObject();
+            node.put("route", entry.getKey());
+            node.put("count", h.getTotalCount());
+            node.put("errors", entry.getValue().errors.sum());
+            ObjectNode statuses = node.putObject("errorStatuses");
+            entry.getValue().statuses.forEach((status, count) -> statuses.put(String.valueOf(status), count.sum()));
+            node.put("rps", h.getTotalCount() / seconds);
+            node.put("p50Ms", ms(h.getValueAtPercentile(50)));
+            node.put("p95Ms", ms(h.getValueAtPercentile(95)));
+            node.put("p99Ms", ms(h.getValueAtPercentile(99)));
+            node.put("maxMs", ms(h.getMaxValue()));
+        }
+        File dir = file.getAbsoluteFile().getParentFile();
+        if (dir != null) {
+            dir.mkdirs();
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file, summary);
+    }
+
+    public List<String> names() {
+        return new ArrayList<>(new TreeMap<>(routes).keySet());
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static class Route {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+    }
+}
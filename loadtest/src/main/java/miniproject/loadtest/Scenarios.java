@@ -0,0 +1,122 @@
+package miniproject.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자 한 명이 한 번에 수행하는 시나리오들.
+ * 독자(둘러보기, 책 열기, 구매, 구독)와 작가(원고 작성, AI 다듬기)의 흐름을 가중치에 따라 고른다.
+ * 업무상 정상인 거절(잔액 부족 400, 이미 구독 중 400 등)은 오류로 세지 않는다.
+ */
+public class Scenarios {
+
+    private final GatewayClient client;
+    private final Catalog catalog;
+    private final List<Weighted> weighted = new ArrayList<>();
+    private final int totalWeight;
+
+    public Scenarios(GatewayClient client, Catalog catalog, LoadTestConfig config) {
+        this.client = client;
+        this.catalog = catalog;
+        add(config.getInt("weight.browse", 30), this::browse);
+        add(config.getInt("weight.open", 35), this::openBook);
+        add(config.getInt("weight.purchase", 15), this::purchase);
+        add(config.getInt("weight.subscribe", 5), this::subscribe);
+        add(config.getInt("weight.write", 10), this::writeManuscript);
+        add(config.getInt("weight.polish", 5), this::polish);
+        this.totalWeight = weighted.stream().mapToInt(w -> w.weight).sum();
+        if (totalWeight <= 0) {
+            throw new IllegalArgumentException("시나리오 가중치 합이 0 입니다");
+        }
+    }
+
+    public void runOne() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Weighted w : weighted) {
+            roll -= w.weight;
+            if (roll < 0) {
+                w.scenario.run();
+                return;
+            }
+        }
+    }
+
+    private void add(int weight, Runnable scenario) {
+        if (weight > 0) {
+            weighted.add(new Weighted(weight, scenario));
+        }
+    }
+
+    // 메인 서재: 베스트셀러, 검색, 가끔 전체 출간 목록
+    private void browse() {
+        client.get("GET /books/bestsellers", "/books/bestsellers?window=weekly&limit=10");
+        String q = URLEncoder.encode(Catalog.word(), StandardCharsets.UTF_8);
+        client.get("GET /books/search", "/books/search?q=" + q + "&size=20");
+        if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            client.get("GET /books/published", "/books/published");
+        }
+    }
+
+    // 책 열기: 상세, 본문 첫 구간, 조회수 증가
+    private void openBook() {
+        Long bookId = Catalog.pick(catalog.bookIds);
+        client.get("GET /books/{id}", "/books/" + bookId);
+        client.get("GET /books/{id}/content", "/books/" + bookId + "/content?offset=0&limit=20000");
+        client.patch("PATCH /books/{id}/view", "/books/" + bookId + "/view", null);
+    }
+
+    // 구매: 잔액 확인 후 모자라면 충전하고 포인트 사용
+    private void purchase() {
+        Long userId = Catalog.pick(catalog.readerIds);
+        Long bookId = Catalog.pick(catalog.bookIds);
+        GatewayClient.Response balance = client.get("GET /points/user/{id}/balance", "/points/user/" + userId + "/balance");
+        JsonNode amount = balance.json();
+        if (amount.canConvertToInt() && amount.asInt() < 100) {
+            client.post("POST /points/charge", "/points/charge", Catalog.body("userId", userId, "amount", 5000));
+        }
+        client.post("POST /points/use", "/points/use",
+            Catalog.body("userId", userId, "amount", 100, "bookId", bookId, "description", "도서 구매"), 400);
+    }
+
+    // 구독: 상태 확인 후 구독 신청 (이미 구독 중이면 400)
+    private void subscribe() {
+        Long userId = Catalog.pick(catalog.readerIds);
+        client.get("GET /subscriptions/user/{id}/status", "/subscriptions/user/" + userId + "/status");
+        client.post("POST /subscriptions/subscribe", "/subscriptions/subscribe", Catalog.body("userId", userId), 400);
+    }
+
+    // 원고 작성: 새 원고를 만들고 이어 쓴 본문으로 한 번 저장
+    private void writeManuscript() {
+        Long authorId = Catalog.pick(catalog.authorIds);
+        String title = Catalog.title();
+        String content = Catalog.content(4000);
+        GatewayClient.Response created = client.post("POST /manuscripts", "/manuscripts",
+            Catalog.body("authorId", authorId, "title", title, "content", content, "status", "DRAFT"));
+        Long manuscriptId = created.id("manuscriptId");
+        if (manuscriptId == null) {
+            return;
+        }
+        client.put("PUT /manuscripts/{id}", "/manuscripts/" + manuscriptId,
+            Catalog.body("title", title, "content", content + Catalog.content(1000), "status", "DRAFT"));
+    }
+
+    // AI 다듬기 (stub 프로필의 OpenAI 대역이 응답한다). 동시 처리 한도를 넘으면 503
+    private void polish() {
+        client.post("POST /ai/polish", "/ai/polish",
+            Catalog.body("content", Catalog.content(1500), "style", "literary"), 503);
+    }
+
+    private static class Weighted {
+        private final int weight;
+        private final Runnable scenario;
+
+        Weighted(int weight, Runnable scenario) {
+            this.weight = weight;
+            this.scenario = scenario;
+        }
+    }
+}
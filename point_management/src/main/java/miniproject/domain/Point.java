@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.PointManagementApplication;
 import miniproject.domain.KtPointsAdded;
 import miniproject.domain.PointsAdded;
 import miniproject.domain.PointsInsufficient;
@@ -16,13 +15,20 @@ import miniproject.domain.PointsPurchased;
 import miniproject.domain.PointsUsed;
 
 @Entity
-@Table(name = "Point_table")
+@Table(
+    name = "Point_table",
+    indexes = {
+        @Index(name = "ix_point_user_created", columnList = "userId, createdAt"),
+        @Index(name = "ix_point_user_book", columnList = "userId, bookId"),
+    }
+)
 @Data
 //<<< DDD / Aggregate Root
 public class Point {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "point_seq")
+    @SequenceGenerator(name = "point_seq", sequenceName = "point_seq", allocationSize = 50)
     private Long pointId;
 
     private Long userId;
@@ -35,6 +41,8 @@ public class Point {
     
     private String description; // 포인트 변경 사유
     
+    private Long bookId; // 포인트로 구매한 도서 (USAGE 일 때)
+    
     private Date createdAt;
 
     @PostPersist
@@ -66,12 +74,5 @@ public class Point {
             this.createdAt = new Date();
         }
     }
-
-    public static PointRepository repository() {
-        PointRepository pointRepository = PointManagementApplication.applicationContext.getBean(
-            PointRepository.class
-        );
-        return pointRepository;
-    }
 }
 //>>> DDD / Aggregate Root
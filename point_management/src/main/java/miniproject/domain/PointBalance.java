@@ -0,0 +1,8 @@
+package miniproject.domain;
+
+// 일괄 권한 확인에 필요한 사용자별 잔액만 읽기 위한 projection
+public interface PointBalance {
+    Long getUserId();
+
+    Integer getBalance();
+}
@@ -0,0 +1,8 @@
+package miniproject.domain;
+
+// 일괄 권한 확인에 필요한 (사용자, 구매 도서) 조합만 읽기 위한 projection
+public interface PointPurchase {
+    Long getUserId();
+
+    Long getBookId();
+}
@@ -1,12 +1,16 @@
 package miniproject.domain;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 import miniproject.domain.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 //<<< PoEAA / Repository
 @RepositoryRestResource(collectionResourceRel = "points", path = "points")
@@ -18,5 +22,36 @@ public interface PointRepository
     
     // 사용자별 포인트 내역 조회 (기본)
     List<Point> findByUserId(Long userId);
+    
+    // 사용자의 가장 최근 포인트 행 (pointBalance 가 그 시점의 잔액)
+    // id 는 인스턴스마다 50 개씩 받아 쓰므로 시간 순서가 아니다. createdAt 으로 고르고 같은 시각이면 id 로 가른다
+    @RestResource(exported = false)
+    Optional<Point> findFirstByUserIdOrderByCreatedAtDescPointIdDesc(Long userId);
+    
+    // 여러 사용자의 잔액을 한 번에 조회 (사용자별 가장 최근 행의 pointBalance, /user/{userId}/balance 와 같다)
+    @RestResource(exported = false)
+    @Query(
+        "select p.userId as userId, p.pointBalance as balance " +
+        "from Point p " +
+        "where p.userId in :userIds " +
+        "and p.pointId = (" +
+        "  select max(l.pointId) from Point l " +
+        "  where l.userId = p.userId " +
+        "  and l.createdAt = (select max(c.createdAt) from Point c where c.userId = p.userId)" +
+        ")"
+    )
+    List<PointBalance> findBalances(@Param("userIds") Collection<Long> userIds);
+    
+    // 여러 사용자가 포인트로 구매한 도서를 한 번에 조회
+    @RestResource(exported = false)
+    @Query(
+        "select distinct p.userId as userId, p.bookId as bookId " +
+        "from Point p " +
+        "where p.pointType = 'USAGE' and p.userId in :userIds and p.bookId in :bookIds"
+    )
+    List<PointPurchase> findPurchases(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("bookIds") Collection<Long> bookIds
+    );
 }
 //>>> PoEAA / Repository
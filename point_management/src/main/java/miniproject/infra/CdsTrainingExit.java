@@ -0,0 +1,41 @@
+package miniproject.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * AppCDS 학습 실행의 종료 지점.
+ * cds.training=true 로 띄우면 싱글톤이 모두 만들어진 뒤, Kafka 바인딩과 웹 서버가 시작되기 전에 JVM 을 끝낸다.
+ * -XX:ArchiveClassesAtExit 와 함께 쓰면 그때까지 읽힌 클래스가 아카이브로 남으므로
+ * 브로커 없이 이미지 빌드 중에 돌릴 수 있다 (Dockerfile 참고).
+ * refresh 도중에 끝내므로 spring.main.register-shutdown-hook=false 와 함께 써야 종료 훅이 컨텍스트를 기다리며 멈추지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "cds.training", havingValue = "true")
+public class CdsTrainingExit implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(CdsTrainingExit.class);
+
+    @Override
+    public void start() {
+        logger.info("CDS 학습 실행: 빈 생성까지 끝나서 종료합니다");
+        System.exit(0);
+    }
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public boolean isRunning() {
+        return false;
+    }
+
+    // 바인딩/웹 서버 lifecycle 보다 먼저 시작한다
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+}
@@ -1,7 +1,12 @@
 package miniproject.infra;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.transaction.Transactional;
@@ -23,6 +28,9 @@ public class PointController {
 
     private static final Logger logger = LoggerFactory.getLogger(PointController.class);
 
+    // 일괄 권한 확인 한 번에 받을 수 있는 최대 조합 수
+    private static final int MAX_BATCH_ITEMS = 1000;
+
     @Autowired
     PointRepository pointRepository;
 
@@ -31,11 +39,7 @@ public class PointController {
     public ResponseEntity<Integer> getUserPointBalance(@PathVariable Long userId) {
         logger.info("GET /points/user/{}/balance - 사용자 포인트 잔액 조회", userId);
         
-        List<Point> userPoints = pointRepository.findByUserId(userId);
-        int totalBalance = userPoints.stream()
-            .mapToInt(Point::getPointBalance)
-            .max()
-            .orElse(0);
+        int totalBalance = currentBalance(userId);
         
         logger.info("사용자 ID {}의 포인트 잔액: {}", userId, totalBalance);
         return ResponseEntity.ok(totalBalance);
@@ -84,11 +88,7 @@ public class PointController {
                    request.getUserId(), request.getAmount());
         
         // 현재 잔액 확인
-        List<Point> userPoints = pointRepository.findByUserId(request.getUserId());
-        int currentBalance = userPoints.stream()
-            .mapToInt(Point::getPointBalance)
-            .max()
-            .orElse(0);
+        int currentBalance = currentBalance(request.getUserId());
         
         if (currentBalance < request.getAmount()) {
             logger.warn("포인트 부족: 현재잔액={}, 사용요청={}", currentBalance, request.getAmount());
@@ -102,6 +102,7 @@ public class PointController {
         point.setPointBalance(newBalance);
         point.setAmount(-request.getAmount()); // 음수로 저장
         point.setPointType("USAGE");
+        point.setBookId(request.getBookId());
         point.setDescription(request.getDescription() != null ? 
             request.getDescription() : "도서 구매");
         
@@ -117,11 +118,7 @@ public class PointController {
                    request.getUserId(), request.getAmount());
         
         // 현재 잔액 조회
-        List<Point> userPoints = pointRepository.findByUserId(request.getUserId());
-        int currentBalance = userPoints.stream()
-            .mapToInt(Point::getPointBalance)
-            .max()
-            .orElse(0);
+        int currentBalance = currentBalance(request.getUserId());
         
         int newBalance = currentBalance + request.getAmount();
         
@@ -144,11 +141,7 @@ public class PointController {
                    request.getUserId(), request.getAmount());
         
         // 현재 잔액 확인
-        List<Point> userPoints = pointRepository.findByUserId(request.getUserId());
-        int currentBalance = userPoints.stream()
-            .mapToInt(Point::getPointBalance)
-            .max()
-            .orElse(0);
+        int currentBalance = currentBalance(request.getUserId());
         
         int newBalance = currentBalance + request.getAmount();
         
@@ -164,6 +157,66 @@ public class PointController {
         return ResponseEntity.ok(savedPoint);
     }
 
+    // 여러 (사용자, 도서) 조합의 포인트 잔액/구매 여부를 한 번에 확인 (도서 목록 화면용)
+    // 잔액과 구매 내역을 각각 IN 절 쿼리 한 번으로 읽으므로 조합 수만큼 호출할 필요가 없다
+    @PostMapping("/entitlements:batch")
+    public ResponseEntity<List<PointEntitlementResult>> checkEntitlements(
+        @RequestBody EntitlementBatchRequest request
+    ) {
+        List<EntitlementItem> items = request.getItems() != null ? request.getItems() : new ArrayList<>();
+        logger.info("POST /points/entitlements:batch - 포인트 권한 일괄 확인: {}건", items.size());
+        
+        if (items.size() > MAX_BATCH_ITEMS) {
+            logger.warn("일괄 확인 요청이 너무 큼: {}건 (최대 {}건)", items.size(), MAX_BATCH_ITEMS);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> bookIds = new HashSet<>();
+        for (EntitlementItem item : items) {
+            if (item.getUserId() != null) {
+                userIds.add(item.getUserId());
+            }
+            if (item.getBookId() != null) {
+                bookIds.add(item.getBookId());
+            }
+        }
+        
+        Map<Long, Integer> balances = new HashMap<>();
+        Set<String> purchases = new HashSet<>();
+        if (!userIds.isEmpty()) {
+            for (PointBalance balance : pointRepository.findBalances(userIds)) {
+                balances.put(balance.getUserId(), balance.getBalance());
+            }
+            if (!bookIds.isEmpty()) {
+                for (PointPurchase purchase : pointRepository.findPurchases(userIds, bookIds)) {
+                    purchases.add(purchase.getUserId() + ":" + purchase.getBookId());
+                }
+            }
+        }
+        
+        List<PointEntitlementResult> results = new ArrayList<>(items.size());
+        for (EntitlementItem item : items) {
+            PointEntitlementResult result = new PointEntitlementResult();
+            result.setUserId(item.getUserId());
+            result.setBookId(item.getBookId());
+            result.setBalance(balances.getOrDefault(item.getUserId(), 0));
+            result.setPurchased(purchases.contains(item.getUserId() + ":" + item.getBookId()));
+            results.add(result);
+        }
+        
+        logger.info("포인트 권한 일괄 확인 완료: 사용자 {}명, 도서 {}권", userIds.size(), bookIds.size());
+        return ResponseEntity.ok(results);
+    }
+
+    // 현재 잔액 = 가장 최근 포인트 행의 pointBalance (행마다 그 시점의 잔액을 남긴다)
+    private int currentBalance(Long userId) {
+        return pointRepository
+            .findFirstByUserIdOrderByCreatedAtDescPointIdDesc(userId)
+            .map(Point::getPointBalance)
+            .orElse(0);
+    }
+
     // Request DTOs
     public static class SignupPointRequest {
         private Long userId;
@@ -178,16 +231,52 @@ public class PointController {
     public static class UsePointRequest {
         private Long userId;
         private Integer amount;
+        private Long bookId;
         private String description;
         
         public Long getUserId() { return userId; }
         public void setUserId(Long userId) { this.userId = userId; }
+        public Long getBookId() { return bookId; }
+        public void setBookId(Long bookId) { this.bookId = bookId; }
         public Integer getAmount() { return amount; }
         public void setAmount(Integer amount) { this.amount = amount; }
         public String getDescription() { return description; }
         public void setDescription(String description) { this.description = description; }
     }
     
+    public static class EntitlementBatchRequest {
+        private List<EntitlementItem> items;
+        
+        public List<EntitlementItem> getItems() { return items; }
+        public void setItems(List<EntitlementItem> items) { this.items = items; }
+    }
+    
+    public static class EntitlementItem {
+        private Long userId;
+        private Long bookId;
+        
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+        public Long getBookId() { return bookId; }
+        public void setBookId(Long bookId) { this.bookId = bookId; }
+    }
+    
+    public static class PointEntitlementResult {
+        private Long userId;
+        private Long bookId;
+        private Integer balance;
+        private boolean purchased;
+        
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+        public Long getBookId() { return bookId; }
+        public void setBookId(Long bookId) { this.bookId = bookId; }
+        public Integer getBalance() { return balance; }
+        public void setBalance(Integer balance) { this.balance = balance; }
+        public boolean isPurchased() { return purchased; }
+        public void setPurchased(boolean purchased) { this.purchased = purchased; }
+    }
+    
     public static class ChargePointRequest {
         private Long userId;
         private Integer amount;
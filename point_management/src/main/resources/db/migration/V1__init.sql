@@ -0,0 +1,28 @@
+-- 포인트 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence point_seq start with 1 increment by 50;
+
+create table point_table (
+    point_id bigint not null,
+    user_id bigint,
+    point_balance integer,
+    point_type varchar(255),
+    amount integer,
+    description varchar(255),
+    book_id bigint,
+    created_at timestamp,
+    primary key (point_id)
+);
+
+create index ix_point_user_created on point_table (user_id, created_at);
+create index ix_point_user_book on point_table (user_id, book_id);
+
+create table point_list_table (
+    id bigint not null,
+    current_balance integer,
+    transaction_date timestamp,
+    amount integer,
+    reason varchar(255),
+    primary key (id)
+);
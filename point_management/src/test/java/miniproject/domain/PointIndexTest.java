@@ -0,0 +1,46 @@
+package miniproject.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 테이블에서 자주 도는 조회가 엔티티에 선언한 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * SQL 은 각 repository 메서드가 만드는 조건과 같은 모양으로 적는다.
+ */
+@DataJpaTest
+class PointIndexTest {
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 miniproject.domain 의 엔티티/repository 만 올린다
+    @Configuration
+    @AutoConfigurationPackage
+    static class JpaOnly {}
+
+    @Autowired
+    EntityManager entityManager;
+
+    // findByUserIdOrderByCreatedAtDesc / 최근 행으로 잔액 조회
+    @Test
+    void findByUserIdOrderByCreatedAtDescUsesUserCreatedIndex() {
+        assertThat(plan("select * from point_table where user_id = 1 order by created_at desc, point_id desc"))
+            .contains("IX_POINT_USER_CREATED");
+    }
+
+    // findPurchases (일괄 권한 확인의 구매 여부). H2 는 다른 조건과 같이 쓰인 IN 목록을 인덱스 조건으로 보지 않으므로 한 권으로 확인한다
+    @Test
+    void findPurchasesUsesUserBookIndex() {
+        assertThat(plan("select distinct user_id, book_id from point_table where point_type = 'USAGE' and user_id = 1 and book_id = 10"))
+            .contains("IX_POINT_USER_BOOK");
+    }
+
+    private String plan(String sql) {
+        Object plan = entityManager.createNativeQuery("explain " + sql).getSingleResult();
+        return String.valueOf(plan).toUpperCase(Locale.ROOT);
+    }
+}
@@ -2,24 +2,32 @@ package miniproject.domain;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
+import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.SubscriptionManagementApplication;
 import miniproject.domain.SubscriptionActivated;
 import miniproject.domain.SubscriptionCanceled;
 
 @Entity
-@Table(name = "Subscription_table")
+@Table(
+    name = "Subscription_table",
+    indexes = {
+        @Index(name = "ix_subscription_user_status", columnList = "userId, status"),
+        @Index(name = "ix_subscription_user_created", columnList = "userId, createdAt"),
+        @Index(name = "ix_subscription_status_end", columnList = "status, endDate"),
+    }
+)
 @Data
 //<<< DDD / Aggregate Root
 public class Subscription {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "subscription_seq")
+    @SequenceGenerator(name = "subscription_seq", sequenceName = "subscription_seq", allocationSize = 50)
     private Long subscriptionId;
 
     private Long userId;
@@ -43,15 +51,12 @@ public class Subscription {
             this.createdAt = new Date();
         }
         
-        SubscriptionActivated subscriptionActivated = new SubscriptionActivated(
-            this
-        );
-        subscriptionActivated.publishAfterCommit();
-
-        SubscriptionCanceled subscriptionCanceled = new SubscriptionCanceled(
-            this
-        );
-        subscriptionCanceled.publishAfterCommit();
+        if ("ACTIVE".equals(this.status)) {
+            SubscriptionActivated subscriptionActivated = new SubscriptionActivated(
+                this
+            );
+            subscriptionActivated.publishAfterCommit();
+        }
     }
 
     @PrePersist
@@ -70,11 +75,30 @@ public class Subscription {
         return now.before(this.endDate);
     }
 
-    public static SubscriptionRepository repository() {
-        SubscriptionRepository subscriptionRepository = SubscriptionManagementApplication.applicationContext.getBean(
-            SubscriptionRepository.class
+    // 구독 취소
+    public void cancel() {
+        this.status = "INACTIVE";
+
+        SubscriptionCanceled subscriptionCanceled = new SubscriptionCanceled(
+            this
         );
-        return subscriptionRepository;
+        subscriptionCanceled.publishAfterCommit();
+    }
+
+    // 구독 연장 (남은 기간 뒤로 1개월, 이미 끝났으면 지금부터 1개월)
+    public void renew() {
+        Calendar cal = Calendar.getInstance();
+        if (isActive()) {
+            cal.setTime(this.endDate);
+        }
+        cal.add(Calendar.MONTH, 1);
+        this.status = "ACTIVE";
+        this.endDate = cal.getTime();
+
+        SubscriptionActivated subscriptionActivated = new SubscriptionActivated(
+            this
+        );
+        subscriptionActivated.publishAfterCommit();
     }
 }
 //>>> DDD / Aggregate Root
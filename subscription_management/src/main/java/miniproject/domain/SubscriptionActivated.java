@@ -14,10 +14,11 @@ public class SubscriptionActivated extends AbstractEvent {
     private Long subscriptionId;
     private Long userId;
     private String plan;
-    private String endDate;
+    private Date endDate;
 
     public SubscriptionActivated(Subscription aggregate) {
         super(aggregate);
+        this.plan = aggregate.getPlanType();
     }
 
     public SubscriptionActivated() {
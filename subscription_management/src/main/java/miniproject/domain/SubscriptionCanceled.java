@@ -12,7 +12,7 @@ import miniproject.infra.AbstractEvent;
 public class SubscriptionCanceled extends AbstractEvent {
 
     private Long subscriptionId;
-    private String userId;
+    private Long userId;
 
     public SubscriptionCanceled(Subscription aggregate) {
         super(aggregate);
@@ -0,0 +1,12 @@
+package miniproject.domain;
+
+import java.util.Date;
+
+// 일괄 권한 확인에 필요한 컬럼만 읽기 위한 projection (사용자별 활성 구독)
+public interface SubscriptionEntitlement {
+    Long getUserId();
+
+    String getPlanType();
+
+    Date getEndDate();
+}
@@ -0,0 +1,12 @@
+package miniproject.domain;
+
+import java.util.Date;
+
+// 만료 스케줄링에 필요한 컬럼만 읽기 위한 projection
+public interface SubscriptionExpiration {
+    Long getSubscriptionId();
+
+    Long getUserId();
+
+    Date getEndDate();
+}
@@ -0,0 +1,26 @@
+package miniproject.domain;
+
+import java.time.LocalDate;
+import java.util.*;
+import lombok.*;
+import miniproject.domain.*;
+import miniproject.infra.AbstractEvent;
+
+//<<< DDD / Domain Event
+@Data
+@ToString
+public class SubscriptionExpired extends AbstractEvent {
+
+    private Long subscriptionId;
+    private Long userId;
+    private Date endDate;
+
+    public SubscriptionExpired(Subscription aggregate) {
+        super(aggregate);
+    }
+
+    public SubscriptionExpired() {
+        super();
+    }
+}
+//>>> DDD / Domain Event
@@ -1,9 +1,16 @@
 package miniproject.domain;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import miniproject.domain.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
 
 //<<< PoEAA / Repository
 @RepositoryRestResource(
@@ -21,5 +28,54 @@ public interface SubscriptionRepository
     
     // 사용자별 구독 내역 조회 (생성일시 역순)
     List<Subscription> findByUserIdOrderByCreatedAtDesc(Long userId);
+    
+    // 기간 안에 만료되는 활성 구독 (subscriptionId 기준 keyset 페이지)
+    @RestResource(exported = false)
+    @Query(
+        "select s.subscriptionId as subscriptionId, s.userId as userId, s.endDate as endDate " +
+        "from Subscription s " +
+        "where s.status = 'ACTIVE' and s.endDate >= :from and s.endDate < :until and s.subscriptionId > :afterId " +
+        "order by s.subscriptionId"
+    )
+    List<SubscriptionExpiration> findActiveExpiringBetween(
+        @Param("from") Date from,
+        @Param("until") Date until,
+        @Param("afterId") Long afterId,
+        Pageable pageable
+    );
+    
+    // 주어진 구독 중 실제로 만료 처리할 대상
+    @RestResource(exported = false)
+    @Query(
+        "select s.subscriptionId as subscriptionId, s.userId as userId, s.endDate as endDate " +
+        "from Subscription s " +
+        "where s.subscriptionId in :ids and s.status = 'ACTIVE' and s.endDate <= :now"
+    )
+    List<SubscriptionExpiration> findExpirable(
+        @Param("ids") Collection<Long> ids,
+        @Param("now") Date now
+    );
+    
+    // 여러 사용자의 활성 구독을 한 번에 조회 (일괄 권한 확인용)
+    @RestResource(exported = false)
+    @Query(
+        "select s.userId as userId, s.planType as planType, max(s.endDate) as endDate " +
+        "from Subscription s " +
+        "where s.userId in :userIds and s.status = 'ACTIVE' and s.endDate > :now " +
+        "group by s.userId, s.planType"
+    )
+    List<SubscriptionEntitlement> findActiveEntitlements(
+        @Param("userIds") Collection<Long> userIds,
+        @Param("now") Date now
+    );
+    
+    // 아직 ACTIVE 인 경우에만 만료로 바꾼다. 1 이면 이 호출이 바꾼 것 (다른 인스턴스가 먼저 바꿨으면 0)
+    @RestResource(exported = false)
+    @Modifying
+    @Query(
+        "update Subscription s set s.status = 'EXPIRED' " +
+        "where s.subscriptionId = :id and s.status = 'ACTIVE' and s.endDate <= :now"
+    )
+    int markExpired(@Param("id") Long id, @Param("now") Date now);
 }
 //>>> PoEAA / Repository
@@ -0,0 +1,52 @@
+package miniproject.infra;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 하나 동안 발행된 도메인 이벤트 목록.
+ * DomainEventTransactionManager 가 트랜잭션마다 하나씩 등록하고, 커밋되면 모인 순서대로 보낸다.
+ * 롤백되면 버린다.
+ */
+public class DomainEvents extends TransactionSynchronizationAdapter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEvents.class);
+
+    private final DomainEventPublisher publisher;
+    private final List<AbstractEvent> events = new ArrayList<>(4);
+
+    DomainEvents(DomainEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    // 현재 트랜잭션의 목록. REQUIRES_NEW 안에서는 안쪽 트랜잭션의 목록이 나온다
+    static DomainEvents current() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof DomainEvents) {
+                return (DomainEvents) synchronization;
+            }
+        }
+        throw new IllegalStateException("도메인 이벤트는 DomainEventTransactionManager 트랜잭션 안에서만 발행할 수 있습니다");
+    }
+
+    void add(AbstractEvent event) {
+        events.add(event);
+    }
+
+    @Override
+    public void afterCommit() {
+        // 커밋은 이미 끝났으므로 한 건이 실패해도 나머지는 보낸다 (실패는 event.publish 메트릭에 남는다)
+        for (AbstractEvent event : events) {
+            try {
+                publisher.publish(event);
+            } catch (RuntimeException e) {
+                logger.error("이벤트 발행 실패: {}", event.getEventType(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package miniproject.infra;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 계층형 타이밍 휠 (Kafka 의 timer 와 같은 구조).
+ * 가장 아래 휠은 tickMs 단위 버킷 wheelSize 개를 갖고, 그 범위를 넘는 만료 시각은 tick 이 wheelSize 배인
+ * 상위 휠에 들어간다. 상위 휠 버킷의 시각이 되면 그 안의 항목들이 아래 휠로 내려온다.
+ *
+ * 등록/취소는 key 인덱스와 버킷 내부 이중 연결 리스트로 O(1) 이고, 시계를 진행할 때는
+ * 항목이 들어 있는 버킷만 우선순위 큐에서 꺼내므로 빈 tick 을 돌지 않는다.
+ * 이미 지난 시각으로 등록된 key 도 다음 advance 전까지는 인덱스에 남아 있어 취소할 수 있다.
+ * 동기화는 인스턴스 단위로 한다.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final Map<K, Node<K>> index = new HashMap<>();
+    private final PriorityQueue<Bucket<K>> queue = new PriorityQueue<>(
+        (a, b) -> Long.compare(a.expiration, b.expiration)
+    );
+    private final Level<K> root;
+    private final Set<K> overdue = new LinkedHashSet<>();
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.root = new Level<>(tickMs, wheelSize, startMs, queue);
+    }
+
+    /**
+     * key 의 만료 시각을 (다시) 등록한다. 이미 지난 시각이면 다음 advance 에서 바로 반환된다.
+     */
+    public synchronized void schedule(K key, long expirationMs) {
+        cancel(key);
+        Node<K> node = new Node<>(key, expirationMs);
+        index.put(key, node);
+        if (!root.add(node)) {
+            overdue.add(key);
+        }
+    }
+
+    public synchronized boolean cancel(K key) {
+        Node<K> node = index.remove(key);
+        if (node == null) {
+            return false;
+        }
+        overdue.remove(key);
+        node.unlink();
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return index.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return index.size();
+    }
+
+    /**
+     * 시계를 nowMs 까지 진행하고 만료된 key 들을 돌려준다.
+     */
+    public synchronized List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>(overdue);
+        for (K key : overdue) {
+            index.remove(key);
+        }
+        overdue.clear();
+
+        Bucket<K> bucket = queue.peek();
+        while (bucket != null && bucket.expiration <= nowMs) {
+            queue.poll();
+            root.advanceClock(bucket.expiration);
+            for (Node<K> node : bucket.drain()) {
+                // 하위 휠로 내려보내고, 더 내려갈 곳이 없으면 만료
+                if (!root.add(node)) {
+                    index.remove(node.key);
+                    expired.add(node.key);
+                }
+            }
+            bucket = queue.peek();
+        }
+        return expired;
+    }
+
+    private static final class Level<K> {
+
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final Bucket<K>[] buckets;
+        private final PriorityQueue<Bucket<K>> queue;
+        private long currentTime;
+        private Level<K> overflow;
+
+        @SuppressWarnings("unchecked")
+        Level(long tickMs, int wheelSize, long startMs, PriorityQueue<Bucket<K>> queue) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.queue = queue;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new Bucket<>();
+            }
+        }
+
+        boolean add(Node<K> node) {
+            long expiration = node.expirationMs;
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket<K> bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(node);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    queue.offer(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime, queue);
+            }
+            return overflow.add(node);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<K> {
+
+        private final Node<K> head = new Node<>(null, -1L);
+        private long expiration = -1L;
+
+        Bucket() {
+            head.prev = head;
+            head.next = head;
+        }
+
+        void add(Node<K> node) {
+            node.bucket = this;
+            node.prev = head.prev;
+            node.next = head;
+            head.prev.next = node;
+            head.prev = node;
+        }
+
+        boolean setExpiration(long expirationMs) {
+            if (expiration == expirationMs) {
+                return false;
+            }
+            expiration = expirationMs;
+            return true;
+        }
+
+        List<Node<K>> drain() {
+            List<Node<K>> nodes = new ArrayList<>();
+            Node<K> node = head.next;
+            while (node != head) {
+                Node<K> next = node.next;
+                node.prev = null;
+                node.next = null;
+                node.bucket = null;
+                nodes.add(node);
+                node = next;
+            }
+            head.prev = head;
+            head.next = head;
+            expiration = -1L;
+            return nodes;
+        }
+    }
+
+    private static final class Node<K> {
+
+        private final K key;
+        private final long expirationMs;
+        private Bucket<K> bucket;
+        private Node<K> prev;
+        private Node<K> next;
+
+        Node(K key, long expirationMs) {
+            this.key = key;
+            this.expirationMs = expirationMs;
+        }
+
+        void unlink() {
+            if (bucket == null) {
+                return;
+            }
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+            bucket = null;
+        }
+    }
+}
@@ -9,18 +9,49 @@ import miniproject.config.kafka.KafkaProcessor;
 import miniproject.domain.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.stream.annotation.StreamListener;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Service;
 
 //<<< Clean Arch / Inbound Adaptor
 @Service
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 @StreamListener 구독이 걸린다
+@Lazy(false)
 @Transactional
 public class PolicyHandler {
 
     @Autowired
     SubscriptionRepository subscriptionRepository;
 
+    @Autowired
+    SubscriptionStatusCache subscriptionStatusCache;
+
     @StreamListener(KafkaProcessor.INPUT)
     public void whatever(@Payload String eventString) {}
+
+    @StreamListener(
+        value = KafkaProcessor.INPUT,
+        condition = "headers['type']=='SubscriptionActivated'"
+    )
+    public void wheneverSubscriptionActivated_UpdateStatusCache(
+        @Payload SubscriptionActivated subscriptionActivated
+    ) {
+        subscriptionStatusCache.activated(
+            subscriptionActivated.getSubscriptionId(),
+            subscriptionActivated.getUserId(),
+            subscriptionActivated.getPlan(),
+            subscriptionActivated.getEndDate()
+        );
+    }
+
+    @StreamListener(
+        value = KafkaProcessor.INPUT,
+        condition = "headers['type']=='SubscriptionCanceled'"
+    )
+    public void wheneverSubscriptionCanceled_UpdateStatusCache(
+        @Payload SubscriptionCanceled subscriptionCanceled
+    ) {
+        subscriptionStatusCache.canceled(subscriptionCanceled.getUserId());
+    }
 }
 //>>> Clean Arch / Inbound Adaptor
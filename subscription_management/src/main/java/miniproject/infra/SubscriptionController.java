@@ -1,9 +1,14 @@
 package miniproject.infra;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.transaction.Transactional;
@@ -13,6 +18,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,21 +32,29 @@ public class SubscriptionController {
 
     private static final Logger logger = LoggerFactory.getLogger(SubscriptionController.class);
 
+    // 일괄 권한 확인 한 번에 받을 수 있는 최대 조합 수
+    private static final int MAX_BATCH_ITEMS = 1000;
+
     @Autowired
     SubscriptionRepository subscriptionRepository;
 
+    @Autowired
+    SubscriptionStatusCache subscriptionStatusCache;
+
+    @Autowired
+    SubscriptionExpiryScheduler subscriptionExpiryScheduler;
+
     // 사용자의 활성 구독 조회
     @GetMapping("/user/{userId}/active")
+    @Transactional(Transactional.TxType.SUPPORTS)
     public ResponseEntity<Subscription> getActiveSubscription(@PathVariable Long userId) {
         logger.info("GET /subscriptions/user/{}/active - 활성 구독 조회", userId);
         
-        List<Subscription> subscriptions = subscriptionRepository.findByUserIdAndStatus(userId, "ACTIVE");
-        
-        // 현재 시간 기준으로 유효한 구독 찾기
-        Date now = new Date();
-        Optional<Subscription> activeSubscription = subscriptions.stream()
-            .filter(sub -> sub.getEndDate().after(now))
-            .findFirst();
+        // 구독이 없는 사용자는 캐시만으로 응답하고, 있으면 PK 로 한 건만 읽는다
+        SubscriptionStatusCache.Entry status = subscriptionStatusCache.get(userId);
+        Optional<Subscription> activeSubscription = status.isActive()
+            ? subscriptionRepository.findById(status.getSubscriptionId()).filter(Subscription::isActive)
+            : Optional.empty();
         
         if (activeSubscription.isPresent()) {
             logger.info("활성 구독 조회 성공: 사용자 ID={}, 만료일={}", 
@@ -57,13 +72,7 @@ public class SubscriptionController {
         logger.info("POST /subscriptions/subscribe - 프리미엄 구독 신청: userId={}", request.getUserId());
         
         // 기존 활성 구독이 있는지 확인
-        List<Subscription> existingSubscriptions = subscriptionRepository.findByUserIdAndStatus(request.getUserId(), "ACTIVE");
-        Date now = new Date();
-        
-        boolean hasActiveSubscription = existingSubscriptions.stream()
-            .anyMatch(sub -> sub.getEndDate().after(now));
-        
-        if (hasActiveSubscription) {
+        if (subscriptionStatusCache.get(request.getUserId()).isActive()) {
             logger.warn("이미 활성 구독이 있음: 사용자 ID={}", request.getUserId());
             return ResponseEntity.badRequest().build();
         }
@@ -83,6 +92,15 @@ public class SubscriptionController {
         subscription.setEndDate(endDate);
         
         Subscription savedSubscription = subscriptionRepository.save(subscription);
+        afterCommit(() -> {
+            subscriptionStatusCache.activated(
+                savedSubscription.getSubscriptionId(),
+                savedSubscription.getUserId(),
+                savedSubscription.getPlanType(),
+                savedSubscription.getEndDate()
+            );
+            subscriptionExpiryScheduler.schedule(savedSubscription.getSubscriptionId(), savedSubscription.getEndDate());
+        });
         logger.info("프리미엄 구독 신청 완료: 사용자 ID={}, 시작일={}, 만료일={}", 
                    request.getUserId(), startDate, endDate);
         
@@ -97,9 +115,13 @@ public class SubscriptionController {
         Optional<Subscription> subscriptionOptional = subscriptionRepository.findById(subscriptionId);
         if (subscriptionOptional.isPresent()) {
             Subscription subscription = subscriptionOptional.get();
-            subscription.setStatus("INACTIVE");
+            subscription.cancel();
             
             Subscription updatedSubscription = subscriptionRepository.save(subscription);
+            afterCommit(() -> {
+                subscriptionStatusCache.canceled(updatedSubscription.getUserId());
+                subscriptionExpiryScheduler.cancel(subscriptionId);
+            });
             logger.info("구독 취소 완료: ID={}", subscriptionId);
             return ResponseEntity.ok(updatedSubscription);
         } else {
@@ -108,6 +130,49 @@ public class SubscriptionController {
         }
     }
 
+    // 구독 연장 (1개월)
+    @PatchMapping("/{subscriptionId}/renew")
+    public ResponseEntity<Subscription> renewSubscription(@PathVariable Long subscriptionId) {
+        logger.info("PATCH /subscriptions/{}/renew - 구독 연장", subscriptionId);
+        
+        Optional<Subscription> subscriptionOptional = subscriptionRepository.findById(subscriptionId);
+        if (subscriptionOptional.isPresent()) {
+            Subscription subscription = subscriptionOptional.get();
+            subscription.renew();
+            
+            Subscription updatedSubscription = subscriptionRepository.save(subscription);
+            afterCommit(() -> {
+                subscriptionStatusCache.activated(
+                    updatedSubscription.getSubscriptionId(),
+                    updatedSubscription.getUserId(),
+                    updatedSubscription.getPlanType(),
+                    updatedSubscription.getEndDate()
+                );
+                // 만료 시각만 옮기면 되므로 휠에서 다시 등록한다
+                subscriptionExpiryScheduler.schedule(subscriptionId, updatedSubscription.getEndDate());
+            });
+            logger.info("구독 연장 완료: ID={}, 만료일={}", subscriptionId, updatedSubscription.getEndDate());
+            return ResponseEntity.ok(updatedSubscription);
+        } else {
+            logger.warn("연장할 구독을 찾을 수 없음: ID={}", subscriptionId);
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // 캐시와 만료 휠은 커밋된 상태만 반영한다 (롤백되면 건드리지 않는다)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     // 사용자의 모든 구독 내역 조회
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Subscription>> getUserSubscriptions(@PathVariable Long userId) {
@@ -119,33 +184,77 @@ public class SubscriptionController {
 
     // 구독 상태 확인 (구독자인지 확인)
     @GetMapping("/user/{userId}/status")
+    @Transactional(Transactional.TxType.SUPPORTS)
     public ResponseEntity<SubscriptionStatus> getSubscriptionStatus(@PathVariable Long userId) {
         logger.info("GET /subscriptions/user/{}/status - 구독 상태 확인", userId);
         
-        List<Subscription> subscriptions = subscriptionRepository.findByUserIdAndStatus(userId, "ACTIVE");
-        Date now = new Date();
-        
-        boolean isSubscriber = subscriptions.stream()
-            .anyMatch(sub -> sub.getEndDate().after(now));
+        SubscriptionStatusCache.Entry cached = subscriptionStatusCache.get(userId);
+        boolean isSubscriber = cached.isActive();
         
         SubscriptionStatus status = new SubscriptionStatus();
         status.setUserId(userId);
         status.setIsSubscriber(isSubscriber);
         
         if (isSubscriber) {
-            Optional<Subscription> activeSub = subscriptions.stream()
-                .filter(sub -> sub.getEndDate().after(now))
-                .findFirst();
-            if (activeSub.isPresent()) {
-                status.setEndDate(activeSub.get().getEndDate());
-                status.setPlanType(activeSub.get().getPlanType());
-            }
+            status.setEndDate(new Date(cached.getActiveUntil()));
+            status.setPlanType(cached.getPlanType());
         }
         
         logger.info("구독 상태 조회 완료: 사용자 ID={}, 구독자={}", userId, isSubscriber);
         return ResponseEntity.ok(status);
     }
 
+    // 여러 (사용자, 도서) 조합의 구독 권한을 한 번에 확인 (도서 목록 화면용)
+    // 사용자 ID 를 모아 IN 절 쿼리 한 번으로 처리하므로 조합 수만큼 호출할 필요가 없다
+    @PostMapping("/entitlements:batch")
+    @Transactional(Transactional.TxType.SUPPORTS)
+    public ResponseEntity<List<SubscriptionEntitlementResult>> checkEntitlements(
+        @RequestBody EntitlementBatchRequest request
+    ) {
+        List<EntitlementItem> items = request.getItems() != null ? request.getItems() : new ArrayList<>();
+        logger.info("POST /subscriptions/entitlements:batch - 구독 권한 일괄 확인: {}건", items.size());
+        
+        if (items.size() > MAX_BATCH_ITEMS) {
+            logger.warn("일괄 확인 요청이 너무 큼: {}건 (최대 {}건)", items.size(), MAX_BATCH_ITEMS);
+            return ResponseEntity.badRequest().build();
+        }
+        
+        Set<Long> userIds = new HashSet<>();
+        for (EntitlementItem item : items) {
+            if (item.getUserId() != null) {
+                userIds.add(item.getUserId());
+            }
+        }
+        
+        Map<Long, SubscriptionEntitlement> activeByUser = new HashMap<>();
+        if (!userIds.isEmpty()) {
+            for (SubscriptionEntitlement entitlement : subscriptionRepository.findActiveEntitlements(userIds, new Date())) {
+                SubscriptionEntitlement current = activeByUser.get(entitlement.getUserId());
+                if (current == null || current.getEndDate().before(entitlement.getEndDate())) {
+                    activeByUser.put(entitlement.getUserId(), entitlement);
+                }
+            }
+        }
+        
+        // 구독은 모든 도서에 대한 권한이므로 도서와 무관하게 사용자 기준으로 채운다
+        List<SubscriptionEntitlementResult> results = new ArrayList<>(items.size());
+        for (EntitlementItem item : items) {
+            SubscriptionEntitlement entitlement = activeByUser.get(item.getUserId());
+            SubscriptionEntitlementResult result = new SubscriptionEntitlementResult();
+            result.setUserId(item.getUserId());
+            result.setBookId(item.getBookId());
+            result.setIsSubscriber(entitlement != null);
+            if (entitlement != null) {
+                result.setPlanType(entitlement.getPlanType());
+                result.setEndDate(entitlement.getEndDate());
+            }
+            results.add(result);
+        }
+        
+        logger.info("구독 권한 일괄 확인 완료: 사용자 {}명, 구독자 {}명", userIds.size(), activeByUser.size());
+        return ResponseEntity.ok(results);
+    }
+
     // 요청 DTO 클래스들
     public static class SubscribeRequest {
         private Long userId;
@@ -154,6 +263,42 @@ public class SubscriptionController {
         public void setUserId(Long userId) { this.userId = userId; }
     }
     
+    public static class EntitlementBatchRequest {
+        private List<EntitlementItem> items;
+        
+        public List<EntitlementItem> getItems() { return items; }
+        public void setItems(List<EntitlementItem> items) { this.items = items; }
+    }
+    
+    public static class EntitlementItem {
+        private Long userId;
+        private Long bookId;
+        
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+        public Long getBookId() { return bookId; }
+        public void setBookId(Long bookId) { this.bookId = bookId; }
+    }
+    
+    public static class SubscriptionEntitlementResult {
+        private Long userId;
+        private Long bookId;
+        private boolean isSubscriber;
+        private String planType;
+        private Date endDate;
+        
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+        public Long getBookId() { return bookId; }
+        public void setBookId(Long bookId) { this.bookId = bookId; }
+        public boolean getIsSubscriber() { return isSubscriber; }
+        public void setIsSubscriber(boolean isSubscriber) { this.isSubscriber = isSubscriber; }
+        public String getPlanType() { return planType; }
+        public void setPlanType(String planType) { this.planType = planType; }
+        public Date getEndDate() { return endDate; }
+        public void setEndDate(Date endDate) { this.endDate = endDate; }
+    }
+    
     public static class SubscriptionStatus {
         private Long userId;
         private boolean isSubscriber;
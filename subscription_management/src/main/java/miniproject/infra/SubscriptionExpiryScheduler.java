@@ -0,0 +1,191 @@
+package miniproject.infra;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import miniproject.domain.SubscriptionExpiration;
+import miniproject.domain.SubscriptionExpired;
+import miniproject.domain.SubscriptionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 구독 만료 스케줄러.
+ * 앞으로 horizon 안에 끝나는 활성 구독만 타이밍 휠에 올려 두고(기동 시 + 주기적으로 다음 구간 적재),
+ * 만료 시각이 되면 batch 단위로 상태를 EXPIRED 로 변경하고 SubscriptionExpired 이벤트를 발행한다.
+ * 여러 인스턴스가 같은 구독을 휠에 올려 두므로, ACTIVE 조건부 update 로 실제로 바꾼 구독만 발행한다.
+ * 구독/갱신/취소 시에는 휠에 O(1) 로 등록·취소한다.
+ */
+@Component
+public class SubscriptionExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubscriptionExpiryScheduler.class);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionStatusCache subscriptionStatusCache;
+    private final TransactionTemplate transactionTemplate;
+    private final HierarchicalTimingWheel<Long> wheel;
+    private final ScheduledExecutorService ticker;
+
+    private final long tickMs;
+    private final long horizonMs;
+    private final int batchSize;
+
+    // tick, 적재 구간 확장(refill), schedule 의 적재 구간 판단을 한 줄로 세운다.
+    // 적재와 loadedUntil 변경 사이에 schedule 이 끼어들어 구독을 놓치지 않도록 한다
+    private final Object lock = new Object();
+
+    // 이 시각 이전에 끝나는 활성 구독은 모두 휠에 올라가 있다 (lock 안에서만 읽고 쓴다)
+    private long loadedUntil;
+
+    public SubscriptionExpiryScheduler(
+        SubscriptionRepository subscriptionRepository,
+        SubscriptionStatusCache subscriptionStatusCache,
+        PlatformTransactionManager transactionManager,
+        @Value("${subscription.expiry.tick-ms:1000}") long tickMs,
+        @Value("${subscription.expiry.wheel-size:60}") int wheelSize,
+        @Value("${subscription.expiry.horizon-hours:24}") long horizonHours,
+        @Value("${subscription.expiry.batch-size:500}") int batchSize
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.subscriptionStatusCache = subscriptionStatusCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tickMs = tickMs;
+        this.horizonMs = TimeUnit.HOURS.toMillis(horizonHours);
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "subscription-expiry");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long now = System.currentTimeMillis();
+        synchronized (lock) {
+            // 재기동 전에 이미 지난 구독도 함께 정리되도록 처음에는 과거분부터 읽는다
+            load(new Date(0L), new Date(now + horizonMs));
+            loadedUntil = now + horizonMs;
+        }
+
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        ticker.scheduleWithFixedDelay(this::refill, horizonMs / 2, horizonMs / 2, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    public void schedule(Long subscriptionId, Date endDate) {
+        if (subscriptionId == null || endDate == null) {
+            return;
+        }
+        synchronized (lock) {
+            if (endDate.getTime() < loadedUntil) {
+                // tick 단위로 반올림되므로 한 tick 을 더해 만료 시각보다 일찍 처리되지 않게 한다
+                wheel.schedule(subscriptionId, endDate.getTime() + tickMs);
+            } else {
+                // 아직 적재 구간 밖이면 refill 때 올라온다
+                wheel.cancel(subscriptionId);
+            }
+        }
+    }
+
+    public void cancel(Long subscriptionId) {
+        if (subscriptionId != null) {
+            wheel.cancel(subscriptionId);
+        }
+    }
+
+    private void refill() {
+        try {
+            synchronized (lock) {
+                long from = loadedUntil;
+                long until = System.currentTimeMillis() + horizonMs;
+                if (until > from) {
+                    load(new Date(from), new Date(until));
+                    loadedUntil = until;
+                }
+            }
+        } catch (Exception e) {
+            logger.error("구독 만료 스케줄 적재 실패", e);
+        }
+    }
+
+    private void load(Date from, Date until) {
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<SubscriptionExpiration> page = subscriptionRepository.findActiveExpiringBetween(
+                from,
+                until,
+                afterId,
+                PageRequest.of(0, batchSize)
+            );
+            for (SubscriptionExpiration expiration : page) {
+                wheel.schedule(expiration.getSubscriptionId(), expiration.getEndDate().getTime() + tickMs);
+                afterId = expiration.getSubscriptionId();
+            }
+            loaded += page.size();
+            if (page.size() < batchSize) {
+                break;
+            }
+        }
+        logger.info("구독 만료 스케줄 적재: {} ~ {}, {}건", from, until, loaded);
+    }
+
+    private void tick() {
+        try {
+            synchronized (lock) {
+                List<Long> due = wheel.advance(System.currentTimeMillis());
+                for (int i = 0; i < due.size(); i += batchSize) {
+                    expire(new ArrayList<>(due.subList(i, Math.min(i + batchSize, due.size()))));
+                }
+            }
+        } catch (Exception e) {
+            logger.error("구독 만료 처리 실패", e);
+        }
+    }
+
+    private void expire(List<Long> ids) {
+        Date now = new Date();
+        List<SubscriptionExpiration> expired = transactionTemplate.execute(status -> {
+            List<SubscriptionExpiration> targets = subscriptionRepository.findExpirable(ids, now);
+            List<SubscriptionExpiration> updated = new ArrayList<>(targets.size());
+            for (SubscriptionExpiration target : targets) {
+                // 읽은 뒤 다른 인스턴스가 먼저 만료시켰거나 갱신/취소됐으면 0 이므로 발행하지 않는다
+                if (subscriptionRepository.markExpired(target.getSubscriptionId(), now) == 0) {
+                    continue;
+                }
+                updated.add(target);
+                SubscriptionExpired subscriptionExpired = new SubscriptionExpired();
+                subscriptionExpired.setSubscriptionId(target.getSubscriptionId());
+                subscriptionExpired.setUserId(target.getUserId());
+                subscriptionExpired.setEndDate(target.getEndDate());
+                subscriptionExpired.publishAfterCommit();
+            }
+            return updated;
+        });
+
+        for (SubscriptionExpiration target : expired) {
+            subscriptionStatusCache.canceled(target.getUserId());
+        }
+        if (!expired.isEmpty()) {
+            logger.info("구독 만료 처리: {}건", expired.size());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package miniproject.infra;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import miniproject.domain.Subscription;
+import miniproject.domain.SubscriptionRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 구독 상태 캐시 (userId -> 활성 만료시각, 요금제).
+ * SubscriptionActivated / SubscriptionCanceled 이벤트와 구독 API 에서 직접 갱신되고,
+ * 활성 항목은 구독 만료 시각에 맞춰 자동으로 만료된다. 캐시에 없을 때만 DB 를 조회한다.
+ */
+@Component
+public class SubscriptionStatusCache {
+
+    private static final Entry NONE = new Entry(null, null, 0L);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Cache<Long, Entry> cache;
+
+    public SubscriptionStatusCache(
+        SubscriptionRepository subscriptionRepository,
+        MeterRegistry meterRegistry,
+        @Value("${subscription.status-cache.max-size:100000}") long maxSize,
+        @Value("${subscription.status-cache.max-ttl-seconds:600}") long maxTtlSeconds,
+        @Value("${subscription.status-cache.negative-ttl-seconds:60}") long negativeTtlSeconds
+    ) {
+        this.subscriptionRepository = subscriptionRepository;
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(maxTtlSeconds);
+        long negativeTtlNanos = TimeUnit.SECONDS.toNanos(negativeTtlSeconds);
+
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new Expiry<Long, Entry>() {
+                @Override
+                public long expireAfterCreate(Long userId, Entry entry, long currentTime) {
+                    if (!entry.isActive()) {
+                        return negativeTtlNanos;
+                    }
+                    // 구독이 끝나는 시각을 넘겨서 들고 있지 않는다
+                    long untilEnd = TimeUnit.MILLISECONDS.toNanos(entry.getActiveUntil() - System.currentTimeMillis());
+                    return Math.max(0L, Math.min(untilEnd, maxTtlNanos));
+                }
+
+                @Override
+                public long expireAfterUpdate(Long userId, Entry entry, long currentTime, long currentDuration) {
+                    return expireAfterCreate(userId, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(Long userId, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "subscriptionStatus");
+    }
+
+    public Entry get(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    public void activated(Long subscriptionId, Long userId, String planType, Date endDate) {
+        if (userId == null || endDate == null) {
+            return;
+        }
+        cache.put(userId, new Entry(subscriptionId, planType, endDate.getTime()));
+    }
+
+    public void canceled(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+
+    private Entry load(Long userId) {
+        List<Subscription> subscriptions = subscriptionRepository.findByUserIdAndStatus(userId, "ACTIVE");
+        long now = System.currentTimeMillis();
+
+        Entry latest = NONE;
+        for (Subscription subscription : subscriptions) {
+            Date endDate = subscription.getEndDate();
+            if (endDate != null && endDate.getTime() > now && endDate.getTime() > latest.getActiveUntil()) {
+                latest = new Entry(subscription.getSubscriptionId(), subscription.getPlanType(), endDate.getTime());
+            }
+        }
+        return latest;
+    }
+
+    public static final class Entry {
+
+        private final Long subscriptionId;
+        private final String planType;
+        private final long activeUntil;
+
+        Entry(Long subscriptionId, String planType, long activeUntil) {
+            this.subscriptionId = subscriptionId;
+            this.planType = planType;
+            this.activeUntil = activeUntil;
+        }
+
+        public boolean isActive() {
+            return activeUntil > System.currentTimeMillis();
+        }
+
+        public Long getSubscriptionId() {
+            return subscriptionId;
+        }
+
+        public String getPlanType() {
+            return planType;
+        }
+
+        public long getActiveUntil() {
+            return activeUntil;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- 구독 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence subscription_seq start with 1 increment by 50;
+
+create table subscription_table (
+    subscription_id bigint not null,
+    user_id bigint,
+    status varchar(255),
+    plan_type varchar(255),
+    monthly_fee integer,
+    start_date timestamp,
+    end_date timestamp,
+    created_at timestamp,
+    primary key (subscription_id)
+);
+
+create index ix_subscription_user_status on subscription_table (user_id, status);
+create index ix_subscription_user_created on subscription_table (user_id, created_at);
+create index ix_subscription_status_end on subscription_table (status, end_date);
@@ -0,0 +1,53 @@
+package miniproject.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Locale;
+import javax.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 구독 테이블에서 자주 도는 조회가 엔티티에 선언한 인덱스를 타는지 H2 EXPLAIN 으로 확인한다.
+ * SQL 은 각 repository 메서드가 만드는 조건과 같은 모양으로 적는다.
+ */
+@DataJpaTest
+class SubscriptionIndexTest {
+
+    // 애플리케이션 클래스(@EnableBinding 등) 없이 miniproject.domain 의 엔티티/repository 만 올린다
+    @Configuration
+    @AutoConfigurationPackage
+    static class JpaOnly {}
+
+    @Autowired
+    EntityManager entityManager;
+
+    // findByUserIdAndStatus (상태 캐시 적재)
+    @Test
+    void findByUserIdAndStatusUsesUserStatusIndex() {
+        assertThat(plan("select * from subscription_table where user_id = 1 and status = 'ACTIVE'"))
+            .contains("IX_SUBSCRIPTION_USER_STATUS");
+    }
+
+    // findByUserIdOrderByCreatedAtDesc (구독 내역)
+    @Test
+    void findByUserIdOrderByCreatedAtDescUsesUserCreatedIndex() {
+        assertThat(plan("select * from subscription_table where user_id = 1 order by created_at desc"))
+            .contains("IX_SUBSCRIPTION_USER_CREATED");
+    }
+
+    // findActiveExpiringBetween (만료 휠 적재)
+    @Test
+    void findActiveExpiringBetweenUsesStatusEndIndex() {
+        assertThat(plan("select subscription_id, user_id, end_date from subscription_table where status = 'ACTIVE' and end_date >= timestamp '2026-01-01 00:00:00' and end_date < timestamp '2026-01-02 00:00:00' and subscription_id > 0 order by subscription_id"))
+            .contains("IX_SUBSCRIPTION_STATUS_END");
+    }
+
+    private String plan(String sql) {
+        Object plan = entityManager.createNativeQuery("explain " + sql).getSingleResult();
+        return String.valueOf(plan).toUpperCase(Locale.ROOT);
+    }
+}
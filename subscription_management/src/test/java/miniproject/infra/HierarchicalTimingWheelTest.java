@@ -0,0 +1,116 @@
+package miniproject.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * tick 10ms, 버킷 8 개 (가장 아래 휠 80ms, 그 위 640ms, 그 위 5120ms) 로 시각 0 에서 시작한다.
+ * 만료는 tick 단위로 판정되므로 버킷이 시작하는 시각에 반환된다.
+ */
+class HierarchicalTimingWheelTest {
+
+    private final HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+
+    @Test
+    void expiresKeyWhenItsTickIsReached() {
+        wheel.schedule(1L, 25);
+
+        assertThat(wheel.advance(19)).isEmpty();
+        assertThat(wheel.advance(20)).containsExactly(1L);
+        assertThat(wheel.contains(1L)).isFalse();
+    }
+
+    @Test
+    void keyBeyondLowestWheelOverflowsAndCascadesDown() {
+        wheel.schedule(2L, 500);
+
+        assertThat(wheel.advance(480)).isEmpty();
+        assertThat(wheel.contains(2L)).isTrue();
+        assertThat(wheel.advance(499)).isEmpty();
+        assertThat(wheel.advance(500)).containsExactly(2L);
+    }
+
+    @Test
+    void keyBeyondTwoLevelsCascadesThroughEveryLevel() {
+        wheel.schedule(3L, 5000);
+
+        assertThat(wheel.advance(4999)).isEmpty();
+        assertThat(wheel.advance(5000)).containsExactly(3L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void bucketIsReusedAfterTheWheelRollsOver() {
+        wheel.schedule(4L, 15);
+        assertThat(wheel.advance(15)).containsExactly(4L);
+
+        // 한 바퀴(80ms) 뒤인 95ms 는 상위 휠을 거쳐 15ms 가 쓰던 버킷 자리로 다시 내려온다
+        wheel.schedule(5L, 95);
+        assertThat(wheel.advance(89)).isEmpty();
+        assertThat(wheel.advance(90)).containsExactly(5L);
+    }
+
+    @Test
+    void keysInTheSameBucketExpireTogether() {
+        wheel.schedule(6L, 31);
+        wheel.schedule(7L, 38);
+
+        assertThat(wheel.advance(30)).containsExactlyInAnyOrder(6L, 7L);
+    }
+
+    @Test
+    void cancelledKeyNeverExpires() {
+        wheel.schedule(8L, 300);
+
+        assertThat(wheel.cancel(8L)).isTrue();
+        assertThat(wheel.contains(8L)).isFalse();
+        assertThat(wheel.advance(1000)).isEmpty();
+        assertThat(wheel.cancel(8L)).isFalse();
+    }
+
+    @Test
+    void rescheduleReplacesThePreviousExpiration() {
+        wheel.schedule(9L, 100);
+        wheel.schedule(9L, 300);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly(9L);
+    }
+
+    @Test
+    void overdueKeyExpiresOnNextAdvance() {
+        moveClockTo(100);
+        wheel.schedule(10L, 50);
+
+        assertThat(wheel.contains(10L)).isTrue();
+        assertThat(wheel.advance(100)).containsExactly(10L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void overdueKeyCanBeCancelled() {
+        moveClockTo(100);
+        wheel.schedule(11L, 50);
+
+        assertThat(wheel.cancel(11L)).isTrue();
+        assertThat(wheel.advance(200)).isEmpty();
+    }
+
+    @Test
+    void overdueKeyCanBeRescheduledIntoTheFuture() {
+        moveClockTo(100);
+        wheel.schedule(12L, 50);
+        wheel.schedule(12L, 150);
+
+        assertThat(wheel.advance(149)).isEmpty();
+        assertThat(wheel.advance(150)).containsExactly(12L);
+    }
+
+    // 휠의 시각은 버킷을 꺼낼 때만 움직이므로 표시용 key 하나를 만료시켜 시계를 옮긴다
+    private void moveClockTo(long timeMs) {
+        wheel.schedule(-1L, timeMs);
+        assertThat(wheel.advance(timeMs)).containsExactly(-1L);
+    }
+}
@@ -5,19 +5,31 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import javax.persistence.*;
 import lombok.Data;
-import miniproject.UserManagementApplication;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
-@Table(name = "User_table")
+@Table(
+    name = "User_table",
+    indexes = {
+        @Index(name = "ux_user_email", columnList = "email", unique = true),
+        @Index(name = "ix_user_kt_auth", columnList = "ktAuthRequested, ktAuthApproved"),
+    }
+)
+// 2차 캐시 (영역 설정은 application.conf). JPA 로 고치면 커밋 때 캐시도 같이 고쳐진다
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Data
 //<<< DDD / Aggregate Root
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     private Long userId;
 
     private String email;
@@ -40,11 +52,15 @@ public class User {
 
     private String role;
 
-    public static UserRepository repository() {
-        UserRepository userRepository = UserManagementApplication.applicationContext.getBean(
-            UserRepository.class
-        );
-        return userRepository;
+    // 이메일은 소문자로 저장해 인덱스로 바로 찾을 수 있게 한다
+    @PrePersist
+    @PreUpdate
+    public void prePersist() {
+        this.email = normalizeEmail(this.email);
+    }
+
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 }
 //>>> DDD / Aggregate Root
@@ -4,6 +4,7 @@ import miniproject.domain.*;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
 import java.util.List;
+import java.util.Optional;
 
 //<<< PoEAA / Repository
 @RepositoryRestResource(collectionResourceRel = "users", path = "users")
@@ -13,6 +14,8 @@ public interface UserRepository
     // KT 인증 대기 중인 사용자 조회
     List<User> findByKtAuthRequestedTrueAndKtAuthApprovedFalse();
     
-    // 이메일로 사용자 찾기
-    User findByEmail(String email);
+    // 이메일로 사용자 찾기 (ux_user_email 인덱스, User.normalizeEmail 로 정규화한 값으로 호출)
+    Optional<User> findByEmail(String email);
+    
+    boolean existsByEmail(String email);
 }
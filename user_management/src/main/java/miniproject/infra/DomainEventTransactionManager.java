@@ -0,0 +1,40 @@
+package miniproject.infra;
+
+import javax.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 스프링 부트 기본 JpaTransactionManager 대신 쓰는 트랜잭션 매니저.
+ * 새 트랜잭션(동기화)마다 DomainEvents 를 등록해서, 엔티티 콜백이나 서비스 코드가
+ * publishAfterCommit 으로 올린 이벤트를 커밋 후 한꺼번에 보낸다.
+ */
+@Component("transactionManager")
+public class DomainEventTransactionManager extends JpaTransactionManager {
+
+    private final DomainEventPublisher publisher;
+
+    public DomainEventTransactionManager(
+        EntityManagerFactory entityManagerFactory,
+        DomainEventPublisher publisher,
+        ObjectProvider<TransactionManagerCustomizers> customizers
+    ) {
+        super(entityManagerFactory);
+        this.publisher = publisher;
+        // spring.transaction.* 설정은 부트가 만들던 것과 똑같이 적용한다
+        customizers.ifAvailable(c -> c.customize(this));
+    }
+
+    @Override
+    protected void prepareSynchronization(DefaultTransactionStatus status, TransactionDefinition definition) {
+        super.prepareSynchronization(status, definition);
+        if (status.isNewSynchronization()) {
+            TransactionSynchronizationManager.registerSynchronization(new DomainEvents(publisher));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package miniproject.infra;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 관리.
+ * JPA 로 고친 엔티티는 Hibernate 가 커밋 때 캐시를 고치므로, 여기서는 그 밖의 경로(도메인 이벤트 등)로
+ * 바뀐 데이터를 비우는 메서드와 영역별 적중률 게이지(hibernate.cache.hit.ratio)만 둔다.
+ * 요청/적중 횟수 자체는 스프링 부트가 hibernate.second.level.cache.requests 로 내보낸다.
+ */
+@Component
+// fast-start 프로파일(지연 초기화)에서도 기동 때 만들어져야 게이지가 등록된다
+@Lazy(false)
+public class SecondLevelCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SecondLevelCache.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SessionFactory sessionFactory;
+
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            logger.warn("Hibernate 통계가 꺼져 있어 캐시 적중률 메트릭을 등록하지 않습니다 (hibernate.generate_statistics)");
+            return;
+        }
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge
+                .builder("hibernate.cache.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                .tag("region", region)
+                .description("2차 캐시 영역별 적중률 (기동 이후 누적)")
+                .register(meterRegistry);
+        }
+        Gauge
+            .builder("hibernate.query.cache.hit.ratio", statistics, stats -> ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()))
+            .description("쿼리 캐시 적중률 (기동 이후 누적)")
+            .register(meterRegistry);
+    }
+
+    // 엔티티 한 건
+    public void evict(Class<?> entity, Object id) {
+        entityManagerFactory.getCache().evict(entity, id);
+    }
+
+    // 엔티티 영역 전체 (어느 행이 바뀌었는지 이벤트로 알 수 없을 때)
+    public void evictAll(Class<?> entity) {
+        entityManagerFactory.getCache().evict(entity);
+    }
+
+    // 캐시된 쿼리 결과 전체
+    public void evictQueries() {
+        sessionFactory.getCache().evictQueryRegions();
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        return region == null ? Double.NaN : ratio(region.getHitCount(), region.getMissCount());
+    }
+
+    private static double ratio(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? Double.NaN : (double) hits / requests;
+    }
+}
@@ -27,6 +27,12 @@ public class UserController {
             user.setIsSubscribed(false);
         }
         
+        // 이메일은 ux_user_email 로 유일해야 한다
+        String email = User.normalizeEmail(user.getEmail());
+        if (email != null && userRepository.existsByEmail(email)) {
+            return ResponseEntity.status(409).build();
+        }
+        
         User savedUser = userRepository.save(user);
         return ResponseEntity.ok(savedUser);
     }
@@ -46,11 +52,38 @@ public class UserController {
         return ResponseEntity.notFound().build();
     }
 
+    // 이메일로 사용자 조회 (ux_user_email 인덱스)
+    @GetMapping("/email/{email}")
+    public ResponseEntity<User> getUserByEmail(@PathVariable String email) {
+        Optional<User> user = userRepository.findByEmail(User.normalizeEmail(email));
+        if (user.isPresent()) {
+            return ResponseEntity.ok(user.get());
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    // 독자 로그인 (이메일 + 비밀번호)
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+        // ux_user_email 인덱스 한 번으로 찾는다. 응답에는 비밀번호를 싣지 않는다
+        Optional<User> user = userRepository.findByEmail(User.normalizeEmail(request.getEmail()));
+        if (user.isPresent() && request.getPassword() != null
+            && request.getPassword().equals(user.get().getUserPassword())) {
+            return ResponseEntity.ok(new LoginResponse(user.get()));
+        }
+        return ResponseEntity.status(401).build();
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User userDetails) {
         Optional<User> optionalUser = userRepository.findById(id);
         if (optionalUser.isPresent()) {
             User user = optionalUser.get();
+            String previousEmail = user.getEmail();
+            String email = User.normalizeEmail(userDetails.getEmail());
+            if (email != null && !email.equals(previousEmail) && userRepository.existsByEmail(email)) {
+                return ResponseEntity.status(409).build();
+            }
             user.setUserName(userDetails.getUserName());
             user.setEmail(userDetails.getEmail());
             if (userDetails.getUserPassword() != null) {
@@ -71,7 +104,8 @@ public class UserController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
-        if (userRepository.existsById(id)) {
+        Optional<User> optionalUser = userRepository.findById(id);
+        if (optionalUser.isPresent()) {
             userRepository.deleteById(id);
             return ResponseEntity.ok().build();
         }
@@ -131,5 +165,50 @@ public class UserController {
         Iterable<User> pendingUsers = userRepository.findByKtAuthRequestedTrueAndKtAuthApprovedFalse();
         return ResponseEntity.ok(pendingUsers);
     }
+
+    public static class LoginRequest {
+        private String email;
+        private String password;
+
+        public String getEmail() { return email; }
+        public void setEmail(String email) { this.email = email; }
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+
+    // 로그인 응답 (비밀번호 등 자격 증명 필드는 빼고 내려준다)
+    public static class LoginResponse {
+        private final Long userId;
+        private final String email;
+        private final String userName;
+        private final String userType;
+        private final Boolean isSubscribed;
+        private final Boolean isKtCustomer;
+        private final Boolean ktAuthRequested;
+        private final Boolean ktAuthApproved;
+        private final String role;
+
+        LoginResponse(User user) {
+            this.userId = user.getUserId();
+            this.email = user.getEmail();
+            this.userName = user.getUserName();
+            this.userType = user.getUserType();
+            this.isSubscribed = user.getIsSubscribed();
+            this.isKtCustomer = user.getIsKtCustomer();
+            this.ktAuthRequested = user.getKtAuthRequested();
+            this.ktAuthApproved = user.getKtAuthApproved();
+            this.role = user.getRole();
+        }
+
+        public Long getUserId() { return userId; }
+        public String getEmail() { return email; }
+        public String getUserName() { return userName; }
+        public String getUserType() { return userType; }
+        public Boolean getIsSubscribed() { return isSubscribed; }
+        public Boolean getIsKtCustomer() { return isKtCustomer; }
+        public Boolean getKtAuthRequested() { return ktAuthRequested; }
+        public Boolean getKtAuthApproved() { return ktAuthApproved; }
+        public String getRole() { return role; }
+    }
 }
 //>>> Clean Arch / Inbound Adaptor
@@ -0,0 +1,21 @@
+-- 사용자 서비스 스키마 (file-db 프로파일). 엔티티를 바꾸면 이 파일은 두고 V2__*.sql 을 추가한다
+-- 이름은 Hibernate 가 만드는 것과 같다 (SpringPhysicalNamingStrategy: camelCase -> snake_case)
+
+create sequence user_seq start with 1 increment by 50;
+
+create table user_table (
+    user_id bigint not null,
+    email varchar(255),
+    user_password varchar(255),
+    user_name varchar(255),
+    user_type varchar(255),
+    is_subscribed boolean,
+    is_kt_customer boolean,
+    kt_auth_requested boolean,
+    kt_auth_approved boolean,
+    role varchar(255),
+    primary key (user_id)
+);
+
+create unique index ux_user_email on user_table (email);
+create index ix_user_kt_auth on user_table (kt_auth_requested, kt_auth_approved);